@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Startup time and resident memory of the JVM, CDS and native builds, for sizing autoscaling.
+# Build first (any subset):  mvn package | mvn -Pcds package | mvn -Pnative native:compile
+# Needs the database from application.properties to be reachable. Usage: scripts/compare-startup.sh [runs]
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+RUNS=${1:-5}
+JAR=target/employee-0.0.1-SNAPSHOT.jar
+
+# Start the command, wait for Spring Boot's "Started ..." line, print "<seconds> <rss MiB>", stop it
+measure() {
+    local log
+    log=$(mktemp)
+    "$@" --server.port=0 >"$log" 2>&1 &
+    local pid=$!
+    until grep -q "Started EmployeeDataManagementApplication" "$log"; do
+        if ! kill -0 "$pid" 2>/dev/null; then
+            echo "failed, see $log" >&2
+            return 1
+        fi
+        sleep 0.05
+    done
+    local started rss
+    started=$(grep -o "in [0-9.]* seconds" "$log" | head -1 | awk '{print $2}')
+    rss=$(awk '/VmRSS/ {printf "%.0f", $2 / 1024}' "/proc/$pid/status")
+    kill "$pid"
+    wait "$pid" 2>/dev/null || true
+    rm -f "$log"
+    echo "$started $rss"
+}
+
+report() {
+    local name=$1
+    shift
+    local total_s=0 total_rss=0
+    for _ in $(seq "$RUNS"); do
+        read -r s rss < <(measure "$@")
+        total_s=$(echo "$total_s + $s" | bc)
+        total_rss=$((total_rss + rss))
+    done
+    printf "%-8s startup %6.2f s   rss %5d MiB   (mean of %d runs)\n" \
+        "$name" "$(echo "$total_s / $RUNS" | bc -l)" $((total_rss / RUNS)) "$RUNS"
+}
+
+[ -f "$JAR" ] && report jvm java -jar "$JAR"
+[ -f target/extracted/application.jsa ] && (cd target/extracted && report cds \
+    java -XX:SharedArchiveFile=application.jsa -jar employee-0.0.1-SNAPSHOT.jar)
+[ -x target/employee ] && report native target/employee
+exit 0
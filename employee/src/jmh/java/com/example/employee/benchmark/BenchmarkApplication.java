@@ -0,0 +1,66 @@
+package com.example.employee.benchmark;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.employee.EmployeeDataManagementApplication;
+import com.example.employee.search.EmployeeNameIndex;
+
+/**
+ * Boots the application against an embedded H2 database seeded with synthetic employees.
+ */
+final class BenchmarkApplication {
+
+    private static final String[] FIRST = {"Karan", "Priya", "Vikram", "Anjali", "Rohan",
+            "Neha", "Aditya", "Snehal", "Ishita", "Manish", "Alice", "Bob", "Carol", "Dave"};
+    private static final String[] LAST = {"Mehta", "Sharma", "Singh", "Rao", "Kapoor",
+            "Joshi", "Verma", "Patankar", "Nair", "Kulkarni", "Smith", "Brown", "Johnson"};
+    private static final String[] POSITIONS = {"Software Engineer", "QA Engineer",
+            "Product Manager", "Data Analyst", "DevOps Engineer", "Technical Lead"};
+
+    private static final int SEED_BATCH = 10_000;
+
+    private BenchmarkApplication() {
+    }
+
+    static ConfigurableApplicationContext start(int rows) {
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeDataManagementApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench" + rows + ";MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "spring.datasource.driver-class-name=org.h2.Driver",
+                        "spring.datasource.username=sa",
+                        "spring.datasource.password=",
+                        "spring.jpa.hibernate.ddl-auto=create-drop",
+                        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                        "spring.jpa.show-sql=false",
+                        "logging.level.root=WARN")
+                .run();
+        seed(context.getBean(JdbcTemplate.class), rows);
+        // The index was built on startup against an empty table
+        context.getBean(EmployeeNameIndex.class).build();
+        return context;
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        for (int start = 0; start < rows; start += SEED_BATCH) {
+            List<Object[]> batch = new ArrayList<>(SEED_BATCH);
+            for (int i = start; i < Math.min(start + SEED_BATCH, rows); i++) {
+                String name = FIRST[i % FIRST.length] + " " + LAST[(i / FIRST.length) % LAST.length] + " " + i;
+                // The schema comes from the entity, whose ids are assigned, so there is no AUTO_INCREMENT
+                batch.add(new Object[] {i + 1L, name, "user" + i + "@example.com",
+                        POSITIONS[i % POSITIONS.length], now, now, i % 20 == 0});
+            }
+            jdbcTemplate.batchUpdate("INSERT INTO employees (id, name, email, position, created_at, updated_at, is_deleted, version) "
+                    + "VALUES (?, ?, ?, ?, ?, ?, ?, 0)", batch);
+        }
+    }
+}
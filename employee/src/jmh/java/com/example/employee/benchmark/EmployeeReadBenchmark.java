@@ -0,0 +1,85 @@
+package com.example.employee.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.services.EmployeeService;
+
+/**
+ * List and search read paths against H2 at several table sizes.
+ * The entity variants measure the pre-projection path for comparison.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgs = {"-Xms2g", "-Xmx2g"})
+public class EmployeeReadBenchmark {
+
+    @Param({"1000", "100000", "1000000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+    private EmployeeService employeeService;
+    private EmployeeRepository employeeRepository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start(rows);
+        employeeService = context.getBean(EmployeeService.class);
+        employeeRepository = context.getBean(EmployeeRepository.class);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDTO> getAllEmployeesProjected() {
+        return employeeService.getAllEmployees();
+    }
+
+    @Benchmark
+    public void getAllEmployeesEntities(Blackhole blackhole) {
+        for (Employee employee : employeeRepository.findByIsDeletedFalse()) {
+            blackhole.consume(employee);
+        }
+    }
+
+    @Benchmark
+    public void streamAllEmployees(Blackhole blackhole) {
+        employeeService.streamAllEmployees(blackhole::consume);
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDTO> searchEmployeesIndexed() {
+        return employeeService.searchEmployeesByName("sharma", 100);
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDTO> searchEmployeesLike() {
+        return employeeRepository.searchActiveProjected("sharma", PageRequest.ofSize(100));
+    }
+}
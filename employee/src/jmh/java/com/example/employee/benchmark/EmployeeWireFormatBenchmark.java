@@ -0,0 +1,93 @@
+package com.example.employee.benchmark;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.example.employee.codec.EmployeeBinaryCodec;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Encode and decode cost of an employee list as JSON, CBOR and Smile, written the
+ * way the list endpoint streams it. Payload sizes are printed once per trial.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeWireFormatBenchmark {
+
+    private static final TypeReference<List<EmployeeResponseDTO>> LIST = new TypeReference<>() { };
+
+    @Param({"json", "cbor", "smile"})
+    private String format;
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private EmployeeBinaryCodec codec;
+    private ObjectMapper mapper;
+    private MediaType type;
+    private List<EmployeeResponseDTO> employees;
+    private byte[] encoded;
+
+    @Setup
+    public void setUp() throws IOException {
+        codec = new EmployeeBinaryCodec(Jackson2ObjectMapperBuilder.json());
+        type = switch (format) {
+            case "cbor" -> EmployeeBinaryCodec.CBOR;
+            case "smile" -> EmployeeBinaryCodec.SMILE;
+            default -> null;
+        };
+        mapper = type != null ? codec.mapperFor(type) : Jackson2ObjectMapperBuilder.json().build();
+        LocalDateTime now = LocalDateTime.now();
+        employees = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            employees.add(new EmployeeResponseDTO((long) i, "Employee " + i, "user" + i + "@example.com",
+                    "Position " + (i % 20), now, now, 0L));
+        }
+        encoded = encode().toByteArray();
+        System.out.printf("%n%s, %d employees: %d bytes%n", format, size, encoded.length);
+    }
+
+    @Benchmark
+    public int encodeList() throws IOException {
+        return encode().size();
+    }
+
+    @Benchmark
+    public List<EmployeeResponseDTO> decodeList() throws IOException {
+        return mapper.readValue(encoded, LIST);
+    }
+
+    private ByteArrayOutputStream encode() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        if (type != null) {
+            codec.writeArray(type, out, employees::forEach);
+        } else {
+            mapper.writeValue(out, employees);
+        }
+        return out;
+    }
+}
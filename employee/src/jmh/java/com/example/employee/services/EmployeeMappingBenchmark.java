@@ -0,0 +1,54 @@
+package com.example.employee.services;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.entity.Employee;
+
+/**
+ * Entity to DTO mapping cost. Lives in the services package to reach mapToResponse.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EmployeeMappingBenchmark {
+
+    private EmployeeServiceImpl employeeService;
+    private Employee employee;
+
+    @Setup
+    public void setUp() {
+        // mapToResponse touches no collaborators
+        employeeService = new EmployeeServiceImpl(null, null, null, null, null, null, null, null, null);
+        LocalDateTime now = LocalDateTime.now();
+        employee = Employee.builder()
+                .id(1L)
+                .name("Karan Mehta")
+                .email("karan.mehta@example.com")
+                .position("Full Stack Developer")
+                .createdAt(now)
+                .updatedAt(now)
+                .isDeleted(false)
+                .build();
+    }
+
+    @Benchmark
+    public EmployeeResponseDTO mapToResponse() {
+        return employeeService.mapToResponse(employee);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.employee;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+
+import com.example.employee.export.EmployeeExporter;
+import com.example.employee.export.ExportFormat;
+
+/**
+ * Command-line export, without starting the web server:
+ * <pre>
+ * java -cp employee.jar -Dloader.main=com.example.employee.EmployeeExportCli \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher \
+ *     --output=employees.csv.gz --format=csv --gzip
+ * </pre>
+ */
+public class EmployeeExportCli {
+
+	public static void main(String[] args) throws IOException {
+		SimpleCommandLinePropertySource options = new SimpleCommandLinePropertySource(args);
+		String output = options.getProperty("output");
+		if (output == null) {
+			System.err.println("Usage: --output=<file> [--format=csv|columnar] [--gzip]");
+			System.exit(2);
+		}
+		ExportFormat format = ExportFormat.from(
+				options.containsProperty("format") ? options.getProperty("format") : "csv");
+		boolean gzip = options.containsProperty("gzip");
+
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeDataManagementApplication.class)
+				.web(WebApplicationType.NONE)
+				.run(args);
+				FileChannel channel = FileChannel.open(Path.of(output), StandardOpenOption.CREATE,
+						StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+			long rows = context.getBean(EmployeeExporter.class).export(format, gzip, channel);
+			System.out.println("Exported " + rows + " employees to " + output);
+		}
+	}
+
+}
@@ -0,0 +1,59 @@
+package com.example.employee;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.GZIPInputStream;
+
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.SimpleCommandLinePropertySource;
+
+import com.example.employee.dto.EmployeeImportErrorDTO;
+import com.example.employee.dto.EmployeeImportResultDTO;
+import com.example.employee.importer.EmployeeImporter;
+
+/**
+ * Command-line CSV import, without starting the web server; {@code .gz} files are
+ * decompressed on the fly:
+ * <pre>
+ * java -cp employee.jar -Dloader.main=com.example.employee.EmployeeImportCli \
+ *     org.springframework.boot.loader.launch.PropertiesLauncher --input=employees.csv.gz
+ * </pre>
+ */
+public class EmployeeImportCli {
+
+	public static void main(String[] args) throws IOException {
+		SimpleCommandLinePropertySource options = new SimpleCommandLinePropertySource(args);
+		String input = options.getProperty("input");
+		if (input == null) {
+			System.err.println("Usage: --input=<file.csv[.gz]>");
+			System.exit(2);
+		}
+
+		EmployeeImportResultDTO result;
+		try (ConfigurableApplicationContext context = new SpringApplicationBuilder(EmployeeDataManagementApplication.class)
+				.web(WebApplicationType.NONE)
+				.run(args);
+				InputStream file = open(Path.of(input))) {
+			result = context.getBean(EmployeeImporter.class).importCsv(file);
+		}
+
+		System.out.printf("Imported %d of %d rows in %d ms, %d failed%n",
+				result.getImported(), result.getRows(), result.getDurationMs(), result.getFailed());
+		for (EmployeeImportErrorDTO error : result.getErrors()) {
+			System.out.printf("  line %d (%s): %s%n", error.getLine(), error.getEmail(), error.getError());
+		}
+		if (result.isErrorsTruncated()) {
+			System.out.println("  ... more errors omitted");
+		}
+	}
+
+	private static InputStream open(Path path) throws IOException {
+		InputStream in = Files.newInputStream(path);
+		return path.toString().endsWith(".gz") ? new GZIPInputStream(in, 64 * 1024) : in;
+	}
+
+}
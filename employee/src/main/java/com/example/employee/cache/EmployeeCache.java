@@ -0,0 +1,163 @@
+package com.example.employee.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.services.EmployeeChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded read-through cache of active employees keyed by id.
+ * Caffeine's W-TinyLFU policy handles eviction; entries also expire after a TTL,
+ * as a last resort against staleness.
+ * Only non-deleted employees are ever stored. Loads run outside the cache's locks, so a
+ * committed write can land while one is in flight; the loaded row is then dropped rather
+ * than cached over the write:
+ * <ul>
+ *   <li>every committed write bumps a generation for the id's stripe, and a load is only
+ *       cached if its stripe's generation did not move while it ran;</li>
+ *   <li>ids written within {@code employee.cache.write-guard} are not cached from a load at
+ *       all, since the load may have read a replica that has not applied the write yet.</li>
+ * </ul>
+ */
+@Slf4j
+@Component
+public class EmployeeCache {
+
+    // Power of two; stripes shared by several ids only cost an occasional uncached load
+    private static final int STRIPES = 4096;
+
+    private final Cache<Long, EmployeeResponseDTO> cache;
+    private final AtomicLongArray generations = new AtomicLongArray(STRIPES);
+    private final Cache<Long, Boolean> recentlyWritten;
+
+    public EmployeeCache(@Value("${employee.cache.max-size:10000}") long maxSize,
+                         @Value("${employee.cache.ttl:10m}") Duration ttl,
+                         @Value("${employee.cache.write-guard:2s}") Duration writeGuard) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.recentlyWritten = Caffeine.newBuilder()
+                .expireAfterWrite(writeGuard)
+                .build();
+    }
+
+    /**
+     * Return the cached employee, loading it on a miss.
+     * The loader must return null for missing or deleted employees; nothing is cached then.
+     * The loader runs outside the cache's internal locks so a database call never
+     * pins a virtual thread; its result is only cached if no write to the id committed
+     * meanwhile (see the class comment).
+     */
+    public Optional<EmployeeResponseDTO> get(Long id, Function<Long, EmployeeResponseDTO> loader) {
+        EmployeeResponseDTO cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+        long generation = generations.get(stripe(id));
+        EmployeeResponseDTO loaded = loader.apply(id);
+        if (loaded != null) {
+            putLoaded(id, loaded, generation);
+        }
+        return Optional.ofNullable(loaded);
+    }
+
+    /**
+     * Return the cached employee without loading it, or null.
+     */
+    public EmployeeResponseDTO getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    /**
+     * Return the cached employees for these ids, bulk-loading the misses in one call.
+     * Ids the loader does not return are absent from the result.
+     */
+    public Map<Long, EmployeeResponseDTO> getAll(Collection<Long> ids,
+            Function<Set<? extends Long>, Map<Long, EmployeeResponseDTO>> loader) {
+        Map<Long, EmployeeResponseDTO> present = cache.getAllPresent(ids);
+        Map<Long, Long> misses = new LinkedHashMap<>();
+        for (Long id : ids) {
+            if (!present.containsKey(id)) {
+                misses.put(id, generations.get(stripe(id)));
+            }
+        }
+        Map<Long, EmployeeResponseDTO> loaded = misses.isEmpty()
+                ? Map.of() : loader.apply(new LinkedHashSet<>(misses.keySet()));
+        loaded.forEach((id, employee) -> putLoaded(id, employee, misses.get(id)));
+
+        Map<Long, EmployeeResponseDTO> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            EmployeeResponseDTO employee = present.containsKey(id) ? present.get(id) : loaded.get(id);
+            if (employee != null) {
+                result.put(id, employee);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Apply a committed write: refresh the entry on save, drop it on delete.
+     * The generation is bumped first, so a load that started before the write cannot
+     * put its older copy back afterwards.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        generations.incrementAndGet(stripe(event.id()));
+        recentlyWritten.put(event.id(), Boolean.TRUE);
+        if (event.isDeleted()) {
+            cache.invalidate(event.id());
+        } else {
+            cache.put(event.id(), event.employee());
+        }
+        log.debug("Employee cache updated for ID: {}", event.id());
+    }
+
+    // Cache a loaded row unless a write to its id committed since the load began, or recently
+    private void putLoaded(Long id, EmployeeResponseDTO loaded, long generation) {
+        cache.asMap().compute(id, (key, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            boolean written = generations.get(stripe(key)) != generation
+                    || recentlyWritten.getIfPresent(key) != null;
+            return written ? null : loaded;
+        });
+    }
+
+    // Snowflake ids share their low bits, so stripe by the high bits of a multiplicative hash
+    private static int stripe(Long id) {
+        return (int) ((id * 0x9E3779B97F4A7C15L) >>> 52);
+    }
+
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public Cache<Long, EmployeeResponseDTO> nativeCache() {
+        return cache;
+    }
+}
@@ -0,0 +1,152 @@
+package com.example.employee.cache;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.employee.dto.EmployeeChangeDTO;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import com.example.employee.services.EmployeeChangeFollower;
+import com.example.employee.services.EmployeeChangesSequencedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pre-check for email uniqueness so most creates skip the lookup query.
+ * <ul>
+ *   <li>A Bloom filter of every email in the table (soft-deleted rows still hold the
+ *       unique constraint), seeded at startup and fed from the change log, which
+ *       includes other instances' writes. A miss means the email is definitely new.</li>
+ *   <li>A bounded, expiring exact cache of emails recently seen taken, so repeated
+ *       duplicates are rejected without the database.</li>
+ * </ul>
+ * Neither is authoritative: {@code uq_employees_email} decides, and the service
+ * translates its violation into a duplicate-email error.
+ */
+@Slf4j
+@Component
+public class EmployeeEmailRegistry {
+
+    public enum Check {
+        // Recently seen taken; reject without a query
+        TAKEN,
+        // Not in the Bloom filter; insert without a query
+        NEW,
+        // Possibly taken (or not seeded yet); look it up first
+        UNKNOWN
+    }
+
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final EmployeeChangeFollower follower;
+    private final BloomFilter bloomFilter;
+    private final long expectedEmails;
+    private final Cache<String, Long> recent;
+    // Reverse view of recent, so a changed email can drop the old one
+    private final Map<Long, String> recentById = new ConcurrentHashMap<>();
+
+    public EmployeeEmailRegistry(EmployeeJdbcRepository employeeJdbcRepository,
+                                 EmployeeChangeLogRepository changeLogRepository,
+                                 @Value("${employee.email-registry.expected-emails:1000000}") long expectedEmails,
+                                 @Value("${employee.email-registry.false-positive-rate:0.01}") double falsePositiveRate,
+                                 @Value("${employee.email-registry.recent-size:10000}") long recentSize,
+                                 @Value("${employee.email-registry.recent-ttl:5m}") Duration recentTtl) {
+        this.employeeJdbcRepository = employeeJdbcRepository;
+        this.follower = new EmployeeChangeFollower("email registry", changeLogRepository, this::apply);
+        this.bloomFilter = new BloomFilter(expectedEmails, falsePositiveRate);
+        this.expectedEmails = expectedEmails;
+        this.recent = Caffeine.newBuilder()
+                .maximumSize(recentSize)
+                .expireAfterWrite(recentTtl)
+                .<String, Long>removalListener((email, id, cause) -> {
+                    // A replaced entry keeps its reverse mapping; dropping it would lose the new one
+                    if (email != null && id != null && cause != RemovalCause.REPLACED) {
+                        recentById.remove(id, email);
+                    }
+                })
+                .build();
+    }
+
+    /**
+     * Seed the Bloom filter with every email in the table; run by StartupBuildConfig.
+     * A reseed after the follower fell behind the retained change log only adds, which
+     * is all the filter can do anyway.
+     */
+    public void seed() {
+        follower.build(() -> employeeJdbcRepository.streamEmails(email -> bloomFilter.add(normalize(email))));
+        log.info("Email registry seeded with {} emails ({} KiB)", bloomFilter.approximateCount(),
+                bloomFilter.bitSize() / 8 / 1024);
+        if (bloomFilter.approximateCount() > expectedEmails) {
+            log.warn("Email registry holds more than employee.email-registry.expected-emails ({}); "
+                    + "raise it to keep the false-positive rate down", expectedEmails);
+        }
+    }
+
+    public Check check(String email) {
+        String key = normalize(email);
+        if (recent.getIfPresent(key) != null) {
+            return Check.TAKEN;
+        }
+        if (follower.isReady() && !bloomFilter.mightContain(key)) {
+            return Check.NEW;
+        }
+        return Check.UNKNOWN;
+    }
+
+    /**
+     * Remember an email confirmed taken by this employee.
+     */
+    public void recordTaken(String email, Long id) {
+        String key = normalize(email);
+        bloomFilter.add(key);
+        String previous = recentById.put(id, key);
+        if (previous != null && !previous.equals(key)) {
+            recent.invalidate(previous);
+        }
+        recent.put(key, id);
+    }
+
+    /**
+     * Forget an email whose employee left the table (archived). It stays in the
+     * Bloom filter, which only costs a lookup if it is reused.
+     */
+    public void recordReleased(String email, Long id) {
+        recent.asMap().remove(normalize(email), id);
+    }
+
+    public boolean isReady() {
+        return follower.isReady();
+    }
+
+    @EventListener
+    public void onChangesSequenced(EmployeeChangesSequencedEvent event) {
+        follower.catchUp();
+    }
+
+    @Scheduled(fixedDelayString = "${employee.changes.follow-interval-ms:1000}")
+    public void follow() {
+        follower.catchUp();
+    }
+
+    /**
+     * Track committed emails; soft-deleted rows still hold theirs. A changed email stays
+     * in the Bloom filter (it cannot forget), which only costs an occasional lookup; the
+     * exact cache drops it.
+     */
+    private void apply(EmployeeChangeDTO change) {
+        recordTaken(change.getEmail(), change.getId());
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
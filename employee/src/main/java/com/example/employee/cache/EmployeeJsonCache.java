@@ -0,0 +1,156 @@
+package com.example.employee.cache;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ETag;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.util.DigestUtils;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.exception.PreconditionFailedException;
+import com.example.employee.services.EmployeeChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Bounded cache of serialized employee JSON, keyed by id and checked against {@code version}.
+ * A fragment is only reused when the caller's employee has the same version,
+ * so list responses can be assembled from cached bytes without Jackson.
+ */
+@Component
+public class EmployeeJsonCache {
+
+    private final Cache<Long, Fragment> cache;
+    private final ObjectMapper objectMapper;
+
+    public EmployeeJsonCache(ObjectMapper objectMapper,
+                             @Value("${employee.json-cache.max-size:50000}") long maxSize) {
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Serialized JSON for this employee, reused from the cache when the version matches.
+     */
+    public byte[] toJson(EmployeeResponseDTO employee) {
+        Fragment fragment = cache.getIfPresent(employee.getId());
+        if (fragment != null && fragment.version().equals(employee.getVersion())) {
+            return fragment.json();
+        }
+        byte[] json = serialize(employee);
+        if (employee.getVersion() != null) {
+            cache.put(employee.getId(), new Fragment(employee.getVersion(), json));
+        }
+        return json;
+    }
+
+    /**
+     * Serialized JSON for an employee written once in a long stream: a current cached
+     * fragment is reused, but nothing is cached, so a full export does not evict the
+     * fragments single reads and pages keep reusing.
+     */
+    public byte[] toJsonUncached(EmployeeResponseDTO employee) {
+        Fragment fragment = cache.policy().getIfPresentQuietly(employee.getId());
+        if (fragment != null && fragment.version().equals(employee.getVersion())) {
+            return fragment.json();
+        }
+        return serialize(employee);
+    }
+
+    /**
+     * Strong ETag for the JSON of one employee, derived from its id and {@code version}.
+     */
+    public static String etag(EmployeeResponseDTO employee) {
+        return etag(employee.getId(), employee.getVersion(), null);
+    }
+
+    /**
+     * Strong ETag for one employee at a version, in a binary format or as JSON when
+     * {@code binary} is null. A strong tag promises identical bytes, so each format gets
+     * its own; Tomcat does not compress responses carrying a strong ETag.
+     */
+    public static String etag(Long id, Long version, MediaType binary) {
+        String tag = id + "-" + version;
+        return "\"" + (binary == null ? tag : tag + "+" + binary.getSubtype()) + "\"";
+    }
+
+    /**
+     * Whether an If-None-Match header matches the ETag, by the weak comparison it calls for.
+     */
+    public static boolean matchesIfNoneMatch(String ifNoneMatch, String etag) {
+        ETag current = ETag.create(etag);
+        return ETag.parse(ifNoneMatch).stream()
+                .anyMatch(tag -> tag.isWildcard() || tag.compare(current, false));
+    }
+
+    /**
+     * Version named by an If-Match header for this employee, or null when the header
+     * is absent or {@code *}. The tag of any representation names the version; a tag for
+     * another employee, or not of this form, can never match, so it fails the precondition.
+     */
+    public static Long versionFromIfMatch(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (tag.startsWith(prefix) && tag.endsWith("\"") && tag.length() > prefix.length() + 1) {
+            String version = tag.substring(prefix.length(), tag.length() - 1);
+            int representation = version.indexOf('+');
+            try {
+                return Long.parseLong(representation < 0 ? version : version.substring(0, representation));
+            } catch (NumberFormatException e) {
+                // fall through
+            }
+        }
+        throw new PreconditionFailedException("If-Match " + tag + " does not match employee " + id);
+    }
+
+    /**
+     * Weak ETag for a list of employees plus any trailing state such as a cursor.
+     * Weak, because a page is served as JSON, CBOR or Smile and may be compressed, and
+     * its tag is only ever compared against If-None-Match.
+     */
+    public static String etag(Collection<EmployeeResponseDTO> employees, String suffix) {
+        StringBuilder versions = new StringBuilder();
+        for (EmployeeResponseDTO employee : employees) {
+            versions.append(employee.getId()).append(':').append(employee.getVersion()).append(',');
+        }
+        versions.append(suffix);
+        return "W/\"" + DigestUtils.md5DigestAsHex(versions.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * Drop the fragment of a changed employee as soon as the change commits.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        cache.invalidate(event.id());
+    }
+
+    public Cache<Long, Fragment> nativeCache() {
+        return cache;
+    }
+
+    private byte[] serialize(EmployeeResponseDTO employee) {
+        try {
+            return objectMapper.writeValueAsBytes(employee);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record Fragment(Long version, byte[] json) {
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.employee.cache;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.services.EmployeeChangedEvent;
+
+/**
+ * Single-flight for the employee reads that miss the caches: concurrent loads of
+ * the same id, or searches for the same normalized term and limit, share one query.
+ * A committed write drops the affected in-flight calls so nobody joins a read that
+ * started before it.
+ */
+@Component
+public class EmployeeReadCoalescer {
+
+    private record SearchKey(String term, int limit) {
+    }
+
+    private final SingleFlight<Long, EmployeeResponseDTO> byId;
+    private final SingleFlight<SearchKey, List<EmployeeResponseDTO>> search;
+
+    public EmployeeReadCoalescer(@Value("${employee.single-flight.max-keys:10000}") int maxKeys) {
+        this.byId = new SingleFlight<>(maxKeys);
+        this.search = new SingleFlight<>(maxKeys);
+    }
+
+    /**
+     * Load one employee, sharing the query with concurrent loads of the same id.
+     */
+    public EmployeeResponseDTO loadById(Long id, Supplier<EmployeeResponseDTO> loader) {
+        return byId.execute(id, loader);
+    }
+
+    /**
+     * Run a name search, sharing it with concurrent searches for the same term and limit.
+     * The result list is shared between callers and therefore unmodifiable.
+     */
+    public List<EmployeeResponseDTO> search(String name, int limit, Supplier<List<EmployeeResponseDTO>> query) {
+        // Both search paths match case-insensitively, so case variants are the same search
+        String term = name == null ? "" : name.toLowerCase(Locale.ROOT);
+        return search.execute(new SearchKey(term, limit), () -> List.copyOf(query.get()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        byId.forget(event.id());
+        // Any search may match the changed name
+        search.forgetAll();
+    }
+
+    public SingleFlight<?, ?> byIdFlight() {
+        return byId;
+    }
+
+    public SingleFlight<?, ?> searchFlight() {
+        return search;
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.employee.cache;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical calls: the first caller for a key runs the call,
+ * callers arriving while it is in flight wait on its future and share the result
+ * (or the exception). Nothing is kept once the call completes, so this never
+ * serves a result older than the call it joined.
+ * <p>
+ * The key map is bounded; past {@code maxKeys} distinct in-flight keys calls run
+ * uncoalesced rather than growing it further.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final int maxKeys;
+    private final LongAdder leaders = new LongAdder();
+    private final LongAdder shared = new LongAdder();
+    private final LongAdder bypassed = new LongAdder();
+
+    public SingleFlight(int maxKeys) {
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * Run the call for this key, or join the one already in flight.
+     */
+    public V execute(K key, Supplier<V> call) {
+        if (inFlight.size() >= maxKeys) {
+            bypassed.increment();
+            return call.get();
+        }
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            shared.increment();
+            return await(existing);
+        }
+        leaders.increment();
+        try {
+            V result = call.get();
+            mine.complete(result);
+            return result;
+        } catch (RuntimeException | Error e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Stop sharing the in-flight call for this key: later callers start a new one.
+     * Used when a write makes a call that is already running possibly stale.
+     */
+    public void forget(K key) {
+        inFlight.remove(key);
+    }
+
+    public void forgetAll() {
+        inFlight.clear();
+    }
+
+    public long leaders() {
+        return leaders.sum();
+    }
+
+    /**
+     * Callers served by another caller's call: the queries saved.
+     */
+    public long shared() {
+        return shared.sum();
+    }
+
+    public long bypassed() {
+        return bypassed.sum();
+    }
+
+    private static <V> V await(CompletableFuture<V> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
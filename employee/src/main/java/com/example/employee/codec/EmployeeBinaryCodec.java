@@ -0,0 +1,126 @@
+package com.example.employee.codec;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.stereotype.Component;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.cbor.CBORGenerator;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+
+/**
+ * Binary representations of the employee DTOs for service-to-service callers,
+ * chosen by {@code Accept}: CBOR (RFC 8949, schema in {@code /schema/employee.cddl})
+ * or Smile. Both keep the JSON property names; timestamps are
+ * {@code [year, month, day, hour, minute, second?, nano?]} arrays instead of ISO strings,
+ * and repeated names and short values (positions, dates) are sent once per response
+ * and referenced after that (CBOR stringref, Smile shared names and values).
+ * JSON stays the default: a binary format is only used when it is asked for by name.
+ */
+@Component
+public class EmployeeBinaryCodec {
+
+    public static final MediaType CBOR = MediaType.APPLICATION_CBOR;
+    public static final MediaType SMILE = new MediaType("application", "x-jackson-smile");
+
+    private final ObjectMapper cborMapper;
+    private final ObjectMapper smileMapper;
+
+    /**
+     * Builds both mappers from Boot's builder, so modules and spring.jackson.* settings
+     * match the JSON mapper apart from the factory and the date format.
+     */
+    public EmployeeBinaryCodec(Jackson2ObjectMapperBuilder builder) {
+        builder.featuresToEnable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+               .featuresToDisable(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.cborMapper = builder.factory(CBORFactory.builder()
+                                                     .enable(CBORGenerator.Feature.STRINGREF)
+                                                     .build())
+                                 .build();
+        this.smileMapper = builder.factory(SmileFactory.builder()
+                                                       .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                                                       .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                                                       .build())
+                                  .build();
+    }
+
+    /**
+     * The binary type the Accept header asks for, or null for JSON. The first listed
+     * type that is JSON, CBOR or Smile wins; wildcards mean JSON.
+     */
+    public MediaType negotiate(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return null;
+        }
+        List<MediaType> types;
+        try {
+            types = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return null;
+        }
+        for (MediaType type : types) {
+            if (type.isWildcardType() || type.isWildcardSubtype() || type.isCompatibleWith(MediaType.APPLICATION_JSON)) {
+                return null;
+            }
+            if (CBOR.includes(type)) {
+                return CBOR;
+            }
+            if (SMILE.includes(type)) {
+                return SMILE;
+            }
+        }
+        return null;
+    }
+
+    public ObjectMapper mapperFor(MediaType type) {
+        if (CBOR.includes(type)) {
+            return cborMapper;
+        }
+        if (SMILE.includes(type)) {
+            return smileMapper;
+        }
+        throw new IllegalArgumentException("Not a binary employee format: " + type);
+    }
+
+    public byte[] write(MediaType type, Object value) {
+        try {
+            return mapperFor(type).writeValueAsBytes(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Write the employees the source produces as one array, each as soon as it arrives.
+     * A single generator spans the array, so shared names and values carry across rows.
+     */
+    public void writeArray(MediaType type, OutputStream out, Consumer<Consumer<EmployeeResponseDTO>> source)
+            throws IOException {
+        ObjectMapper mapper = mapperFor(type);
+        try (JsonGenerator generator = mapper.getFactory().createGenerator(out)) {
+            // The caller owns the stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            source.accept(employee -> {
+                try {
+                    mapper.writeValue(generator, employee);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            generator.writeEndArray();
+        }
+    }
+}
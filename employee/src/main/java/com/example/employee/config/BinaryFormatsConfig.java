@@ -0,0 +1,28 @@
+package com.example.employee.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+
+import com.example.employee.codec.EmployeeBinaryCodec;
+
+/**
+ * Registers the CBOR and Smile converters with the same settings the employee
+ * endpoints use when they write binary responses themselves, so request bodies and
+ * DTO responses in a binary format match. They replace Spring's default binary
+ * converters in place, after JSON, so JSON remains the default.
+ */
+@Configuration
+public class BinaryFormatsConfig {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(EmployeeBinaryCodec binaryCodec) {
+        return new MappingJackson2CborHttpMessageConverter(binaryCodec.mapperFor(EmployeeBinaryCodec.CBOR));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(EmployeeBinaryCodec binaryCodec) {
+        return new MappingJackson2SmileHttpMessageConverter(binaryCodec.mapperFor(EmployeeBinaryCodec.SMILE));
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.employee.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.employee.id.SnowflakeIdGenerator;
+import com.example.employee.id.SnowflakeIdentifierGenerator;
+
+/**
+ * The employee id generator for this node, shared by JPA inserts ({@code @SnowflakeId})
+ * and the JDBC batch and import paths that write ids themselves.
+ */
+@Configuration
+public class IdGeneratorConfig {
+
+    @Value("${employee.id.node-id:0}")
+    private int nodeId;
+
+    @Bean
+    public SnowflakeIdGenerator employeeIdGenerator() {
+        return SnowflakeIdGenerator.forNode(nodeId);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer employeeIdNodeCustomizer() {
+        return properties -> properties.put(SnowflakeIdentifierGenerator.NODE_ID_SETTING, nodeId);
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.employee.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.example.employee.metrics.EmployeeMetrics;
+import com.example.employee.ratelimit.ClientRateLimiter;
+import com.example.employee.ratelimit.GradientConcurrencyLimiter;
+import com.example.employee.ratelimit.LoadSheddingFilter;
+import com.example.employee.ratelimit.RateLimitProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Puts the rate and concurrency limits in front of {@code /api/employees}.
+ * Enabled with {@code employee.rate-limit.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.rate-limit", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RateLimitProperties.class)
+public class LoadSheddingConfig {
+
+    @Bean
+    public ClientRateLimiter clientRateLimiter(RateLimitProperties properties) {
+        return new ClientRateLimiter(properties);
+    }
+
+    @Bean
+    public GradientConcurrencyLimiter gradientConcurrencyLimiter(RateLimitProperties properties) {
+        return new GradientConcurrencyLimiter(properties.concurrency());
+    }
+
+    @Bean
+    public FilterRegistrationBean<LoadSheddingFilter> loadSheddingFilter(RateLimitProperties properties,
+                                                                         ClientRateLimiter clientRateLimiter,
+                                                                         GradientConcurrencyLimiter concurrencyLimiter,
+                                                                         EmployeeMetrics employeeMetrics,
+                                                                         ObjectMapper objectMapper) {
+        LoadSheddingFilter filter = new LoadSheddingFilter(clientRateLimiter,
+                properties.concurrency().enabled() ? concurrencyLimiter : null, employeeMetrics, objectMapper,
+                properties.trustedProxies());
+        FilterRegistrationBean<LoadSheddingFilter> registration = new FilterRegistrationBean<>(filter);
+        registration.addUrlPatterns("/api/employees", "/api/employees/*");
+        // Shed load before anything else spends time on the request
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+
+    @Bean
+    public MeterBinder concurrencyLimitMetrics(GradientConcurrencyLimiter concurrencyLimiter) {
+        return registry -> {
+            Gauge.builder("employee.requests.concurrency.limit", concurrencyLimiter, GradientConcurrencyLimiter::limit)
+                    .description("Current adaptive limit on requests in flight")
+                    .register(registry);
+            Gauge.builder("employee.requests.inflight", concurrencyLimiter, GradientConcurrencyLimiter::inflight)
+                    .description("Requests in flight under the concurrency limit")
+                    .register(registry);
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.employee.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.employee.cache.EmployeeCache;
+import com.example.employee.cache.EmployeeJsonCache;
+import com.example.employee.cache.EmployeeReadCoalescer;
+import com.example.employee.cache.SingleFlight;
+import com.example.employee.search.EmployeeNameIndex;
+import com.example.employee.services.EmployeeArchiveService;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Wires the employee caches, read coalescing, name index, archive job and {@code @Timed} components into Micrometer.
+ * HTTP, Spring Data repository and Hikari pool meters come from Spring Boot itself.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public MeterBinder employeeCacheMetrics(EmployeeCache employeeCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, employeeCache.nativeCache(), "employees");
+    }
+
+    @Bean
+    public MeterBinder employeeJsonCacheMetrics(EmployeeJsonCache employeeJsonCache) {
+        return registry -> CaffeineCacheMetrics.monitor(registry, employeeJsonCache.nativeCache(), "employee-json");
+    }
+
+    @Bean
+    public MeterBinder employeeNameIndexMetrics(EmployeeNameIndex employeeNameIndex) {
+        return registry -> Gauge.builder("employee.search.index.size", employeeNameIndex, EmployeeNameIndex::size)
+                .description("Employees held in the in-memory name index")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder employeeReadCoalescerMetrics(EmployeeReadCoalescer readCoalescer) {
+        return registry -> {
+            bindSingleFlight(registry, "by-id", readCoalescer.byIdFlight());
+            bindSingleFlight(registry, "search", readCoalescer.searchFlight());
+        };
+    }
+
+    @Bean
+    public MeterBinder employeeArchiveMetrics(EmployeeArchiveService archiveService) {
+        return registry -> {
+            Gauge.builder("employee.archive.running", archiveService, service -> service.isRunning() ? 1 : 0)
+                    .description("Whether an archive run is in progress")
+                    .register(registry);
+            // Progress of the current run; the last run's total while idle
+            Gauge.builder("employee.archive.run.rows", archiveService, EmployeeArchiveService::runArchived)
+                    .description("Employees archived by the current or last archive run")
+                    .baseUnit("rows")
+                    .register(registry);
+        };
+    }
+
+    private static void bindSingleFlight(MeterRegistry registry, String flight, SingleFlight<?, ?> singleFlight) {
+        // shared = queries saved; bypassed = calls run alone because the key map was full
+        FunctionCounter.builder("employee.single.flight", singleFlight, SingleFlight::leaders)
+                .description("Coalesced employee reads by outcome")
+                .tag("flight", flight).tag("outcome", "executed").register(registry);
+        FunctionCounter.builder("employee.single.flight", singleFlight, SingleFlight::shared)
+                .description("Coalesced employee reads by outcome")
+                .tag("flight", flight).tag("outcome", "shared").register(registry);
+        FunctionCounter.builder("employee.single.flight", singleFlight, SingleFlight::bypassed)
+                .description("Coalesced employee reads by outcome")
+                .tag("flight", flight).tag("outcome", "bypassed").register(registry);
+    }
+}
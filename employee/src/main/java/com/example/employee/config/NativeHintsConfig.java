@@ -0,0 +1,74 @@
+package com.example.employee.config;
+
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.ImportRuntimeHints;
+
+import com.example.employee.dto.EmployeeArchiveResultDTO;
+import com.example.employee.dto.EmployeeBulkItemResultDTO;
+import com.example.employee.dto.EmployeeBulkResultDTO;
+import com.example.employee.dto.EmployeeBulkUpdateDTO;
+import com.example.employee.dto.EmployeeChangeDTO;
+import com.example.employee.dto.EmployeeChangePageDTO;
+import com.example.employee.dto.EmployeeFilterDTO;
+import com.example.employee.dto.EmployeeImportErrorDTO;
+import com.example.employee.dto.EmployeeImportResultDTO;
+import com.example.employee.dto.EmployeePageResponseDTO;
+import com.example.employee.dto.EmployeePatchDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.dto.EmployeeStatsDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.id.SnowflakeIdentifierGenerator;
+
+/**
+ * Reflection hints for a native image (mvn -Pnative native:compile). Spring AOT
+ * infers hints for controller signatures, the JPA entity and the repository
+ * proxies; it cannot see DTOs that Jackson writes by hand (streamed lists, SSE,
+ * cached JSON fragments) or that Hibernate builds from JPQL constructor
+ * expressions, so those are registered here. Ignored on the JVM.
+ */
+@Configuration
+@ImportRuntimeHints(NativeHintsConfig.EmployeeRuntimeHints.class)
+public class NativeHintsConfig {
+
+    static class EmployeeRuntimeHints implements RuntimeHintsRegistrar {
+
+        private static final Class<?>[] DTOS = {
+                EmployeeArchiveResultDTO.class,
+                EmployeeBulkItemResultDTO.class,
+                EmployeeBulkResultDTO.class,
+                EmployeeBulkUpdateDTO.class,
+                EmployeeChangeDTO.class,
+                EmployeeChangePageDTO.class,
+                EmployeeFilterDTO.class,
+                EmployeeImportErrorDTO.class,
+                EmployeeImportResultDTO.class,
+                EmployeePageResponseDTO.class,
+                EmployeePatchDTO.class,
+                EmployeeRequestDTO.class,
+                EmployeeResponseDTO.class,
+                EmployeeStatsDTO.class
+        };
+
+        @Override
+        public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+            for (Class<?> dto : DTOS) {
+                hints.reflection().registerType(dto,
+                        MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                        MemberCategory.INVOKE_PUBLIC_METHODS,
+                        MemberCategory.DECLARED_FIELDS);
+            }
+            // Hibernate sets the entity's fields reflectively; the build does no bytecode enhancement
+            hints.reflection().registerType(Employee.class,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                    MemberCategory.INVOKE_PUBLIC_METHODS,
+                    MemberCategory.DECLARED_FIELDS);
+            // Instantiated by Hibernate through its (annotation, member, context) constructor
+            hints.reflection().registerType(SnowflakeIdentifierGenerator.class,
+                    MemberCategory.INVOKE_DECLARED_CONSTRUCTORS);
+        }
+    }
+}
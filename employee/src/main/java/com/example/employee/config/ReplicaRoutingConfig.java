@@ -0,0 +1,110 @@
+package com.example.employee.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.example.employee.datasource.ReadYourWrites;
+import com.example.employee.datasource.ReadYourWritesFilter;
+import com.example.employee.datasource.Replica;
+import com.example.employee.datasource.ReplicaPoolDataSource;
+import com.example.employee.datasource.ReplicaProperties;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+/**
+ * Sends read-only transactions to read replicas. Writes, and reads outside a
+ * read-only transaction, keep using the primary from {@code spring.datasource.*}.
+ * Enabled with {@code employee.datasource.routing.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaProperties.class)
+public class ReplicaRoutingConfig {
+
+    private ReplicaPoolDataSource replicaPool;
+    private int healthCheckTimeoutSeconds;
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReadYourWrites readYourWrites(ReplicaProperties properties) {
+        return new ReadYourWrites(properties.readYourWritesWindow());
+    }
+
+    @Bean
+    public ReplicaPoolDataSource replicaPoolDataSource(HikariDataSource primaryDataSource,
+                                                       ReplicaProperties properties,
+                                                       ReadYourWrites readYourWrites) {
+        List<Replica> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.replicas().size(); i++) {
+            ReplicaProperties.Replica replica = properties.replicas().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.url())
+                    .username(replica.username())
+                    .password(replica.password())
+                    .build();
+            dataSource.setPoolName("replica-" + i);
+            dataSource.setMaximumPoolSize(properties.replicaPoolSize());
+            dataSource.setConnectionTimeout(primaryDataSource.getConnectionTimeout());
+            dataSource.setReadOnly(true);
+            replicas.add(new Replica("replica-" + i, dataSource));
+        }
+        replicaPool = new ReplicaPoolDataSource(primaryDataSource, replicas,
+                properties.replicaSelection(), readYourWrites);
+        healthCheckTimeoutSeconds = (int) Math.max(1, properties.healthCheckTimeout().toSeconds());
+        return replicaPool;
+    }
+
+    /**
+     * The application DataSource: the primary, with read-only transactions routed to the replica pool.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(HikariDataSource primaryDataSource, ReplicaPoolDataSource replicaPoolDataSource) {
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+        proxy.setReadOnlyDataSource(replicaPoolDataSource);
+        return proxy;
+    }
+
+    @Bean
+    public FilterRegistrationBean<ReadYourWritesFilter> readYourWritesFilter() {
+        return new FilterRegistrationBean<>(new ReadYourWritesFilter());
+    }
+
+    @Bean
+    public MeterBinder replicaHealthMetrics(ReplicaPoolDataSource replicaPoolDataSource) {
+        return registry -> replicaPoolDataSource.replicas().forEach(replica ->
+                Gauge.builder("employee.datasource.replica.healthy", replica, r -> r.isHealthy() ? 1 : 0)
+                        .description("1 while the replica passes health checks")
+                        .tag("replica", replica.name())
+                        .register(registry));
+    }
+
+    @Scheduled(fixedDelayString = "${employee.datasource.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        if (replicaPool != null) {
+            replicaPool.checkReplicas(healthCheckTimeoutSeconds);
+        }
+    }
+}
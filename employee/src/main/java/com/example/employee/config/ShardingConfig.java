@@ -0,0 +1,84 @@
+package com.example.employee.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import com.example.employee.id.SnowflakeIdGenerator;
+import com.example.employee.metrics.EmployeeMetrics;
+import com.example.employee.services.EmployeeService;
+import com.example.employee.sharding.HashShardRouter;
+import com.example.employee.sharding.ShardRouter;
+import com.example.employee.sharding.ShardedEmployeeRepository;
+import com.example.employee.sharding.ShardedEmployeeService;
+import com.example.employee.sharding.ShardingProperties;
+import com.example.employee.sharding.TenantFilter;
+import com.example.employee.sharding.TenantShardRouter;
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Serves the employee CRUD, list and search endpoints from the shard databases in
+ * {@code employee.sharding.shards}, per tenant ({@code X-Tenant-Id}). Bulk, import/export,
+ * stats and the change feed keep using {@code spring.datasource.*}.
+ * Enabled with {@code employee.sharding.enabled=true}.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "employee.sharding", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ShardingProperties.class)
+public class ShardingConfig {
+
+    @Bean
+    public ShardedEmployeeRepository shardedEmployeeRepository(ShardingProperties properties) {
+        if (properties.shards().isEmpty()) {
+            throw new IllegalStateException("employee.sharding.shards must list at least one shard");
+        }
+        List<DataSource> dataSources = new ArrayList<>();
+        for (int i = 0; i < properties.shards().size(); i++) {
+            ShardingProperties.Shard shard = properties.shards().get(i);
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(shard.url())
+                    .username(shard.username())
+                    .password(shard.password())
+                    .build();
+            dataSource.setPoolName("shard-" + i);
+            dataSource.setMaximumPoolSize(properties.shardPoolSize());
+            dataSources.add(dataSource);
+        }
+        return new ShardedEmployeeRepository(dataSources);
+    }
+
+    @Bean
+    public ShardRouter shardRouter(ShardingProperties properties) {
+        int shardCount = properties.shards().size();
+        return switch (properties.strategy()) {
+            case TENANT -> new TenantShardRouter(properties.tenants(), shardCount);
+            case HASH -> new HashShardRouter(shardCount);
+        };
+    }
+
+    @Bean
+    @Primary
+    public EmployeeService shardedEmployeeService(ShardedEmployeeRepository shardedEmployeeRepository,
+                                                  ShardRouter shardRouter,
+                                                  SnowflakeIdGenerator employeeIdGenerator,
+                                                  EmployeeMetrics employeeMetrics,
+                                                  ShardingProperties properties) {
+        return new ShardedEmployeeService(shardedEmployeeRepository, shardRouter, employeeIdGenerator,
+                employeeMetrics, properties.defaultTenant());
+    }
+
+    @Bean
+    public FilterRegistrationBean<TenantFilter> tenantFilter() {
+        return new FilterRegistrationBean<>(new TenantFilter());
+    }
+}
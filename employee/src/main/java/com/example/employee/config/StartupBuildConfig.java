@@ -0,0 +1,33 @@
+package com.example.employee.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.example.employee.cache.EmployeeEmailRegistry;
+import com.example.employee.search.EmployeeNameIndex;
+import com.example.employee.stats.EmployeeStatsRollup;
+
+/**
+ * Builds the in-memory views of the employees table once the web application is ready.
+ * Each build is a full-table read, so the command-line export and import, which run
+ * without a web server and never read these views, skip them; until a view is built,
+ * its callers fall back to the database.
+ */
+@Configuration
+@ConditionalOnWebApplication
+public class StartupBuildConfig {
+
+    @Bean
+    public ApplicationListener<ApplicationReadyEvent> employeeViewBuilds(EmployeeEmailRegistry emailRegistry,
+                                                                         EmployeeNameIndex nameIndex,
+                                                                         EmployeeStatsRollup statsRollup) {
+        return event -> {
+            emailRegistry.seed();
+            nameIndex.build();
+            statsRollup.build();
+        };
+    }
+}
@@ -0,0 +1,50 @@
+package com.example.employee.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ProblemDetail;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.services.EmployeeArchiveService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/employees/archive")
+@RequiredArgsConstructor
+@CrossOrigin("*")
+public class EmployeeArchiveController {
+
+    private final EmployeeArchiveService archiveService;
+
+    /**
+     * Archive soft-deleted employees past retention now, without waiting for the schedule.
+     * Answers 409 while a run is already in progress.
+     * Endpoint: POST /api/employees/archive/run
+     */
+    @PostMapping("/run")
+    public ResponseEntity<?> run() {
+        log.info("Archive run triggered");
+        return archiveService.archiveExpired()
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(HttpStatus.CONFLICT).body(ProblemDetail.forStatusAndDetail(
+                        HttpStatus.CONFLICT, "An archive run is already in progress")));
+    }
+
+    /**
+     * Restore an archived employee as active, with its original ID.
+     * Endpoint: POST /api/employees/archive/{id}/restore
+     */
+    @PostMapping("/{id}/restore")
+    public ResponseEntity<EmployeeResponseDTO> restore(@PathVariable Long id) {
+        log.info("Restoring archived employee with ID: {}", id);
+        return ResponseEntity.ok(archiveService.restoreEmployee(id));
+    }
+}
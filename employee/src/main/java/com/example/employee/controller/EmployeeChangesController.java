@@ -0,0 +1,52 @@
+package com.example.employee.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.employee.dto.EmployeeChangePageDTO;
+import com.example.employee.services.EmployeeChangeFeedService;
+import com.example.employee.services.EmployeeChangeStream;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/employees/changes")
+@RequiredArgsConstructor
+public class EmployeeChangesController {
+
+    private final EmployeeChangeFeedService changeFeedService;
+    private final EmployeeChangeStream changeStream;
+
+    /**
+     * Get employees created, updated or soft deleted after a watermark, oldest first.
+     * Endpoint: GET /api/employees/changes?since={nextWatermark}&limit={limit}
+     */
+    @GetMapping
+    public ResponseEntity<EmployeeChangePageDTO> getChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "500") int limit) {
+        log.debug("Fetching employee changes since {}", since);
+        return ResponseEntity.ok(changeFeedService.getChanges(since, limit));
+    }
+
+    /**
+     * Server-sent events: replays changes after the watermark, then pushes new ones as they commit.
+     * Each event id is a watermark, so reconnecting clients resume via Last-Event-ID.
+     * Endpoint: GET /api/employees/changes/stream?since={nextWatermark}
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamChanges(
+            @RequestParam(required = false) String since,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("Opening employee change stream");
+        return changeStream.subscribe(lastEventId != null ? lastEventId : since);
+    }
+}
@@ -1,18 +1,39 @@
 package com.example.employee.controller;
 
+import com.example.employee.cache.EmployeeJsonCache;
+import com.example.employee.codec.EmployeeBinaryCodec;
+import com.example.employee.dto.EmployeeBulkResultDTO;
+import com.example.employee.dto.EmployeeBulkUpdateDTO;
+import com.example.employee.dto.EmployeeFilterDTO;
+import com.example.employee.dto.EmployeePageResponseDTO;
+import com.example.employee.dto.EmployeePatchDTO;
 import com.example.employee.dto.EmployeeRequestDTO;
 import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.services.EmployeeBulkService;
 import com.example.employee.services.EmployeeService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import jakarta.validation.Valid;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -22,7 +43,14 @@ import java.util.List;
 @CrossOrigin("*")
 public class EmployeeController {
 
+    static final String NDJSON_VALUE = "application/x-ndjson";
+    private static final MediaType NDJSON = MediaType.parseMediaType(NDJSON_VALUE);
+
     private final EmployeeService employeeService;
+    private final EmployeeBulkService employeeBulkService;
+    private final ObjectMapper objectMapper;
+    private final EmployeeJsonCache employeeJsonCache;
+    private final EmployeeBinaryCodec binaryCodec;
 
     /**
      * Create a new employee.
@@ -37,35 +65,148 @@ public class EmployeeController {
     }
 
     /**
-     * Get employee by ID.
+     * Create many employees in batched chunks; each item is validated and reported on its own.
+     * Endpoint: POST /api/employees/bulk
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<EmployeeBulkResultDTO> createEmployees(@RequestBody List<EmployeeRequestDTO> requests) {
+        log.info("Received bulk create request for {} employees", requests.size());
+        return ResponseEntity.ok(employeeBulkService.createEmployees(requests));
+    }
+
+    /**
+     * Update many employees in batched chunks.
+     * Endpoint: PUT /api/employees/bulk
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<EmployeeBulkResultDTO> updateEmployees(@RequestBody List<EmployeeBulkUpdateDTO> requests) {
+        log.info("Received bulk update request for {} employees", requests.size());
+        return ResponseEntity.ok(employeeBulkService.updateEmployees(requests));
+    }
+
+    /**
+     * Soft delete many employees in batched chunks.
+     * Endpoint: DELETE /api/employees/bulk
+     */
+    @DeleteMapping("/bulk")
+    public ResponseEntity<EmployeeBulkResultDTO> deleteEmployees(@RequestBody List<Long> ids) {
+        log.info("Received bulk delete request for {} employees", ids.size());
+        return ResponseEntity.ok(employeeBulkService.deleteEmployees(ids));
+    }
+
+    /**
+     * Get employee by ID, written from pre-serialized JSON, or as CBOR/Smile when the
+     * Accept header asks for it. Returns 304 when If-None-Match carries the current ETag;
+     * that is checked against the current version only, so a 304 never reads the employee.
      * Endpoint: GET /api/employees/{id}
      */
     @GetMapping("/{id}")
-    public ResponseEntity<EmployeeResponseDTO> getEmployeeById(@PathVariable Long id) {
+    public ResponseEntity<byte[]> getEmployeeById(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.info("Fetching employee with ID: {}", id);
-        return ResponseEntity.ok(employeeService.getEmployeeById(id));
+        MediaType binary = binaryCodec.negotiate(accept);
+        if (ifNoneMatch != null) {
+            Long version = employeeService.getEmployeeVersion(id);
+            String etag = version != null ? EmployeeJsonCache.etag(id, version, binary) : null;
+            if (etag != null && EmployeeJsonCache.matchesIfNoneMatch(ifNoneMatch, etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).varyBy(HttpHeaders.ACCEPT).build();
+            }
+        }
+        EmployeeResponseDTO employee = employeeService.getEmployeeById(id);
+        String etag = EmployeeJsonCache.etag(id, employee.getVersion(), binary);
+        return ResponseEntity.ok()
+                             .eTag(etag)
+                             .varyBy(HttpHeaders.ACCEPT)
+                             .contentType(binary != null ? binary : MediaType.APPLICATION_JSON)
+                             .body(binary != null ? binaryCodec.write(binary, employee) : employeeJsonCache.toJson(employee));
     }
 
     /**
-     * Get all employees (excluding soft-deleted).
+     * Get all employees (excluding soft-deleted), streamed as rows arrive from the database.
+     * Writes a JSON array by default, one JSON object per line for Accept: application/x-ndjson,
+     * or a CBOR/Smile array for Accept: application/cbor or application/x-jackson-smile.
      * Endpoint: GET /api/employees
      */
     @GetMapping
-    public ResponseEntity<List<EmployeeResponseDTO>> getAllEmployees() {
-        log.info("Fetching all employees");
-        return ResponseEntity.ok(employeeService.getAllEmployees());
+    public ResponseEntity<StreamingResponseBody> getAllEmployees(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept) {
+        MediaType binary = binaryCodec.negotiate(accept);
+        if (binary != null) {
+            log.info("Streaming all employees as {}", binary);
+            StreamingResponseBody body = out -> binaryCodec.writeArray(binary, out, employeeService::streamAllEmployees);
+            return ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).contentType(binary).body(body);
+        }
+        boolean ndjson = accept != null && accept.contains(NDJSON_VALUE);
+        log.info("Streaming all employees as {}", ndjson ? "NDJSON" : "JSON array");
+        StreamingResponseBody body = out -> writeEmployees(out, ndjson);
+        return ResponseEntity.ok()
+                             .varyBy(HttpHeaders.ACCEPT)
+                             .contentType(ndjson ? NDJSON : MediaType.APPLICATION_JSON)
+                             .body(body);
+    }
+
+    /**
+     * Get one keyset-paginated page of employees (excluding soft-deleted), optionally
+     * filtered by position, name prefix and created_at range (from inclusive, to exclusive).
+     * Endpoint: GET /api/employees?limit={limit}&cursor={nextCursor}&position=&namePrefix=&createdFrom=&createdTo=
+     */
+    @GetMapping(params = "limit")
+    public ResponseEntity<byte[]> getEmployeesPage(
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) String namePrefix,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest webRequest) throws IOException {
+        log.info("Fetching employee page after cursor {} with limit {}", cursor, limit);
+        EmployeeFilterDTO filter = new EmployeeFilterDTO(position, namePrefix, createdFrom, createdTo);
+        EmployeePageResponseDTO page = employeeService.getEmployeesPage(filter, cursor, limit);
+        String etag = EmployeeJsonCache.etag(page.getItems(), String.valueOf(page.getNextCursor()));
+        if (webRequest.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        MediaType binary = binaryCodec.negotiate(accept);
+        return ResponseEntity.ok()
+                             .eTag(etag)
+                             .varyBy(HttpHeaders.ACCEPT)
+                             .contentType(binary != null ? binary : MediaType.APPLICATION_JSON)
+                             .body(binary != null ? binaryCodec.write(binary, page) : writePage(page));
     }
 
     /**
      * Update employee details by ID.
+     * With If-Match (the ETag from a GET) the update only applies if nobody changed the
+     * employee since; otherwise 412. A taken email is 409.
      * Endpoint: PUT /api/employees/{id}
      */
     @PutMapping("/{id}")
     public ResponseEntity<EmployeeResponseDTO> updateEmployee(
             @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
             @Valid @RequestBody EmployeeRequestDTO request) {
         log.info("Updating employee with ID: {}", id);
-        return ResponseEntity.ok(employeeService.updateEmployee(id, request));
+        EmployeeResponseDTO updated = employeeService.updateEmployee(id, request,
+                EmployeeJsonCache.versionFromIfMatch(id, ifMatch));
+        return ResponseEntity.ok().eTag(EmployeeJsonCache.etag(updated)).body(updated);
+    }
+
+    /**
+     * Update only the fields present in the body; same If-Match, 409 and 412 rules as PUT.
+     * Endpoint: PATCH /api/employees/{id}
+     */
+    @PatchMapping("/{id}")
+    public ResponseEntity<EmployeeResponseDTO> patchEmployee(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody EmployeePatchDTO patch) {
+        log.info("Patching employee with ID: {}", id);
+        EmployeeResponseDTO patched = employeeService.patchEmployee(id, patch,
+                EmployeeJsonCache.versionFromIfMatch(id, ifMatch));
+        return ResponseEntity.ok().eTag(EmployeeJsonCache.etag(patched)).body(patched);
     }
 
     /**
@@ -80,12 +221,62 @@ public class EmployeeController {
     }
 
     /**
-     * Search employees by name (case-insensitive).
-     * Endpoint: GET /api/employees/search?name={name}
+     * Search employees by name (case-insensitive), best matches first.
+     * Endpoint: GET /api/employees/search?name={name}&limit={limit}
      */
     @GetMapping("/search")
-    public ResponseEntity<List<EmployeeResponseDTO>> searchEmployeesByName(@RequestParam String name) {
+    public ResponseEntity<List<EmployeeResponseDTO>> searchEmployeesByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "100") int limit) {
         log.info("Searching employees with name containing: {}", name);
-        return ResponseEntity.ok(employeeService.searchEmployeesByName(name));
+        return ResponseEntity.ok(employeeService.searchEmployeesByName(name, limit));
+    }
+
+    /**
+     * Write every employee to the response as it is read, without building a list.
+     * Each row is written from its cached JSON fragment when one is current, but rows
+     * are not cached: one pass over the table would only evict the hot fragments.
+     */
+    private void writeEmployees(OutputStream out, boolean ndjson) throws IOException {
+        boolean[] first = {true};
+        if (!ndjson) {
+            out.write('[');
+        }
+        employeeService.streamAllEmployees(employee -> {
+            try {
+                if (!ndjson && !first[0]) {
+                    out.write(',');
+                }
+                out.write(employeeJsonCache.toJsonUncached(employee));
+                if (ndjson) {
+                    out.write('\n');
+                }
+                first[0] = false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        if (!ndjson) {
+            out.write(']');
+        }
+        out.flush();
+    }
+
+    /**
+     * Assemble a page response from cached JSON fragments.
+     */
+    private byte[] writePage(EmployeePageResponseDTO page) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.write("{\"items\":[".getBytes(StandardCharsets.UTF_8));
+        for (int i = 0; i < page.getItems().size(); i++) {
+            if (i > 0) {
+                out.write(',');
+            }
+            out.write(employeeJsonCache.toJson(page.getItems().get(i)));
+        }
+        out.write("],\"nextCursor\":".getBytes(StandardCharsets.UTF_8));
+        out.write(objectMapper.writeValueAsBytes(page.getNextCursor()));
+        out.write('}');
+        return out.toByteArray();
     }
 }
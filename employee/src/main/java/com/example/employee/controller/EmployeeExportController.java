@@ -0,0 +1,52 @@
+package com.example.employee.controller;
+
+import java.nio.channels.Channels;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.employee.export.EmployeeExporter;
+import com.example.employee.export.ExportFormat;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/employees/export")
+@RequiredArgsConstructor
+public class EmployeeExportController {
+
+    private final EmployeeExporter employeeExporter;
+
+    /**
+     * Download every active employee as a file.
+     * Endpoint: GET /api/employees/export?format=csv|columnar&gzip=false
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportEmployees(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        ExportFormat exportFormat = ExportFormat.from(format);
+        log.info("Exporting employees as {} (gzip={})", exportFormat, gzip);
+
+        String filename = "employees." + exportFormat.extension() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(exportFormat.contentType());
+        StreamingResponseBody body = out -> employeeExporter.export(exportFormat, gzip, Channels.newChannel(out));
+
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+}
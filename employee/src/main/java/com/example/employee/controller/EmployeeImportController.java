@@ -0,0 +1,34 @@
+package com.example.employee.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.employee.dto.EmployeeImportResultDTO;
+import com.example.employee.importer.EmployeeImporter;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/employees/import")
+@RequiredArgsConstructor
+public class EmployeeImportController {
+
+    private final EmployeeImporter employeeImporter;
+
+    /**
+     * Import employees from a CSV request body (header: name,email,position).
+     * Endpoint: POST /api/employees/import
+     */
+    @PostMapping(consumes = {"text/csv", "application/octet-stream"})
+    public ResponseEntity<EmployeeImportResultDTO> importEmployees(InputStream body) throws IOException {
+        log.info("Importing employees from CSV upload");
+        return ResponseEntity.ok(employeeImporter.importCsv(body));
+    }
+}
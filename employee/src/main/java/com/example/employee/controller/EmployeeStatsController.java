@@ -0,0 +1,33 @@
+package com.example.employee.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.employee.dto.EmployeeStatsDTO;
+import com.example.employee.services.EmployeeStatsService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/employees/stats")
+@RequiredArgsConstructor
+@CrossOrigin("*")
+public class EmployeeStatsController {
+
+    private final EmployeeStatsService statsService;
+
+    /**
+     * Get headcounts of active employees by position and by created month.
+     * Endpoint: GET /api/employees/stats
+     */
+    @GetMapping
+    public ResponseEntity<EmployeeStatsDTO> getStats() {
+        log.debug("Fetching employee stats");
+        return ResponseEntity.ok(statsService.getStats());
+    }
+}
@@ -0,0 +1,57 @@
+package com.example.employee.datasource;
+
+import java.time.Duration;
+
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.employee.services.EmployeeChangedEvent;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Remembers which clients committed a write recently, so their reads can skip
+ * possibly lagging replicas for a short window. The client of the current thread
+ * is set per request by {@link ReadYourWritesFilter}.
+ */
+public class ReadYourWrites {
+
+    private static final ThreadLocal<String> CLIENT = new ThreadLocal<>();
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWrites(Duration window) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(100_000)
+                .build();
+    }
+
+    static void setClient(String client) {
+        CLIENT.set(client);
+    }
+
+    static void clearClient() {
+        CLIENT.remove();
+    }
+
+    /**
+     * True when the current client wrote within the window.
+     */
+    public boolean mustReadPrimary() {
+        String client = CLIENT.get();
+        return client != null && recentWriters.getIfPresent(client) != null;
+    }
+
+    public void recordWrite() {
+        String client = CLIENT.get();
+        if (client != null) {
+            recentWriters.put(client, Boolean.TRUE);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        recordWrite();
+    }
+}
@@ -0,0 +1,31 @@
+package com.example.employee.datasource;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Identifies the client of each request for {@link ReadYourWrites}: the
+ * {@code X-Client-Id} header when sent, otherwise the remote address.
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    static final String CLIENT_HEADER = "X-Client-Id";
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String client = request.getHeader(CLIENT_HEADER);
+        ReadYourWrites.setClient(client != null && !client.isBlank() ? client : request.getRemoteAddr());
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadYourWrites.clearClient();
+        }
+    }
+}
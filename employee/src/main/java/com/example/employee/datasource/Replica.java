@@ -0,0 +1,72 @@
+package com.example.employee.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * One read replica with its health and a smoothed health-check latency.
+ */
+@Slf4j
+public final class Replica {
+
+    // Weight of the newest sample in the latency moving average
+    private static final double ALPHA = 0.3;
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy = true;
+    private volatile double latencyMicros;
+
+    public Replica(String name, DataSource dataSource) {
+        this.name = name;
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Validate a connection and update health and latency.
+     */
+    public void check(int timeoutSeconds) {
+        long start = System.nanoTime();
+        try (Connection connection = dataSource.getConnection()) {
+            if (!connection.isValid(timeoutSeconds)) {
+                markDown("connection is not valid");
+                return;
+            }
+            double micros = (System.nanoTime() - start) / 1_000.0;
+            latencyMicros = latencyMicros == 0 ? micros : ALPHA * micros + (1 - ALPHA) * latencyMicros;
+            if (!healthy) {
+                log.info("Replica {} is back up", name);
+            }
+            healthy = true;
+        } catch (SQLException e) {
+            markDown(e.getMessage());
+        }
+    }
+
+    void markDown(String reason) {
+        if (healthy) {
+            log.warn("Replica {} marked down: {}", name, reason);
+        }
+        healthy = false;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    public double latencyMicros() {
+        return latencyMicros;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.employee.datasource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Read-only side of the routing: hands out a connection from a healthy replica,
+ * or from the primary when the client is inside its read-your-writes window, no
+ * replica is healthy, or the chosen replica refuses the connection.
+ * <p>
+ * Plugged in as the read-only target of a {@code LazyConnectionDataSourceProxy}, which
+ * only asks for a connection once the transaction has marked it read-only.
+ * <p>
+ * Owns the replica pools and closes them on shutdown; the primary is closed by its own bean.
+ */
+@Slf4j
+public class ReplicaPoolDataSource extends AbstractDataSource implements DisposableBean {
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final ReplicaSelection selection;
+    private final ReadYourWrites readYourWrites;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaPoolDataSource(DataSource primary, List<Replica> replicas,
+                                 ReplicaSelection selection, ReadYourWrites readYourWrites) {
+        this.primary = primary;
+        this.replicas = List.copyOf(replicas);
+        this.selection = selection;
+        this.readYourWrites = readYourWrites;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Replica replica = select();
+        if (replica != null) {
+            try {
+                return replica.dataSource().getConnection();
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        Replica replica = select();
+        if (replica != null) {
+            try {
+                return replica.dataSource().getConnection(username, password);
+            } catch (SQLException e) {
+                replica.markDown(e.getMessage());
+            }
+        }
+        return primary.getConnection(username, password);
+    }
+
+    /**
+     * Health-check every replica; a replica that fails stays out of rotation until it passes again.
+     */
+    public void checkReplicas(int timeoutSeconds) {
+        replicas.forEach(replica -> replica.check(timeoutSeconds));
+    }
+
+    public List<Replica> replicas() {
+        return replicas;
+    }
+
+    @Override
+    public void destroy() {
+        for (Replica replica : replicas) {
+            if (replica.dataSource() instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Closing replica {} failed: {}", replica.name(), e.getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * The replica for the next read, or null to read from the primary.
+     */
+    Replica select() {
+        if (replicas.isEmpty() || readYourWrites.mustReadPrimary()) {
+            return null;
+        }
+        List<Replica> healthy = replicas.stream().filter(Replica::isHealthy).toList();
+        if (healthy.isEmpty()) {
+            return null;
+        }
+        return switch (selection) {
+            case ROUND_ROBIN -> healthy.get(Math.floorMod(next.getAndIncrement(), healthy.size()));
+            case LEAST_LATENCY -> healthy.stream()
+                    .min(Comparator.comparingDouble(Replica::latencyMicros))
+                    .orElseThrow();
+        };
+    }
+}
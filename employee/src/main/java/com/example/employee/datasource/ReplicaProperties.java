@@ -0,0 +1,27 @@
+package com.example.employee.datasource;
+
+import java.time.Duration;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Read replicas behind the primary configured in {@code spring.datasource.*}.
+ */
+@ConfigurationProperties("employee.datasource")
+public record ReplicaProperties(
+        List<Replica> replicas,
+        @DefaultValue("round-robin") ReplicaSelection replicaSelection,
+        // Reads from a client that wrote within this window go to the primary
+        @DefaultValue("2s") Duration readYourWritesWindow,
+        @DefaultValue("2s") Duration healthCheckTimeout,
+        @DefaultValue("20") int replicaPoolSize) {
+
+    public record Replica(String url, String username, String password) {
+    }
+
+    public List<Replica> replicas() {
+        return replicas == null ? List.of() : replicas;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.employee.datasource;
+
+/**
+ * How a read is assigned to one of the healthy replicas.
+ */
+public enum ReplicaSelection {
+    // Rotate through healthy replicas
+    ROUND_ROBIN,
+    // Pick the healthy replica with the lowest recent health-check latency
+    LEAST_LATENCY
+}
@@ -0,0 +1,24 @@
+package com.example.employee.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeArchiveResultDTO {
+    // Employees moved to employees_archive by this run
+    private int archived;
+    // Batch transactions committed
+    private int batches;
+    // False when the run stopped at employee.archive.max-batches-per-run with rows left
+    private boolean complete;
+    // Employees soft deleted before this were eligible
+    private LocalDateTime cutoff;
+    private long durationMs;
+}
@@ -0,0 +1,18 @@
+package com.example.employee.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeBulkResultDTO {
+    private int succeeded;
+    private int failed;
+    private List<EmployeeBulkItemResultDTO> items;
+}
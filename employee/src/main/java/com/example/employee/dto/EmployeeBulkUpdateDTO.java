@@ -0,0 +1,32 @@
+package com.example.employee.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeBulkUpdateDTO {
+
+    @NotNull(message = "Id is required")
+    private Long id;
+
+    @NotBlank(message = "Name is required")
+    @Size(max = 150)
+    private String name;
+
+    @NotBlank(message = "Email is required")
+    @Email(message = "Invalid email format")
+    private String email;
+
+    @NotBlank(message = "Position is required")
+    @Size(max = 100)
+    private String position;
+}
@@ -0,0 +1,26 @@
+package com.example.employee.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeChangeDTO {
+    // Position in the change log; increases in commit order
+    private Long seq;
+    private Long id;
+    private String name;
+    private String email;
+    private String position;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private Long version;
+    // True when the change was a soft delete
+    private boolean deleted;
+}
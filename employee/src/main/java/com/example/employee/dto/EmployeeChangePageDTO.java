@@ -0,0 +1,19 @@
+package com.example.employee.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeChangePageDTO {
+    private List<EmployeeChangeDTO> items;
+    // Pass as ?since= on the next poll; unchanged when there were no new changes
+    private String nextWatermark;
+    private boolean hasMore;
+}
@@ -0,0 +1,34 @@
+package com.example.employee.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Optional filters for the employee list; set fields are combined with AND.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeFilterDTO {
+    // Exact position
+    private String position;
+    // Case-insensitive name prefix
+    private String namePrefix;
+    // created_at >= createdFrom
+    private LocalDateTime createdFrom;
+    // created_at < createdTo
+    private LocalDateTime createdTo;
+
+    public boolean isEmpty() {
+        return isBlank(position) && isBlank(namePrefix) && createdFrom == null && createdTo == null;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.employee.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeImportErrorDTO {
+    // 1-based line where the CSV record starts
+    private long line;
+    private String email;
+    private String error;
+}
@@ -0,0 +1,22 @@
+package com.example.employee.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeImportResultDTO {
+    private long rows;
+    private long imported;
+    private long failed;
+    private long durationMs;
+    // Capped at employee.import.max-errors; see errorsTruncated
+    private List<EmployeeImportErrorDTO> errors;
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,18 @@
+package com.example.employee.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeePageResponseDTO {
+    private List<EmployeeResponseDTO> items;
+    // Opaque token for the next page; null when this is the last page
+    private String nextCursor;
+}
@@ -0,0 +1,31 @@
+package com.example.employee.dto;
+
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Partial update: null fields are left unchanged, present fields must not be blank.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeePatchDTO {
+
+    @Size(max = 150)
+    @Pattern(regexp = ".*\\S.*", message = "Name must not be blank")
+    private String name;
+
+    @Email(message = "Invalid email format")
+    @Pattern(regexp = ".*\\S.*", message = "Email must not be blank")
+    private String email;
+
+    @Size(max = 100)
+    @Pattern(regexp = ".*\\S.*", message = "Position must not be blank")
+    private String position;
+}
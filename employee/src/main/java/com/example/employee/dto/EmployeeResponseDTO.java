@@ -18,4 +18,5 @@ public class EmployeeResponseDTO {
     private String position;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 }
\ No newline at end of file
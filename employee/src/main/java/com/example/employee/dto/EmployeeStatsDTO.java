@@ -0,0 +1,23 @@
+package com.example.employee.dto;
+
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeStatsDTO {
+    // Active employees
+    private long total;
+    // Headcount per position, by position name
+    private Map<String, Long> byPosition;
+    // Headcount per month of created_at ("2025-01"), oldest first
+    private Map<String, Long> byCreatedMonth;
+    // Headcount per position and created month
+    private Map<String, Map<String, Long>> byPositionAndCreatedMonth;
+}
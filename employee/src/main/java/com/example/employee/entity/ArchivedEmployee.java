@@ -0,0 +1,51 @@
+package com.example.employee.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import java.time.LocalDateTime;
+
+/**
+ * A soft-deleted employee moved out of {@code employees} by the archive job.
+ * Written and read through {@link com.example.employee.repository.EmployeeArchiveRepository}
+ * only; mapped so the schema is generated alongside {@link Employee}.
+ */
+@Entity
+@Table(name = "employees_archive")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ArchivedEmployee {
+
+    // The id the employee had in employees, kept so it can be restored
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 150)
+    private String name;
+
+    // Not unique: restores are checked against uq_employees_email instead
+    @Column(nullable = false, length = 150)
+    private String email;
+
+    @Column(nullable = false, length = 100)
+    private String position;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // When the employee was soft deleted
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
@@ -8,13 +8,22 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import java.time.LocalDateTime;
 
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import com.example.employee.id.SnowflakeId;
+
 @Entity
 @Table(name = "employees", uniqueConstraints = {
         @UniqueConstraint(name = "uq_employees_email", columnNames = "email")
+}, indexes = {
+        // Soft-delete aware indexes; see migrations/V2__soft_delete_covering_indexes.sql
+        @Index(name = "idx_employees_deleted_id", columnList = "is_deleted, id"),
+        @Index(name = "idx_employees_deleted_name", columnList = "is_deleted, name, id"),
+        // Position-filtered keyset pages; see migrations/V5__position_filter_index.sql
+        @Index(name = "idx_employees_deleted_position", columnList = "is_deleted, position, id")
 })
 @Getter
 @Setter
@@ -22,16 +31,18 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
+@DynamicUpdate
 public class Employee {
 
+    // Assigned before the INSERT (see SnowflakeIdGenerator), not by AUTO_INCREMENT
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @SnowflakeId
     private Long id;
 
     @Column(nullable = false, length = 150)
     private String name;
 
-    @Column(nullable = false, length = 150, unique = true)
+    @Column(nullable = false, length = 150)
     private String email;
 
     @Column(nullable = false, length = 100)
@@ -47,4 +58,9 @@ public class Employee {
 
     @Column(name = "is_deleted", nullable = false)
     private Boolean isDeleted = false;
+
+    // Optimistic lock; every write path (JPA, JPQL and JDBC) increments it
+    @Version
+    @Column(nullable = false)
+    private Long version;
 }
\ No newline at end of file
@@ -0,0 +1,63 @@
+package com.example.employee.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import java.time.LocalDateTime;
+
+/**
+ * The state of an employee after one committed insert or update, copied from
+ * {@code employees} by the write path in the writing transaction
+ * (migrations/V8__employee_change_log.sql). {@code seq} is assigned in commit order by
+ * {@link com.example.employee.services.EmployeeChangeSequencer} and is what the change
+ * feed pages by. Written and read through
+ * {@link com.example.employee.repository.EmployeeChangeLogRepository} only; mapped so the
+ * schema is generated alongside {@link Employee}.
+ */
+@Entity
+@Table(name = "employee_changes", uniqueConstraints = {
+        @UniqueConstraint(name = "uq_employee_changes_seq", columnNames = "seq")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EmployeeChange {
+
+    // Insert order, which is not commit order
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "change_id")
+    private Long changeId;
+
+    // Null until the transaction that wrote the change has committed and it is sequenced
+    private Long seq;
+
+    @Column(name = "employee_id", nullable = false)
+    private Long employeeId;
+
+    @Column(nullable = false, length = 150)
+    private String name;
+
+    @Column(nullable = false, length = 150)
+    private String email;
+
+    @Column(nullable = false, length = 100)
+    private String position;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "is_deleted", nullable = false)
+    private Boolean isDeleted;
+}
@@ -0,0 +1,28 @@
+package com.example.employee.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+import lombok.AllArgsConstructor;
+
+/**
+ * The single counter row the change sequencer locks to number {@link EmployeeChange}s.
+ * Mapped so the schema is generated alongside {@link Employee}.
+ */
+@Entity
+@Table(name = "employee_change_sequence")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeChangeSequence {
+
+    // Always 1
+    @Id
+    private Integer id;
+
+    // Highest seq handed out so far
+    @Column(name = "last_seq", nullable = false)
+    private Long lastSeq;
+}
@@ -0,0 +1,11 @@
+package com.example.employee.exception;
+
+/**
+ * The changes right after a change-feed watermark have been pruned from the log. Answered with 410.
+ */
+public class ChangesExpiredException extends RuntimeException {
+
+    public ChangesExpiredException(String message) {
+        super(message);
+    }
+}
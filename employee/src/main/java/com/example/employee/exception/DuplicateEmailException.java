@@ -0,0 +1,34 @@
+package com.example.employee.exception;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+/**
+ * Another employee (active or soft-deleted) already owns the email. Answered with 409.
+ * Extends IllegalArgumentException so existing callers treating it as bad input keep working.
+ */
+public class DuplicateEmailException extends IllegalArgumentException {
+
+    /** Unique key on employees.email, named the same in employees.sql and the entity. */
+    public static final String CONSTRAINT = "uq_employees_email";
+
+    public DuplicateEmailException(String email) {
+        super("Employee with email already exists: " + email);
+    }
+
+    /**
+     * Translate a failed write: a violation of the email key becomes a DuplicateEmailException,
+     * anything else (NOT NULL, a primary key, a column too long) is handed back unchanged.
+     * Both MySQL and H2 name the violated key in the driver message.
+     */
+    public static RuntimeException from(DataIntegrityViolationException e, String email) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.toLowerCase(Locale.ROOT).contains(CONSTRAINT)) {
+                return new DuplicateEmailException(email);
+            }
+        }
+        return e;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.employee.exception;
+
+/**
+ * The If-Match version no longer matches the stored employee. Answered with 412.
+ */
+public class PreconditionFailedException extends RuntimeException {
+
+    public PreconditionFailedException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.employee.export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+
+/**
+ * Writes employees in a compact columnar binary layout (big-endian):
+ * <pre>
+ * file      = "EMPC" version:byte rowGroup* endMarker
+ * rowGroup  = rowCount:int idColumn nameColumn emailColumn positionColumn createdColumn updatedColumn
+ * idColumn  = per row id:long
+ * strings   = per row length:int followed by UTF-8 bytes
+ * times     = per row epoch millis (UTC):long, -1 when absent
+ * endMarker = 0:int
+ * </pre>
+ * Rows are buffered one row group at a time, so memory does not grow with the table.
+ */
+final class ColumnarEmployeeWriter implements EmployeeRowWriter {
+
+    static final byte[] MAGIC = {'E', 'M', 'P', 'C'};
+    static final byte VERSION = 1;
+    static final int ROW_GROUP_SIZE = 4096;
+
+    private final ChannelBuffer out;
+    private final long[] ids = new long[ROW_GROUP_SIZE];
+    private final String[] names = new String[ROW_GROUP_SIZE];
+    private final String[] emails = new String[ROW_GROUP_SIZE];
+    private final String[] positions = new String[ROW_GROUP_SIZE];
+    private final long[] createdAt = new long[ROW_GROUP_SIZE];
+    private final long[] updatedAt = new long[ROW_GROUP_SIZE];
+    private int rows;
+
+    ColumnarEmployeeWriter(ChannelBuffer out) throws IOException {
+        this.out = out;
+        out.put(MAGIC);
+        out.put(VERSION);
+    }
+
+    @Override
+    public void write(EmployeeResponseDTO employee) throws IOException {
+        ids[rows] = employee.getId();
+        names[rows] = employee.getName();
+        emails[rows] = employee.getEmail();
+        positions[rows] = employee.getPosition();
+        createdAt[rows] = epochMillis(employee.getCreatedAt());
+        updatedAt[rows] = epochMillis(employee.getUpdatedAt());
+        if (++rows == ROW_GROUP_SIZE) {
+            writeRowGroup();
+        }
+    }
+
+    @Override
+    public void finish() throws IOException {
+        if (rows > 0) {
+            writeRowGroup();
+        }
+        out.putInt(0);
+        out.drain();
+    }
+
+    private void writeRowGroup() throws IOException {
+        out.putInt(rows);
+        for (int i = 0; i < rows; i++) {
+            out.putLong(ids[i]);
+        }
+        writeStrings(names);
+        writeStrings(emails);
+        writeStrings(positions);
+        for (int i = 0; i < rows; i++) {
+            out.putLong(createdAt[i]);
+        }
+        for (int i = 0; i < rows; i++) {
+            out.putLong(updatedAt[i]);
+        }
+        rows = 0;
+    }
+
+    private void writeStrings(String[] column) throws IOException {
+        for (int i = 0; i < rows; i++) {
+            byte[] bytes = column[i].getBytes(StandardCharsets.UTF_8);
+            out.putInt(bytes.length);
+            out.put(bytes);
+            column[i] = null;
+        }
+    }
+
+    private static long epochMillis(LocalDateTime time) {
+        return time == null ? -1L : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.employee.export;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+
+/**
+ * Writes employees as RFC 4180 CSV with a header row.
+ */
+final class CsvEmployeeWriter implements EmployeeRowWriter {
+
+    private static final byte[] HEADER =
+            "id,name,email,position,created_at,updated_at\r\n".getBytes(StandardCharsets.US_ASCII);
+
+    private final ChannelBuffer out;
+    private final StringBuilder line = new StringBuilder(256);
+
+    CsvEmployeeWriter(ChannelBuffer out) throws IOException {
+        this.out = out;
+        out.put(HEADER);
+    }
+
+    @Override
+    public void write(EmployeeResponseDTO employee) throws IOException {
+        line.setLength(0);
+        line.append(employee.getId()).append(',');
+        appendField(employee.getName());
+        line.append(',');
+        appendField(employee.getEmail());
+        line.append(',');
+        appendField(employee.getPosition());
+        line.append(',');
+        appendField(employee.getCreatedAt() == null ? null : employee.getCreatedAt().toString());
+        line.append(',');
+        appendField(employee.getUpdatedAt() == null ? null : employee.getUpdatedAt().toString());
+        line.append("\r\n");
+        out.put(line.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void finish() throws IOException {
+        out.drain();
+    }
+
+    private void appendField(String value) {
+        if (value == null) {
+            return;
+        }
+        boolean quote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!quote) {
+            line.append(value);
+            return;
+        }
+        line.append('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.employee.export;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.employee.repository.EmployeeJdbcRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Streams every active employee into a channel, straight from a forward-only
+ * JDBC cursor. Rows pass through one fixed-size buffer (and one row group for the
+ * columnar format), so exports of any size run in constant memory.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeeExporter {
+
+    static final int BUFFER_SIZE = 64 * 1024;
+
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+
+    /**
+     * Writes the export to {@code target}; the channel is left open for the caller.
+     *
+     * @return number of employees written
+     */
+    @Transactional(readOnly = true)
+    public long export(ExportFormat format, boolean gzip, WritableByteChannel target) throws IOException {
+        GZIPOutputStream gzipStream = gzip
+                ? new GZIPOutputStream(Channels.newOutputStream(target), BUFFER_SIZE)
+                : null;
+        WritableByteChannel channel = gzipStream != null ? Channels.newChannel(gzipStream) : target;
+        ChannelBuffer buffer = new ChannelBuffer(channel, BUFFER_SIZE);
+        EmployeeRowWriter writer = switch (format) {
+            case CSV -> new CsvEmployeeWriter(buffer);
+            case COLUMNAR -> new ColumnarEmployeeWriter(buffer);
+        };
+
+        long[] rows = {0};
+        try {
+            employeeJdbcRepository.streamActive(employee -> {
+                try {
+                    writer.write(employee);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.finish();
+        if (gzipStream != null) {
+            gzipStream.finish();
+            gzipStream.flush();
+        }
+        log.info("Exported {} employees as {}{}", rows[0], format, gzip ? " (gzip)" : "");
+        return rows[0];
+    }
+}
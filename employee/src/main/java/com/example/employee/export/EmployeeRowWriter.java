@@ -0,0 +1,16 @@
+package com.example.employee.export;
+
+import java.io.IOException;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+
+/**
+ * Encodes employees one at a time into an export format.
+ */
+interface EmployeeRowWriter {
+
+    void write(EmployeeResponseDTO employee) throws IOException;
+
+    // Write anything still buffered, plus any trailer the format needs
+    void finish() throws IOException;
+}
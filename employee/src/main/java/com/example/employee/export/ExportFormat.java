@@ -0,0 +1,38 @@
+package com.example.employee.export;
+
+import java.util.Locale;
+
+/**
+ * File formats the employee export can write.
+ */
+public enum ExportFormat {
+
+    // RFC 4180 CSV with a header row
+    CSV("text/csv", "csv"),
+    // Row groups of column blocks; see ColumnarEmployeeWriter for the layout
+    COLUMNAR("application/octet-stream", "empc");
+
+    private final String contentType;
+    private final String extension;
+
+    ExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String extension() {
+        return extension;
+    }
+
+    public static ExportFormat from(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unsupported export format: " + value);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.employee.id;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * Globally unique, time-ordered employee ids that need no database round trip and no
+ * coordination between databases: 41 bits of milliseconds since 2025-01-01, 5 bits of
+ * node id and 7 bits of sequence. That is 53 bits, so ids stay exact as JavaScript numbers.
+ * Every instance that inserts employees needs its own {@code employee.id.node-id} (0-31).
+ * <p>
+ * A node hands out 128 ids per millisecond; bursts beyond that borrow the following
+ * milliseconds, up to one second ahead of the clock, before callers have to wait.
+ */
+public final class SnowflakeIdGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 5;
+    static final int SEQUENCE_BITS = 7;
+    public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final long MAX_TIMESTAMP = (1L << (53 - NODE_BITS - SEQUENCE_BITS)) - 1;
+    private static final long MAX_BORROW_MILLIS = 1_000;
+
+    // One generator per node id and JVM, so JPA and JDBC inserts never draw from two sequences
+    private static final ConcurrentMap<Integer, SnowflakeIdGenerator> NODES = new ConcurrentHashMap<>();
+
+    private final long node;
+    private final LongSupplier clock;
+    private final ReentrantLock lock = new ReentrantLock();
+    private long lastTimestamp = -1;
+    private long sequence;
+
+    SnowflakeIdGenerator(int node, LongSupplier clock) {
+        if (node < 0 || node > MAX_NODE_ID) {
+            throw new IllegalArgumentException("Node id must be between 0 and " + MAX_NODE_ID + ": " + node);
+        }
+        this.node = node;
+        this.clock = clock;
+    }
+
+    public static SnowflakeIdGenerator forNode(int node) {
+        return NODES.computeIfAbsent(node, n -> new SnowflakeIdGenerator(n, System::currentTimeMillis));
+    }
+
+    public long nextId() {
+        lock.lock();
+        try {
+            long now = clock.getAsLong() - EPOCH_MILLIS;
+            // A clock that moved backwards keeps counting from the last timestamp instead of repeating ids
+            long timestamp = Math.max(now, lastTimestamp);
+            if (timestamp == lastTimestamp) {
+                sequence = (sequence + 1) & SEQUENCE_MASK;
+                if (sequence == 0) {
+                    timestamp = borrowNextMillisecond(now);
+                }
+            } else {
+                sequence = 0;
+            }
+            if (timestamp > MAX_TIMESTAMP) {
+                throw new IllegalStateException("Snowflake id timestamp overflow");
+            }
+            lastTimestamp = timestamp;
+            return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (node << SEQUENCE_BITS) | sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private long borrowNextMillisecond(long now) {
+        long next = lastTimestamp + 1;
+        while (next - now > MAX_BORROW_MILLIS) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(1));
+            now = clock.getAsLong() - EPOCH_MILLIS;
+        }
+        return next;
+    }
+
+    public static int nodeOf(long id) {
+        return (int) ((id >>> SEQUENCE_BITS) & MAX_NODE_ID);
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.employee.id;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+/**
+ * Hibernate side of {@link SnowflakeId}. Hibernate creates it, not Spring, so the node id
+ * comes from the Hibernate settings (see {@code IdGeneratorConfig}); it then shares the
+ * JVM's generator for that node with the JDBC insert paths.
+ */
+public class SnowflakeIdentifierGenerator implements BeforeExecutionGenerator {
+
+    public static final String NODE_ID_SETTING = "employee.id.node-id";
+
+    private final SnowflakeIdGenerator ids;
+
+    public SnowflakeIdentifierGenerator(SnowflakeId config, Member member, CustomIdGeneratorCreationContext context) {
+        Object nodeId = context.getServiceRegistry()
+                .getService(ConfigurationService.class)
+                .getSettings()
+                .get(NODE_ID_SETTING);
+        this.ids = SnowflakeIdGenerator.forNode(nodeId == null ? 0 : Integer.parseInt(nodeId.toString()));
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        return ids.nextId();
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+}
@@ -0,0 +1,332 @@
+package com.example.employee.importer;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.employee.dto.EmployeeBulkItemResultDTO;
+import com.example.employee.dto.EmployeeImportErrorDTO;
+import com.example.employee.dto.EmployeeImportResultDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import com.example.employee.services.EmployeeBulkService;
+import com.example.employee.services.EmployeeChangedEvent;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Loads employees from CSV through a bounded three-stage pipeline:
+ * <ol>
+ *   <li>the calling thread parses records into chunks,</li>
+ *   <li>a worker pool validates chunks in parallel against the {@link EmployeeRequestDTO} constraints,</li>
+ *   <li>a single loader takes validated chunks in input order, dedupes emails in memory and
+ *       against the database, and inserts each chunk as one JDBC batch.</li>
+ * </ol>
+ * At most {@code queue-capacity} chunks are in flight, so the parser blocks when loading
+ * falls behind and memory stays bounded regardless of file size.
+ */
+@Slf4j
+@Service
+public class EmployeeImporter {
+
+    private static final Set<String> COLUMNS = Set.of("name", "email", "position");
+
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final EmployeeBulkService employeeBulkService;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int parallelism;
+    private final int queueCapacity;
+    private final int maxErrors;
+
+    public EmployeeImporter(EmployeeJdbcRepository employeeJdbcRepository,
+                            EmployeeBulkService employeeBulkService,
+                            Validator validator,
+                            TransactionTemplate transactionTemplate,
+                            ApplicationEventPublisher eventPublisher,
+                            @Value("${employee.import.chunk-size:1000}") int chunkSize,
+                            @Value("${employee.import.parallelism:0}") int parallelism,
+                            @Value("${employee.import.queue-capacity:8}") int queueCapacity,
+                            @Value("${employee.import.max-errors:1000}") int maxErrors) {
+        this.employeeJdbcRepository = employeeJdbcRepository;
+        this.employeeBulkService = employeeBulkService;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.parallelism = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+        this.queueCapacity = queueCapacity;
+        this.maxErrors = maxErrors;
+    }
+
+    private record Row(long line, EmployeeRequestDTO request, String error) {
+    }
+
+    private static final List<Row> END = Collections.emptyList();
+
+    /**
+     * Import a UTF-8 CSV with a header row containing name, email and position
+     * (other columns, e.g. from an export, are ignored). Rows are committed chunk by
+     * chunk; a failing row never rolls back the others.
+     */
+    public EmployeeImportResultDTO importCsv(InputStream input) throws IOException {
+        long started = System.nanoTime();
+        CsvRecordReader reader = new CsvRecordReader(
+                new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8), 64 * 1024));
+        int[] columns = readHeader(reader);
+
+        Progress progress = new Progress(maxErrors);
+        BlockingQueue<Future<List<Row>>> pending = new ArrayBlockingQueue<>(queueCapacity);
+        ExecutorService validators = Executors.newFixedThreadPool(parallelism);
+        ExecutorService loaderThread = Executors.newSingleThreadExecutor();
+        try {
+            Future<?> loader = loaderThread.submit(() -> load(pending, progress, started));
+
+            List<CsvRecordReader.CsvRecord> chunk = new ArrayList<>(chunkSize);
+            CsvRecordReader.CsvRecord record;
+            while ((record = reader.next()) != null) {
+                chunk.add(record);
+                if (chunk.size() == chunkSize) {
+                    List<CsvRecordReader.CsvRecord> parsed = chunk;
+                    enqueue(pending, validators.submit(() -> validate(parsed, columns)), loader);
+                    chunk = new ArrayList<>(chunkSize);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                List<CsvRecordReader.CsvRecord> parsed = chunk;
+                enqueue(pending, validators.submit(() -> validate(parsed, columns)), loader);
+            }
+            enqueue(pending, CompletableFuture.completedFuture(END), loader);
+            await(loader);
+        } finally {
+            validators.shutdownNow();
+            loaderThread.shutdownNow();
+        }
+
+        EmployeeImportResultDTO result = progress.result(System.nanoTime() - started);
+        log.info("Imported {} of {} employees in {} ms ({} failed)",
+                result.getImported(), result.getRows(), result.getDurationMs(), result.getFailed());
+        return result;
+    }
+
+    private int[] readHeader(CsvRecordReader reader) throws IOException {
+        CsvRecordReader.CsvRecord header = reader.next();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV is empty");
+        }
+        int[] columns = {-1, -1, -1};
+        for (int i = 0; i < header.fields().length; i++) {
+            switch (header.fields()[i].trim().toLowerCase(Locale.ROOT)) {
+                case "name" -> columns[0] = i;
+                case "email" -> columns[1] = i;
+                case "position" -> columns[2] = i;
+                default -> {
+                    // Extra columns are ignored
+                }
+            }
+        }
+        for (int column : columns) {
+            if (column < 0) {
+                throw new IllegalArgumentException("CSV header must contain the columns " + COLUMNS);
+            }
+        }
+        return columns;
+    }
+
+    private List<Row> validate(List<CsvRecordReader.CsvRecord> records, int[] columns) {
+        List<Row> rows = new ArrayList<>(records.size());
+        for (CsvRecordReader.CsvRecord record : records) {
+            EmployeeRequestDTO request = EmployeeRequestDTO.builder()
+                    .name(field(record, columns[0]))
+                    .email(field(record, columns[1]))
+                    .position(field(record, columns[2]))
+                    .build();
+            Set<ConstraintViolation<EmployeeRequestDTO>> violations = validator.validate(request);
+            String error = violations.isEmpty() ? null : violations.stream()
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; "));
+            rows.add(new Row(record.line(), request, error));
+        }
+        return rows;
+    }
+
+    private static String field(CsvRecordReader.CsvRecord record, int column) {
+        return column < record.fields().length ? record.fields()[column].trim() : null;
+    }
+
+    private Void load(BlockingQueue<Future<List<Row>>> pending, Progress progress, long started)
+            throws InterruptedException, ExecutionException {
+        Set<String> seenEmails = new HashSet<>();
+        long chunks = 0;
+        List<Row> rows;
+        while ((rows = pending.take().get()) != END) {
+            List<Row> accepted = new ArrayList<>(rows.size());
+            for (Row row : rows) {
+                progress.rows.incrementAndGet();
+                if (row.error() != null) {
+                    progress.fail(row, row.error());
+                } else if (!seenEmails.add(normalizeEmail(row.request().getEmail()))) {
+                    progress.fail(row, "Duplicate email in file: " + row.request().getEmail());
+                } else {
+                    accepted.add(row);
+                }
+            }
+
+            Map<String, Long> taken = employeeJdbcRepository.findIdsByEmails(
+                    accepted.stream().map(row -> row.request().getEmail()).toList());
+            List<Row> inserts = new ArrayList<>(accepted.size());
+            for (Row row : accepted) {
+                if (taken.containsKey(normalizeEmail(row.request().getEmail()))) {
+                    progress.fail(row, "Employee with email already exists: " + row.request().getEmail());
+                } else {
+                    inserts.add(row);
+                }
+            }
+            insert(inserts, progress);
+
+            if (++chunks % 50 == 0) {
+                long elapsedMs = Math.max(1, TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started));
+                log.info("Import progress: {} rows read, {} imported, {} failed ({} rows/s)",
+                        progress.rows.get(), progress.imported.get(), progress.failed.get(),
+                        progress.rows.get() * 1000 / elapsedMs);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Insert the chunk as one batch. If the batch fails (e.g. a concurrent writer took
+     * one of the emails), hand the chunk to the bulk service, which retries item by item.
+     */
+    private void insert(List<Row> rows, Progress progress) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        List<EmployeeRequestDTO> batch = rows.stream().map(Row::request).toList();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                List<Long> ids = employeeJdbcRepository.insertBatch(batch, now);
+                for (int j = 0; j < batch.size(); j++) {
+                    EmployeeRequestDTO request = batch.get(j);
+                    eventPublisher.publishEvent(EmployeeChangedEvent.saved(EmployeeResponseDTO.builder()
+                            .id(ids.get(j))
+                            .name(request.getName())
+                            .email(request.getEmail())
+                            .position(request.getPosition())
+                            .createdAt(now)
+                            .updatedAt(now)
+                            .version(0L)
+                            .build()));
+                }
+            });
+            progress.imported.addAndGet(rows.size());
+        } catch (DataAccessException batchFailure) {
+            log.warn("Import batch of {} failed, retrying item by item: {}", rows.size(), batchFailure.getMessage());
+            List<EmployeeBulkItemResultDTO> items = employeeBulkService.createEmployees(batch).getItems();
+            for (int j = 0; j < items.size(); j++) {
+                if (EmployeeBulkItemResultDTO.FAILED.equals(items.get(j).getStatus())) {
+                    progress.fail(rows.get(j), items.get(j).getError());
+                } else {
+                    progress.imported.incrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Hand a chunk to the loader, giving up if the loader has already failed.
+     */
+    private static void enqueue(BlockingQueue<Future<List<Row>>> pending, Future<List<Row>> chunk,
+                                Future<?> loader) throws IOException {
+        try {
+            while (!pending.offer(chunk, 100, TimeUnit.MILLISECONDS)) {
+                if (loader.isDone()) {
+                    await(loader);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        }
+    }
+
+    private static void await(Future<?> loader) throws IOException {
+        try {
+            loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Import interrupted", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause() instanceof ExecutionException nested ? nested.getCause() : e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("Import failed", cause);
+        }
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Counters read by the progress log, plus the capped list of per-row errors (loader thread only).
+     */
+    private static final class Progress {
+
+        final AtomicLong rows = new AtomicLong();
+        final AtomicLong imported = new AtomicLong();
+        final AtomicLong failed = new AtomicLong();
+        private final List<EmployeeImportErrorDTO> errors = new ArrayList<>();
+        private final int maxErrors;
+
+        Progress(int maxErrors) {
+            this.maxErrors = maxErrors;
+        }
+
+        void fail(Row row, String error) {
+            failed.incrementAndGet();
+            if (errors.size() < maxErrors) {
+                errors.add(new EmployeeImportErrorDTO(row.line(), row.request().getEmail(), error));
+            }
+        }
+
+        EmployeeImportResultDTO result(long elapsedNanos) {
+            return new EmployeeImportResultDTO(rows.get(), imported.get(), failed.get(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsedNanos), List.copyOf(errors), failed.get() > errors.size());
+        }
+    }
+}
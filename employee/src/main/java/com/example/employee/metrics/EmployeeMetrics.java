@@ -0,0 +1,107 @@
+package com.example.employee.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Application-level meters that the framework does not record on its own:
+ * result-set sizes per read path, where searches were answered from, how
+ * create-time email checks were resolved, which requests load shedding let through,
+ * how many shards a sharded request had to query and what the archive job moved.
+ */
+@Component
+@RequiredArgsConstructor
+public class EmployeeMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * Record how many rows a read path returned.
+     */
+    public void recordResultSize(String query, int size) {
+        DistributionSummary.builder("employee.query.results")
+                .description("Rows returned per employee read")
+                .baseUnit("rows")
+                .tag("query", query)
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry)
+                .record(size);
+    }
+
+    /**
+     * Count a name search by source (index or database) and whether it matched anything.
+     */
+    public void recordSearch(String source, boolean matched) {
+        Counter.builder("employee.search")
+                .description("Name searches by source and outcome")
+                .tag("source", source)
+                .tag("outcome", matched ? "hit" : "miss")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Count a create-time email pre-check by result (taken, new, unknown).
+     */
+    public void recordEmailCheck(String result) {
+        Counter.builder("employee.email.precheck")
+                .description("Create-time email uniqueness pre-checks by result")
+                .tag("result", result)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Count a request admitted or rejected by a limiter (rate or concurrency) per endpoint group.
+     */
+    public void recordAdmission(String limiter, String endpoint, boolean admitted) {
+        Counter.builder("employee.requests.admission")
+                .description("Requests admitted or rejected by load shedding")
+                .tag("limiter", limiter)
+                .tag("endpoint", endpoint)
+                .tag("outcome", admitted ? "admitted" : "rejected")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Record how many shards one sharded employee operation queried.
+     */
+    public void recordShardFanOut(String operation, int shards) {
+        DistributionSummary.builder("employee.sharding.fanout")
+                .description("Shards queried per sharded employee operation")
+                .baseUnit("shards")
+                .tag("operation", operation)
+                .register(meterRegistry)
+                .record(shards);
+    }
+
+    /**
+     * Record one committed archive batch: rows moved and how long its transaction took.
+     */
+    public void recordArchiveBatch(int rows, long nanos) {
+        Counter.builder("employee.archive.rows")
+                .description("Soft-deleted employees moved to employees_archive")
+                .baseUnit("rows")
+                .register(meterRegistry)
+                .increment(rows);
+        Timer.builder("employee.archive.batch")
+                .description("Archive batch transactions")
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordArchiveRestore() {
+        Counter.builder("employee.archive.restored")
+                .description("Archived employees restored")
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.employee.ratelimit;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * One {@link TokenBucket} per client and endpoint group. Idle buckets are evicted;
+ * a bucket idle for longer than its refill time is full again anyway.
+ */
+public class ClientRateLimiter {
+
+    private record Key(String client, EndpointGroup group) {
+    }
+
+    private final Map<EndpointGroup, RateLimitProperties.Bucket> limits;
+    private final Cache<Key, TokenBucket> buckets;
+    private final LongSupplier clock;
+
+    public ClientRateLimiter(RateLimitProperties properties) {
+        this(properties, System::nanoTime);
+    }
+
+    ClientRateLimiter(RateLimitProperties properties, LongSupplier clock) {
+        this.limits = new EnumMap<>(EndpointGroup.class);
+        for (EndpointGroup group : EndpointGroup.values()) {
+            limits.put(group, properties.bucket(group));
+        }
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(properties.maxClients())
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .build();
+        this.clock = clock;
+    }
+
+    /**
+     * @return 0 when the request is admitted, otherwise the nanoseconds the client should wait
+     */
+    public long tryAcquire(String client, EndpointGroup group) {
+        long now = clock.getAsLong();
+        RateLimitProperties.Bucket limit = limits.get(group);
+        return buckets.get(new Key(client, group), key -> new TokenBucket(limit.rate(), limit.burst(), now))
+                .tryAcquire(now);
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.employee.ratelimit;
+
+import java.util.Locale;
+
+import org.springframework.http.HttpMethod;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Endpoints that share a rate limit. Bulk covers the long-running requests
+ * (bulk writes, import, export, the SSE change stream and archive runs), which are rate limited
+ * but kept out of the concurrency limiter so their duration does not read as queueing.
+ */
+public enum EndpointGroup {
+    READ,
+    SEARCH,
+    WRITE,
+    BULK;
+
+    public static EndpointGroup of(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        if (path.endsWith("/search")) {
+            return SEARCH;
+        }
+        if (path.endsWith("/bulk") || path.endsWith("/import") || path.endsWith("/export")
+                || path.endsWith("/changes/stream") || path.endsWith("/archive/run")) {
+            return BULK;
+        }
+        return HttpMethod.GET.matches(request.getMethod()) || HttpMethod.HEAD.matches(request.getMethod())
+                ? READ : WRITE;
+    }
+
+    public String tag() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,95 @@
+package com.example.employee.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Adaptive limit on requests in flight, after the gradient algorithm: the limit
+ * follows the ratio of long-term to current latency, so it shrinks as soon as
+ * requests start to queue (on the connection pool, on the database) and grows back
+ * by about sqrt(limit) per sample while latency stays flat.
+ * <p>
+ * Admission is a CAS on the in-flight count. Limit updates are skipped, not
+ * queued, while another thread is updating.
+ */
+public class GradientConcurrencyLimiter {
+
+    // Samples averaged into the long-term latency
+    private static final double LONG_WINDOW = 600;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double smoothing;
+    private final double tolerance;
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final ReentrantLock updateLock = new ReentrantLock();
+    private volatile double limit;
+    private double longRttNanos;
+
+    public GradientConcurrencyLimiter(RateLimitProperties.Concurrency properties) {
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.smoothing = properties.smoothing();
+        this.tolerance = properties.tolerance();
+        this.limit = properties.initialLimit();
+    }
+
+    /**
+     * Admit a request if fewer than the current limit are in flight.
+     *
+     * @return the in-flight count including this request, or -1 when rejected
+     */
+    public int tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                return -1;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return current + 1;
+            }
+        }
+    }
+
+    /**
+     * Release an admitted request and feed its latency into the limit.
+     *
+     * @param inflightAtStart what {@link #tryAcquire()} returned
+     * @param rttNanos        time the request took, or a negative value to release without sampling
+     */
+    public void release(int inflightAtStart, long rttNanos) {
+        inflight.decrementAndGet();
+        if (rttNanos > 0 && updateLock.tryLock()) {
+            try {
+                update(inflightAtStart, rttNanos);
+            } finally {
+                updateLock.unlock();
+            }
+        }
+    }
+
+    private void update(int inflightAtStart, long rttNanos) {
+        longRttNanos = longRttNanos == 0 ? rttNanos : longRttNanos + (rttNanos - longRttNanos) / LONG_WINDOW;
+        // After a long slow period let the average catch up quickly once latency recovers
+        if (longRttNanos > 2.0 * rttNanos) {
+            longRttNanos *= 0.95;
+        }
+        double current = limit;
+        // Below half the limit the latency says nothing about the limit being too high or low
+        if (inflightAtStart < current / 2) {
+            return;
+        }
+        double gradient = Math.max(0.5, Math.min(1.0, tolerance * longRttNanos / rttNanos));
+        double target = current * gradient + Math.sqrt(current);
+        double next = current * (1 - smoothing) + target * smoothing;
+        limit = Math.max(minLimit, Math.min(maxLimit, next));
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+}
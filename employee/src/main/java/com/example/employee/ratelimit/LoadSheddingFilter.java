@@ -0,0 +1,144 @@
+package com.example.employee.ratelimit;
+
+import java.io.IOException;
+import java.security.Principal;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ProblemDetail;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.example.employee.metrics.EmployeeMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Rejects requests before they reach the controller: 429 when the client is over
+ * its rate for the endpoint group, 503 when the concurrency limit is reached.
+ * Clients are told apart by the authenticated principal, else the remote address.
+ * The {@code X-Client-Id} header only counts when the request comes from one of
+ * {@code employee.rate-limit.trusted-proxies}; from anyone else it would let a caller
+ * pick a fresh bucket per request, or flood the limiter with keys to evict other clients.
+ */
+@RequiredArgsConstructor
+public class LoadSheddingFilter extends OncePerRequestFilter {
+
+    static final String CLIENT_HEADER = "X-Client-Id";
+
+    private final ClientRateLimiter rateLimiter;
+    private final GradientConcurrencyLimiter concurrencyLimiter;
+    private final EmployeeMetrics employeeMetrics;
+    private final ObjectMapper objectMapper;
+    private final Set<String> trustedProxies;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        EndpointGroup group = EndpointGroup.of(request);
+
+        long waitNanos = rateLimiter.tryAcquire(clientOf(request, trustedProxies), group);
+        employeeMetrics.recordAdmission("rate", group.tag(), waitNanos == 0);
+        if (waitNanos > 0) {
+            reject(response, HttpStatus.TOO_MANY_REQUESTS, waitNanos, "Rate limit exceeded; retry later");
+            return;
+        }
+        if (concurrencyLimiter == null || group == EndpointGroup.BULK) {
+            chain.doFilter(request, response);
+            return;
+        }
+
+        int inflight = concurrencyLimiter.tryAcquire();
+        employeeMetrics.recordAdmission("concurrency", group.tag(), inflight > 0);
+        if (inflight < 0) {
+            reject(response, HttpStatus.SERVICE_UNAVAILABLE, 1_000_000_000L, "Server is overloaded; retry later");
+            return;
+        }
+        long start = System.nanoTime();
+        boolean failed = true;
+        try {
+            chain.doFilter(request, response);
+            failed = false;
+        } finally {
+            if (!failed && request.isAsyncStarted()) {
+                // Streamed responses hold the permit until they finish; their duration is not a latency sample
+                request.getAsyncContext().addListener(new ReleaseOnCompletion(inflight));
+            } else {
+                concurrencyLimiter.release(inflight, failed ? -1 : System.nanoTime() - start);
+            }
+        }
+    }
+
+    private void reject(HttpServletResponse response, HttpStatus status, long waitNanos, String detail)
+            throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + 999_999_999L) / 1_000_000_000L);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_PROBLEM_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), ProblemDetail.forStatusAndDetail(status, detail));
+    }
+
+    static String clientOf(HttpServletRequest request, Set<String> trustedProxies) {
+        Principal principal = request.getUserPrincipal();
+        if (principal != null) {
+            return "user:" + principal.getName();
+        }
+        String remote = request.getRemoteAddr();
+        if (trustedProxies.contains(remote)) {
+            String client = request.getHeader(CLIENT_HEADER);
+            if (client != null && !client.isBlank()) {
+                return client;
+            }
+        }
+        return remote;
+    }
+
+    /**
+     * Releases the concurrency permit of an async request once, however it ends.
+     */
+    private final class ReleaseOnCompletion implements AsyncListener {
+
+        private final int inflight;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        ReleaseOnCompletion(int inflight) {
+            this.inflight = inflight;
+        }
+
+        @Override
+        public void onComplete(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+            release();
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+            // A new async cycle drops the listeners; stay registered until the request really ends
+            event.getAsyncContext().addListener(this);
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                concurrencyLimiter.release(inflight, -1);
+            }
+        }
+    }
+}
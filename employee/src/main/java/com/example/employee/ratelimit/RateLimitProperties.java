@@ -0,0 +1,55 @@
+package com.example.employee.ratelimit;
+
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Per-client token buckets by endpoint group and the adaptive concurrency limit
+ * in front of the employee API.
+ */
+@ConfigurationProperties("employee.rate-limit")
+public record RateLimitProperties(
+        @DefaultValue("false") boolean enabled,
+        // Clients tracked at once; the least recently seen lose their bucket first
+        @DefaultValue("100000") int maxClients,
+        // Remote addresses of reverse proxies whose X-Client-Id header is trusted
+        @DefaultValue Set<String> trustedProxies,
+        Map<EndpointGroup, Bucket> buckets,
+        @DefaultValue Concurrency concurrency) {
+
+    private static final Map<EndpointGroup, Bucket> DEFAULT_BUCKETS = Map.of(
+            EndpointGroup.READ, new Bucket(50, 100),
+            EndpointGroup.SEARCH, new Bucket(10, 20),
+            EndpointGroup.WRITE, new Bucket(20, 40),
+            EndpointGroup.BULK, new Bucket(10, 20));
+
+    /**
+     * @param rate  sustained requests per second per client
+     * @param burst requests a client may send back to back after being idle
+     */
+    public record Bucket(double rate, int burst) {
+    }
+
+    /**
+     * Gradient concurrency limit: starts at {@code initialLimit} and moves between
+     * {@code minLimit} and {@code maxLimit} as the latency of recent requests drifts from
+     * the long-term average. {@code tolerance} is how much slower than average a request
+     * may be before the limit shrinks.
+     */
+    public record Concurrency(
+            @DefaultValue("true") boolean enabled,
+            @DefaultValue("20") int initialLimit,
+            @DefaultValue("4") int minLimit,
+            @DefaultValue("200") int maxLimit,
+            @DefaultValue("0.2") double smoothing,
+            @DefaultValue("1.5") double tolerance) {
+    }
+
+    public Bucket bucket(EndpointGroup group) {
+        Bucket bucket = buckets == null ? null : buckets.get(group);
+        return bucket != null ? bucket : DEFAULT_BUCKETS.get(group);
+    }
+}
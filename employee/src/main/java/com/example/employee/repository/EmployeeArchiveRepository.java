@@ -0,0 +1,114 @@
+package com.example.employee.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * JDBC access to {@code employees_archive}: finding soft-deleted employees past
+ * retention, moving them over set-based and putting one back.
+ * Callers own the transactions; a move is only safe inside one.
+ */
+@Repository
+@Timed(value = "employee.archive.jdbc", description = "Employee archive repository calls")
+public class EmployeeArchiveRepository {
+
+    // Walks idx_employees_deleted_id (is_deleted, id) from the last id seen, so each batch
+    // reads only deleted rows and never rescans the ones already archived
+    private static final String SELECT_EXPIRED =
+            "SELECT id, email FROM employees "
+            + "WHERE is_deleted = TRUE AND id > ? AND updated_at < ? ORDER BY id LIMIT ?";
+
+    private static final String COPY_TO_ARCHIVE =
+            "INSERT INTO employees_archive (id, name, email, position, created_at, updated_at, version, archived_at) "
+            + "SELECT id, name, email, position, created_at, updated_at, version, :archivedAt "
+            + "FROM employees WHERE id IN (:ids) AND is_deleted = TRUE";
+
+    private static final String DELETE_ARCHIVED =
+            "DELETE FROM employees WHERE id IN (:ids) AND is_deleted = TRUE";
+
+    private static final String SELECT_ARCHIVED =
+            "SELECT id, name, email, position, created_at, updated_at, version "
+            + "FROM employees_archive WHERE id = ?";
+
+    // Comes back active, with a new version so stale If-Match values from before the delete fail
+    private static final String RESTORE =
+            "INSERT INTO employees (id, name, email, position, created_at, updated_at, is_deleted, version) "
+            + "SELECT id, name, email, position, created_at, ?, FALSE, version + 1 "
+            + "FROM employees_archive WHERE id = ?";
+
+    private static final String DELETE_FROM_ARCHIVE = "DELETE FROM employees_archive WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final EmployeeChangeLogRepository changeLogRepository;
+
+    public EmployeeArchiveRepository(JdbcTemplate jdbcTemplate, EmployeeChangeLogRepository changeLogRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.changeLogRepository = changeLogRepository;
+    }
+
+    /**
+     * A soft-deleted employee eligible for archiving.
+     */
+    public record Expired(long id, String email) {
+    }
+
+    /**
+     * Next keyset batch of employees soft deleted before the cutoff, in id order after the given id.
+     */
+    public List<Expired> findExpired(long afterId, LocalDateTime cutoff, int limit) {
+        return jdbcTemplate.query(SELECT_EXPIRED,
+                (rs, rowNum) -> new Expired(rs.getLong("id"), rs.getString("email")),
+                afterId, Timestamp.valueOf(cutoff), limit);
+    }
+
+    /**
+     * Copy the employees into the archive and delete them from employees, as two
+     * set-based statements. Rows restored or changed since they were found are skipped
+     * by both. Returns the number of employees moved.
+     */
+    public int moveToArchive(Collection<Long> ids, LocalDateTime archivedAt) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("archivedAt", Timestamp.valueOf(archivedAt));
+        int copied = namedJdbcTemplate.update(COPY_TO_ARCHIVE, params);
+        int deleted = namedJdbcTemplate.update(DELETE_ARCHIVED, params);
+        if (copied != deleted) {
+            // Only possible if a row changed between the statements; roll the batch back
+            throw new IllegalStateException("Archived " + copied + " employees but deleted " + deleted);
+        }
+        return deleted;
+    }
+
+    public Optional<EmployeeResponseDTO> findArchived(Long id) {
+        return jdbcTemplate.query(SELECT_ARCHIVED,
+                (rs, rowNum) -> EmployeeJdbcRepository.mapRow(rs), id).stream().findFirst();
+    }
+
+    /**
+     * Move an archived employee back into employees as active.
+     * Returns false when it is not in the archive; throws a data integrity
+     * violation when its email has been taken since.
+     */
+    public boolean restore(Long id, LocalDateTime now) {
+        if (jdbcTemplate.update(RESTORE, Timestamp.valueOf(now), id) == 0) {
+            return false;
+        }
+        jdbcTemplate.update(DELETE_FROM_ARCHIVE, id);
+        changeLogRepository.record(List.of(id));
+        return true;
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.employee.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.employee.dto.EmployeeChangeDTO;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * JDBC access to {@code employee_changes}, the change log every write path appends to
+ * (migrations/V8__employee_change_log.sql): recording changes, numbering committed ones
+ * and reading them back in that order.
+ */
+@Repository
+@Timed(value = "employee.changes.jdbc", description = "Employee change log repository calls")
+public class EmployeeChangeLogRepository {
+
+    // The rows as the writing transaction left them, so the log commits or rolls back with the write
+    private static final String RECORD =
+            "INSERT INTO employee_changes (employee_id, name, email, position, created_at, updated_at, version, is_deleted) "
+            + "SELECT id, name, email, position, created_at, updated_at, version, is_deleted "
+            + "FROM employees WHERE id IN (:ids)";
+
+    // Serializes sequencing across instances until the numbering transaction commits
+    private static final String LOCK_SEQUENCE =
+            "SELECT last_seq FROM employee_change_sequence WHERE id = 1 FOR UPDATE";
+
+    private static final String CREATE_SEQUENCE =
+            "INSERT INTO employee_change_sequence (id, last_seq) VALUES (1, 0)";
+
+    // Only committed changes are visible here, whatever order they were inserted in
+    private static final String SELECT_UNSEQUENCED =
+            "SELECT change_id FROM employee_changes WHERE seq IS NULL ORDER BY change_id LIMIT ?";
+
+    // Numbers one run of consecutive change_ids in a single statement, keeping their order
+    private static final String ASSIGN_SEQ_RANGE =
+            "UPDATE employee_changes SET seq = change_id + ? WHERE change_id BETWEEN ? AND ? AND seq IS NULL";
+
+    private static final String UPDATE_SEQUENCE = "UPDATE employee_change_sequence SET last_seq = ? WHERE id = 1";
+
+    // Range scan of uq_employee_changes_seq from the watermark; unsequenced rows are never returned
+    private static final String SELECT_CHANGES =
+            "SELECT seq, employee_id, name, email, position, created_at, updated_at, version, is_deleted "
+            + "FROM employee_changes WHERE seq > ? ORDER BY seq LIMIT ?";
+
+    private static final String SELECT_MAX_SEQ = "SELECT COALESCE(MAX(seq), 0) FROM employee_changes";
+
+    private static final String SELECT_MIN_SEQ = "SELECT COALESCE(MIN(seq), 0) FROM employee_changes";
+
+    // Walks uq_employee_changes_seq from the oldest change, so it reads only the rows about to be pruned
+    private static final String SELECT_FIRST_RECENT_SEQ =
+            "SELECT seq FROM employee_changes WHERE seq IS NOT NULL AND updated_at >= ? ORDER BY seq LIMIT 1";
+
+    private static final String DELETE_SEQ_RANGE = "DELETE FROM employee_changes WHERE seq >= ? AND seq < ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+
+    public EmployeeChangeLogRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+    }
+
+    /**
+     * Append the current state of the given employees to the log, unnumbered.
+     * Call it in the transaction that wrote them, after the write: every insert, update,
+     * soft delete and restore of an employee has to be recorded this way, or the feed and
+     * the views following it never see the change.
+     */
+    public void record(Collection<Long> ids) {
+        if (!ids.isEmpty()) {
+            namedJdbcTemplate.update(RECORD, Map.of("ids", ids));
+        }
+    }
+
+    /**
+     * Give up to {@code limit} committed, unnumbered changes the next seqs, in change_id order,
+     * with one UPDATE per run of consecutive change_ids.
+     * Must run in a read-write transaction: the lock on the counter row is what keeps two
+     * sequencers from handing out the same seqs, and a seq from becoming visible before a
+     * lower one. Returns the number of changes sequenced.
+     */
+    public int sequencePending(int limit) {
+        List<Long> locked = jdbcTemplate.queryForList(LOCK_SEQUENCE, Long.class);
+        if (locked.isEmpty()) {
+            // Schema generated without the row the migration seeds; a concurrent create fails this run only
+            jdbcTemplate.update(CREATE_SEQUENCE);
+            locked = jdbcTemplate.queryForList(LOCK_SEQUENCE, Long.class);
+        }
+        List<Long> pending = jdbcTemplate.queryForList(SELECT_UNSEQUENCED, Long.class, limit);
+        if (pending.isEmpty()) {
+            return 0;
+        }
+        long seq = locked.get(0);
+        int runStart = 0;
+        for (int i = 1; i <= pending.size(); i++) {
+            if (i < pending.size() && pending.get(i) == pending.get(i - 1) + 1) {
+                continue;
+            }
+            long first = pending.get(runStart);
+            long last = pending.get(i - 1);
+            int assigned = jdbcTemplate.update(ASSIGN_SEQ_RANGE, seq + 1 - first, first, last);
+            if (assigned != i - runStart) {
+                // Only possible if another sequencer got past the lock; roll the batch back
+                throw new IllegalStateException("Numbered " + assigned + " of changes " + first + ".." + last);
+            }
+            seq += assigned;
+            runStart = i;
+        }
+        jdbcTemplate.update(UPDATE_SEQUENCE, seq);
+        return pending.size();
+    }
+
+    /**
+     * Next changes after the given seq, in seq order.
+     */
+    public List<EmployeeChangeDTO> findChangesAfter(long seq, int limit) {
+        return jdbcTemplate.query(SELECT_CHANGES,
+                (rs, rowNum) -> EmployeeChangeDTO.builder()
+                        .seq(rs.getLong("seq"))
+                        .id(rs.getLong("employee_id"))
+                        .name(rs.getString("name"))
+                        .email(rs.getString("email"))
+                        .position(rs.getString("position"))
+                        .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                        .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                        .version(rs.getLong("version"))
+                        .deleted(rs.getBoolean("is_deleted"))
+                        .build(),
+                seq, limit);
+    }
+
+    /**
+     * Highest seq handed out so far, 0 before the first.
+     */
+    public long maxSeq() {
+        return jdbcTemplate.queryForObject(SELECT_MAX_SEQ, Long.class);
+    }
+
+    /**
+     * Oldest seq still in the log, 0 when it is empty.
+     */
+    public long minSeq() {
+        return jdbcTemplate.queryForObject(SELECT_MIN_SEQ, Long.class);
+    }
+
+    /**
+     * The seq below which every change is older than the cutoff and may be pruned: the
+     * first change written at or after it, or the newest change, which is always kept so
+     * {@link #maxSeq} survives pruning.
+     */
+    public long pruneFloor(LocalDateTime cutoff) {
+        List<Long> recent = jdbcTemplate.queryForList(SELECT_FIRST_RECENT_SEQ, Long.class, Timestamp.valueOf(cutoff));
+        return recent.isEmpty() ? maxSeq() : recent.get(0);
+    }
+
+    /**
+     * Delete the changes with {@code fromSeq <= seq < toSeq}. Returns the number deleted.
+     */
+    public int deleteSeqRange(long fromSeq, long toSeq) {
+        return jdbcTemplate.update(DELETE_SEQ_RANGE, fromSeq, toSeq);
+    }
+}
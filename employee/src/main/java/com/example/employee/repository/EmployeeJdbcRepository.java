@@ -0,0 +1,331 @@
+package com.example.employee.repository;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.example.employee.dto.EmployeeBulkUpdateDTO;
+import com.example.employee.dto.EmployeeFilterDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.id.SnowflakeIdGenerator;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * Plain JDBC access to the employees table for paths where JPA entity
+ * hydration and the persistence context are pure overhead.
+ * The batch writes record what they change in the change log; callers own the
+ * transaction, so the write and its log rows commit together.
+ */
+@Repository
+@Timed(value = "employee.jdbc", description = "Employee JDBC repository calls")
+public class EmployeeJdbcRepository {
+
+    private static final String SELECT_ACTIVE =
+            "SELECT id, name, email, position, created_at, updated_at, version "
+            + "FROM employees WHERE is_deleted = FALSE ORDER BY id";
+
+    private static final String SELECT_ACTIVE_BY_IDS =
+            "SELECT id, name, email, position, created_at, updated_at, version "
+            + "FROM employees WHERE id IN (:ids) AND is_deleted = FALSE";
+
+    private static final String SELECT_ACTIVE_COLUMNS =
+            "SELECT id, name, email, position, created_at, updated_at, version "
+            + "FROM employees WHERE is_deleted = FALSE AND id > :afterId";
+
+    private static final String COUNT_ACTIVE_BY_POSITION_AND_MONTH =
+            "SELECT position, EXTRACT(YEAR FROM created_at) AS created_year, "
+            + "EXTRACT(MONTH FROM created_at) AS created_month, COUNT(*) AS headcount "
+            + "FROM employees WHERE is_deleted = FALSE "
+            + "GROUP BY position, EXTRACT(YEAR FROM created_at), EXTRACT(MONTH FROM created_at)";
+
+    // Served from the uq_employees_email index alone
+    private static final String SELECT_EMAILS = "SELECT email FROM employees";
+
+    // Locks the rows a batch update or soft delete will match, in primary key order
+    private static final String LOCK_ACTIVE_IDS =
+            "SELECT id FROM employees WHERE id IN (:ids) AND is_deleted = FALSE FOR UPDATE";
+
+    private static final String SELECT_IDS_BY_EMAILS =
+            "SELECT id, email FROM employees WHERE email IN (:emails)";
+
+    private static final String INSERT =
+            "INSERT INTO employees (id, name, email, position, created_at, updated_at, is_deleted, version) "
+            + "VALUES (?, ?, ?, ?, ?, ?, FALSE, 0)";
+
+    private static final String UPDATE_ACTIVE =
+            "UPDATE employees SET name = ?, email = ?, position = ?, updated_at = ?, version = version + 1 "
+            + "WHERE id = ? AND is_deleted = FALSE";
+
+    private static final String SOFT_DELETE =
+            "UPDATE employees SET is_deleted = TRUE, updated_at = ?, version = version + 1 "
+            + "WHERE id = ? AND is_deleted = FALSE";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final SnowflakeIdGenerator idGenerator;
+    private final EmployeeChangeLogRepository changeLogRepository;
+    private final int fetchSize;
+
+    public EmployeeJdbcRepository(JdbcTemplate jdbcTemplate,
+                                  SnowflakeIdGenerator idGenerator,
+                                  EmployeeChangeLogRepository changeLogRepository,
+                                  @Value("${employee.stream.fetch-size:500}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.idGenerator = idGenerator;
+        this.changeLogRepository = changeLogRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Stream every non-deleted employee in id order.
+     * Rows come from a forward-only, read-only cursor and are handed to the
+     * consumer one at a time, so at most {@code fetchSize} rows are buffered.
+     */
+    public void streamActive(Consumer<EmployeeResponseDTO> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_ACTIVE,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(mapRow(rs)));
+    }
+
+    /**
+     * Stream every email in the table, soft-deleted rows included, from a forward-only cursor.
+     */
+    public void streamEmails(Consumer<String> consumer) {
+        jdbcTemplate.query(con -> {
+            PreparedStatement ps = con.prepareStatement(SELECT_EMAILS,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            return ps;
+        }, (RowCallbackHandler) rs -> consumer.accept(rs.getString(1)));
+    }
+
+    /**
+     * Load the non-deleted employees among the given ids in one query.
+     */
+    public List<EmployeeResponseDTO> findActiveByIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.query(SELECT_ACTIVE_BY_IDS, Map.of("ids", ids),
+                (rs, rowNum) -> mapRow(rs));
+    }
+
+    /**
+     * One keyset page of non-deleted employees after {@code afterId} matching the filter,
+     * in id order. Only the set filters become predicates, so each combination can use
+     * the (is_deleted, position, id) or (is_deleted, name, id) index.
+     */
+    public List<EmployeeResponseDTO> findActivePage(EmployeeFilterDTO filter, long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("afterId", afterId);
+        String sql = SELECT_ACTIVE_COLUMNS + filterPredicates(filter, params) + " ORDER BY id LIMIT :limit";
+        params.addValue("limit", limit);
+        return namedJdbcTemplate.query(sql, params, (rs, rowNum) -> mapRow(rs));
+    }
+
+    /**
+     * The set filters as {@code AND} predicates on the employees columns, with their values
+     * added to {@code params}; empty for a null or empty filter.
+     */
+    public static String filterPredicates(EmployeeFilterDTO filter, MapSqlParameterSource params) {
+        if (filter == null) {
+            return "";
+        }
+        StringBuilder sql = new StringBuilder();
+        if (filter.getPosition() != null && !filter.getPosition().isBlank()) {
+            sql.append(" AND position = :position");
+            params.addValue("position", filter.getPosition());
+        }
+        if (filter.getNamePrefix() != null && !filter.getNamePrefix().isBlank()) {
+            // Relies on the case-insensitive column collation, like the uniqueness of emails
+            sql.append(" AND name LIKE :namePrefix ESCAPE '!'");
+            params.addValue("namePrefix", escapeLike(filter.getNamePrefix()) + "%");
+        }
+        if (filter.getCreatedFrom() != null) {
+            sql.append(" AND created_at >= :createdFrom");
+            params.addValue("createdFrom", Timestamp.valueOf(filter.getCreatedFrom()));
+        }
+        if (filter.getCreatedTo() != null) {
+            sql.append(" AND created_at < :createdTo");
+            params.addValue("createdTo", Timestamp.valueOf(filter.getCreatedTo()));
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Headcount of non-deleted employees per position and created_at month, in one aggregate
+     * query. The consumer receives position, year, month and count for every non-empty cell.
+     */
+    public void countActiveByPositionAndMonth(HeadcountConsumer consumer) {
+        jdbcTemplate.query(COUNT_ACTIVE_BY_POSITION_AND_MONTH, (RowCallbackHandler) rs -> consumer.accept(
+                rs.getString("position"), rs.getInt("created_year"), rs.getInt("created_month"),
+                rs.getLong("headcount")));
+    }
+
+    @FunctionalInterface
+    public interface HeadcountConsumer {
+        void accept(String position, int year, int month, long count);
+    }
+
+    /**
+     * Find which of the given emails are already taken, in one set-based query.
+     * Returns lower-cased email to owning employee id; soft-deleted rows count too,
+     * since they still hold the unique constraint.
+     */
+    public Map<String, Long> findIdsByEmails(Collection<String> emails) {
+        Map<String, Long> owners = new HashMap<>();
+        if (emails.isEmpty()) {
+            return owners;
+        }
+        namedJdbcTemplate.query(SELECT_IDS_BY_EMAILS, Map.of("emails", emails),
+                (RowCallbackHandler) rs -> owners.put(
+                        rs.getString("email").toLowerCase(Locale.ROOT), rs.getLong("id")));
+        return owners;
+    }
+
+    /**
+     * Insert the employees as one JDBC batch and return their ids in order.
+     * Ids are drawn up front, so the batch needs no generated-keys round trip.
+     */
+    public List<Long> insertBatch(List<EmployeeRequestDTO> employees, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        long[] ids = new long[employees.size()];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = idGenerator.nextId();
+        }
+        jdbcTemplate.batchUpdate(INSERT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EmployeeRequestDTO employee = employees.get(i);
+                ps.setLong(1, ids[i]);
+                ps.setString(2, employee.getName());
+                ps.setString(3, employee.getEmail());
+                ps.setString(4, employee.getPosition());
+                ps.setTimestamp(5, timestamp);
+                ps.setTimestamp(6, timestamp);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return employees.size();
+            }
+        });
+        List<Long> inserted = Arrays.stream(ids).boxed().toList();
+        changeLogRepository.record(inserted);
+        return inserted;
+    }
+
+    /**
+     * Update the active employees as one JDBC batch.
+     * Returns the per-item update counts; 0 means missing or deleted.
+     */
+    public int[] updateBatch(List<EmployeeBulkUpdateDTO> employees, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[] counts = jdbcTemplate.batchUpdate(UPDATE_ACTIVE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                EmployeeBulkUpdateDTO employee = employees.get(i);
+                ps.setString(1, employee.getName());
+                ps.setString(2, employee.getEmail());
+                ps.setString(3, employee.getPosition());
+                ps.setTimestamp(4, timestamp);
+                ps.setLong(5, employee.getId());
+            }
+
+            @Override
+            public int getBatchSize() {
+                return employees.size();
+            }
+        });
+        changeLogRepository.record(changedIds(counts, employees.stream().map(EmployeeBulkUpdateDTO::getId).toList()));
+        return counts;
+    }
+
+    /**
+     * Lock the non-deleted employees among the given ids until the transaction ends and
+     * return their ids, so a batch run afterwards in the same transaction is known to
+     * match exactly these rows. Only meaningful inside a transaction.
+     */
+    public List<Long> lockActiveIds(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        return namedJdbcTemplate.queryForList(LOCK_ACTIVE_IDS, Map.of("ids", ids), Long.class);
+    }
+
+    /**
+     * Soft delete the employees as one JDBC batch.
+     * Returns the per-item update counts; 0 means missing or already deleted.
+     */
+    public int[] softDeleteBatch(List<Long> ids, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        int[] counts = jdbcTemplate.batchUpdate(SOFT_DELETE, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ps.setTimestamp(1, timestamp);
+                ps.setLong(2, ids.get(i));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return ids.size();
+            }
+        });
+        changeLogRepository.record(changedIds(counts, ids));
+        return counts;
+    }
+
+    // Ids whose statement may have matched a row; SUCCESS_NO_INFO counts as a match
+    private static List<Long> changedIds(int[] counts, List<Long> ids) {
+        List<Long> changed = new ArrayList<>(ids.size());
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                changed.add(ids.get(i));
+            }
+        }
+        return changed;
+    }
+
+    // '!' is the LIKE escape character in filterPredicates
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    /**
+     * Map the current row of an employees result set to a response DTO.
+     */
+    static EmployeeResponseDTO mapRow(ResultSet rs) throws SQLException {
+        return EmployeeResponseDTO.builder()
+                .id(rs.getLong("id"))
+                .name(rs.getString("name"))
+                .email(rs.getString("email"))
+                .position(rs.getString("position"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .version(rs.getLong("version"))
+                .build();
+    }
+}
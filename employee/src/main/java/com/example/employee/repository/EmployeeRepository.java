@@ -1,19 +1,74 @@
 package com.example.employee.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.employee.dto.EmployeeResponseDTO;
 import com.example.employee.entity.Employee;
 
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
+    // Read-only projection of active employees straight into the response DTO (no managed entities)
+    String ACTIVE_PROJECTION = "SELECT new com.example.employee.dto.EmployeeResponseDTO("
+            + "e.id, e.name, e.email, e.position, e.createdAt, e.updatedAt, e.version) "
+            + "FROM Employee e WHERE e.isDeleted = false";
+
     Optional<Employee> findByEmail(String email);
 
     List<Employee> findByNameContainingIgnoreCase(String name);
 
     List<Employee> findByIsDeletedFalse();
+
+    Optional<Employee> findByIdAndIsDeletedFalse(Long id);
+
+    @Query(ACTIVE_PROJECTION + " ORDER BY e.id")
+    List<EmployeeResponseDTO> findAllActiveProjected();
+
+    @Query(ACTIVE_PROJECTION + " AND e.id = :id")
+    Optional<EmployeeResponseDTO> findActiveProjectedById(@Param("id") Long id);
+
+    // Version alone, to answer a conditional GET without reading the row
+    @Query("SELECT e.version FROM Employee e WHERE e.id = :id AND e.isDeleted = false")
+    Optional<Long> findActiveVersionById(@Param("id") Long id);
+
+    @Query(ACTIVE_PROJECTION + " AND e.id IN :ids")
+    List<EmployeeResponseDTO> findActiveProjectedByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(ACTIVE_PROJECTION + " AND e.id > :afterId ORDER BY e.id")
+    List<EmployeeResponseDTO> findActivePageProjected(@Param("afterId") Long afterId, Pageable pageable);
+
+    @Query(ACTIVE_PROJECTION + " AND LOWER(e.name) LIKE LOWER(CONCAT('%', :name, '%')) ORDER BY e.id")
+    List<EmployeeResponseDTO> searchActiveProjected(@Param("name") String name, Pageable pageable);
+
+    // Single-statement soft delete; returns 0 when the employee is missing or already deleted
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.isDeleted = true, e.updatedAt = :now, e.version = e.version + 1 "
+            + "WHERE e.id = :id AND e.isDeleted = false")
+    int softDeleteById(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    // Single-statement full update without a prior SELECT; returns 0 when missing or deleted
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.name = :name, e.email = :email, e.position = :position, "
+            + "e.updatedAt = :now, e.version = e.version + 1 WHERE e.id = :id AND e.isDeleted = false")
+    int updateActive(@Param("id") Long id, @Param("name") String name, @Param("email") String email,
+                     @Param("position") String position, @Param("now") LocalDateTime now);
+
+    // Same as updateActive, but only if the row is still at the expected version (If-Match)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Employee e SET e.name = :name, e.email = :email, e.position = :position, "
+            + "e.updatedAt = :now, e.version = e.version + 1 "
+            + "WHERE e.id = :id AND e.isDeleted = false AND e.version = :version")
+    int updateActiveIfVersion(@Param("id") Long id, @Param("name") String name, @Param("email") String email,
+                              @Param("position") String position, @Param("now") LocalDateTime now,
+                              @Param("version") Long version);
 }
@@ -0,0 +1,93 @@
+package com.example.employee.repository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Optional write-behind buffer for soft deletes.
+ * Deletes are queued once per id and written out periodically as JDBC batches,
+ * each in its own transaction with its change log rows.
+ * Failed flushes leave the ids queued for the next run. The queue is only in memory:
+ * shutdown flushes it, but deletes still queued when the process crashes are lost.
+ */
+@Slf4j
+@Component
+public class EmployeeWriteBehindQueue {
+
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final int batchSize;
+
+    private final ConcurrentHashMap<Long, LocalDateTime> pendingDeletes = new ConcurrentHashMap<>();
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public EmployeeWriteBehindQueue(EmployeeJdbcRepository employeeJdbcRepository,
+                                    TransactionTemplate transactionTemplate,
+                                    @Value("${employee.write-behind.enabled:false}") boolean enabled,
+                                    @Value("${employee.write-behind.batch-size:500}") int batchSize) {
+        this.employeeJdbcRepository = employeeJdbcRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queue a soft delete. Returns false when one is already pending for this id.
+     */
+    public boolean enqueueSoftDelete(Long id) {
+        return pendingDeletes.putIfAbsent(id, LocalDateTime.now()) == null;
+    }
+
+    public boolean isPendingDelete(Long id) {
+        return pendingDeletes.containsKey(id);
+    }
+
+    public int pendingCount() {
+        return pendingDeletes.size();
+    }
+
+    /**
+     * Write all pending soft deletes in batches.
+     */
+    @Scheduled(fixedDelayString = "${employee.write-behind.flush-interval-ms:200}")
+    public void flush() {
+        if (pendingDeletes.isEmpty() || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            List<Long> ids = new ArrayList<>(pendingDeletes.keySet());
+            for (int start = 0; start < ids.size(); start += batchSize) {
+                List<Long> batch = ids.subList(start, Math.min(start + batchSize, ids.size()));
+                transactionTemplate.executeWithoutResult(
+                        status -> employeeJdbcRepository.softDeleteBatch(batch, LocalDateTime.now()));
+                batch.forEach(pendingDeletes::remove);
+            }
+            log.debug("Flushed {} queued soft deletes", ids.size());
+        } catch (RuntimeException e) {
+            log.warn("Write-behind flush failed, {} soft deletes stay queued: {}", pendingDeletes.size(), e.getMessage());
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -0,0 +1,341 @@
+package com.example.employee.search;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.employee.dto.EmployeeChangeDTO;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import com.example.employee.services.EmployeeChangeFollower;
+import com.example.employee.services.EmployeeChangesSequencedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-memory index over the names of active employees, built once at startup and kept
+ * current from the change log, so writes made by other instances are seen too.
+ * <ul>
+ *   <li>Queries of three characters or more are answered from the smallest posting list
+ *       of their trigrams, verified with a substring check, keeping only the best
+ *       {@code limit} matches in a bounded heap.</li>
+ *   <li>Shorter queries match anywhere in a name too, like the database fallback. Names
+ *       are kept in sets ordered by length and id under their one- and two-character
+ *       prefixes, so the best matches (name and word prefixes) are simply the first
+ *       entries; only when those run short of the limit are the other names containing
+ *       the query ranked from its one- or two-character posting list.</li>
+ * </ul>
+ * Either way the cost follows the matches and the limit, not the table.
+ */
+@Slf4j
+@Component
+public class EmployeeNameIndex {
+
+    private static final int GRAM = 3;
+
+    // Best first: exact names, then prefixes, then word prefixes, then other substrings; shorter names first
+    private static final Comparator<Match> RANKING = Comparator.comparingInt(Match::rank)
+            .thenComparingInt(Match::length)
+            .thenComparingLong(Match::id);
+
+    private static final Comparator<Entry> BY_LENGTH = Comparator.comparingInt(Entry::length)
+            .thenComparingLong(Entry::id);
+
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final EmployeeChangeFollower follower;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Set<Long>> postings = new HashMap<>();
+    // Ids by every one- and two-character substring of their name
+    private final Map<String, Set<Long>> shortPostings = new HashMap<>();
+    private final Map<Long, String> names = new HashMap<>();
+    // Names starting with a 1-2 character prefix, and names with a later word starting with it
+    private final Map<String, NavigableSet<Entry>> namePrefixes = new HashMap<>();
+    private final Map<String, NavigableSet<Entry>> wordPrefixes = new HashMap<>();
+
+    public EmployeeNameIndex(EmployeeJdbcRepository employeeJdbcRepository,
+                             EmployeeChangeLogRepository changeLogRepository) {
+        this.employeeJdbcRepository = employeeJdbcRepository;
+        this.follower = new EmployeeChangeFollower("name index", changeLogRepository, this::apply);
+    }
+
+    /**
+     * Load every active employee name into an empty index; run by StartupBuildConfig, and
+     * again by the follower if it falls behind the retained change log.
+     */
+    public void build() {
+        follower.build(() -> {
+            lock.writeLock().lock();
+            try {
+                postings.clear();
+                shortPostings.clear();
+                names.clear();
+                namePrefixes.clear();
+                wordPrefixes.clear();
+            } finally {
+                lock.writeLock().unlock();
+            }
+            employeeJdbcRepository.streamActive(employee -> {
+                lock.writeLock().lock();
+                try {
+                    remove(employee.getId());
+                    put(employee.getId(), employee.getName());
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            });
+        });
+        log.info("Employee name index holds {} entries", size());
+    }
+
+    @EventListener
+    public void onChangesSequenced(EmployeeChangesSequencedEvent event) {
+        follower.catchUp();
+    }
+
+    @Scheduled(fixedDelayString = "${employee.changes.follow-interval-ms:1000}")
+    public void follow() {
+        follower.catchUp();
+    }
+
+    /**
+     * Ids of active employees matching the query, best matches first.
+     * Exact names rank before prefixes, prefixes before word prefixes, then shorter names.
+     */
+    public List<Long> search(String query, int limit) {
+        String needle = normalize(query);
+        if (needle.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        lock.readLock().lock();
+        try {
+            return needle.length() < GRAM ? searchShort(needle, limit) : searchGrams(needle, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return follower.isReady();
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void apply(EmployeeChangeDTO change) {
+        lock.writeLock().lock();
+        try {
+            remove(change.getId());
+            if (!change.isDeleted()) {
+                put(change.getId(), change.getName());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the read lock
+    private List<Long> searchGrams(String needle, int limit) {
+        // Worst kept match at the head, so a better one can replace it
+        PriorityQueue<Match> best = new PriorityQueue<>(limit, RANKING.reversed());
+        for (Long id : candidates(needle)) {
+            String name = names.get(id);
+            if (name != null && name.contains(needle)) {
+                Match match = new Match(id, rank(name, needle), name.length());
+                if (best.size() < limit) {
+                    best.add(match);
+                } else if (RANKING.compare(match, best.peek()) < 0) {
+                    best.poll();
+                    best.add(match);
+                }
+            }
+        }
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(RANKING);
+        return matches.stream().map(Match::id).toList();
+    }
+
+    // Caller holds the read lock. A name equal to the needle is its shortest name-prefix match
+    private List<Long> searchShort(String needle, int limit) {
+        List<Long> ids = new ArrayList<>(limit);
+        for (NavigableSet<Entry> entries : List.of(
+                namePrefixes.getOrDefault(needle, Collections.emptyNavigableSet()),
+                wordPrefixes.getOrDefault(needle, Collections.emptyNavigableSet()))) {
+            for (Entry entry : entries) {
+                if (ids.size() == limit) {
+                    return ids;
+                }
+                ids.add(entry.id());
+            }
+        }
+        // Every prefix match is listed by now; rank the names containing the needle elsewhere
+        int remaining = limit - ids.size();
+        PriorityQueue<Match> best = new PriorityQueue<>(remaining, RANKING.reversed());
+        for (Long id : shortPostings.getOrDefault(needle, Set.of())) {
+            String name = names.get(id);
+            if (rank(name, needle) < 3) {
+                continue;
+            }
+            Match match = new Match(id, 3, name.length());
+            if (best.size() < remaining) {
+                best.add(match);
+            } else if (RANKING.compare(match, best.peek()) < 0) {
+                best.poll();
+                best.add(match);
+            }
+        }
+        List<Match> matches = new ArrayList<>(best);
+        matches.sort(RANKING);
+        matches.forEach(match -> ids.add(match.id()));
+        return ids;
+    }
+
+    // Caller holds the read lock
+    private Collection<Long> candidates(String needle) {
+        Set<Long> smallest = null;
+        for (String gram : grams(needle)) {
+            Set<Long> posting = postings.get(gram);
+            if (posting == null) {
+                return Set.of();
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        return smallest;
+    }
+
+    // Caller holds the write lock
+    private void put(Long id, String name) {
+        String normalized = normalize(name);
+        names.put(id, normalized);
+        for (String gram : grams(normalized)) {
+            postings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+        }
+        for (String gram : shortGrams(normalized)) {
+            shortPostings.computeIfAbsent(gram, g -> new HashSet<>()).add(id);
+        }
+        Entry entry = new Entry(normalized.length(), id);
+        for (String prefix : namePrefixes(normalized)) {
+            namePrefixes.computeIfAbsent(prefix, p -> new TreeSet<>(BY_LENGTH)).add(entry);
+        }
+        for (String prefix : wordPrefixes(normalized)) {
+            wordPrefixes.computeIfAbsent(prefix, p -> new TreeSet<>(BY_LENGTH)).add(entry);
+        }
+    }
+
+    // Caller holds the write lock
+    private void remove(Long id) {
+        String previous = names.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (String gram : grams(previous)) {
+            removeFrom(postings, gram, id);
+        }
+        for (String gram : shortGrams(previous)) {
+            removeFrom(shortPostings, gram, id);
+        }
+        Entry entry = new Entry(previous.length(), id);
+        for (String prefix : namePrefixes(previous)) {
+            removeFrom(namePrefixes, prefix, entry);
+        }
+        for (String prefix : wordPrefixes(previous)) {
+            removeFrom(wordPrefixes, prefix, entry);
+        }
+    }
+
+    private static <K, V> void removeFrom(Map<K, ? extends Set<V>> index, K key, V value) {
+        Set<V> values = index.get(key);
+        if (values != null) {
+            values.remove(value);
+            if (values.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private static Set<String> grams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM <= text.length(); i++) {
+            grams.add(text.substring(i, i + GRAM));
+        }
+        return grams;
+    }
+
+    private static Set<String> shortGrams(String text) {
+        Set<String> grams = new HashSet<>();
+        for (int length = 1; length < GRAM; length++) {
+            for (int i = 0; i + length <= text.length(); i++) {
+                grams.add(text.substring(i, i + length));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<String> namePrefixes(String name) {
+        Set<String> prefixes = new HashSet<>();
+        for (int length = 1; length < GRAM && length <= name.length(); length++) {
+            prefixes.add(name.substring(0, length));
+        }
+        return prefixes;
+    }
+
+    // Prefixes of the second and later words, except those the whole name already starts with
+    private static Set<String> wordPrefixes(String name) {
+        Set<String> prefixes = new HashSet<>();
+        for (int i = name.indexOf(' '); i >= 0; i = name.indexOf(' ', i + 1)) {
+            for (int length = 1; length < GRAM && i + 1 + length <= name.length(); length++) {
+                String prefix = name.substring(i + 1, i + 1 + length);
+                if (!prefix.isBlank() && !name.startsWith(prefix)) {
+                    prefixes.add(prefix);
+                }
+            }
+        }
+        return prefixes;
+    }
+
+    private static int rank(String name, String needle) {
+        if (name.equals(needle)) {
+            return 0;
+        }
+        if (name.startsWith(needle)) {
+            return 1;
+        }
+        if (name.contains(" " + needle)) {
+            return 2;
+        }
+        return 3;
+    }
+
+    static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private record Match(long id, int rank, int length) {
+    }
+
+    private record Entry(int length, long id) {
+    }
+}
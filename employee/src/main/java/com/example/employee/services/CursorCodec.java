@@ -0,0 +1,52 @@
+package com.example.employee.services;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Encodes keyset positions as opaque, URL-safe cursor tokens.
+ */
+public final class CursorCodec {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private CursorCodec() {
+    }
+
+    public static String encodeId(long id) {
+        return ENCODER.encodeToString(Long.toString(id).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    public static long decodeId(String cursor) {
+        try {
+            return Long.parseLong(new String(DECODER.decode(cursor), StandardCharsets.US_ASCII));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid cursor: " + cursor);
+        }
+    }
+
+    /**
+     * A change-feed position is the seq of the last change seen, 0 for the beginning.
+     */
+    static String encodeWatermark(long seq) {
+        return ENCODER.encodeToString(("seq:" + seq).getBytes(StandardCharsets.US_ASCII));
+    }
+
+    static long decodeWatermark(String token) {
+        try {
+            String value = new String(DECODER.decode(token), StandardCharsets.US_ASCII);
+            if (!value.startsWith("seq:")) {
+                // Including watermarks of the old (updated_at, id) feed
+                throw new IllegalArgumentException();
+            }
+            long seq = Long.parseLong(value.substring(4));
+            if (seq < 0) {
+                throw new IllegalArgumentException();
+            }
+            return seq;
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Invalid watermark: " + token);
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.employee.services;
+
+import java.util.Optional;
+
+import com.example.employee.dto.EmployeeArchiveResultDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+
+public interface EmployeeArchiveService {
+
+    // Move employees soft deleted longer than the retention into employees_archive; empty if a run is in progress
+    Optional<EmployeeArchiveResultDTO> archiveExpired();
+
+    // Bring an archived employee back as active
+    EmployeeResponseDTO restoreEmployee(Long id);
+
+    boolean isRunning();
+
+    // Employees archived by the current run, or by the last one when idle
+    long runArchived();
+
+    // Delete change-log rows older than the change retention, keeping the newest; returns the number deleted
+    long pruneChanges();
+}
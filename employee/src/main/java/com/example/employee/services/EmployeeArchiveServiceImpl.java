@@ -0,0 +1,232 @@
+package com.example.employee.services;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.employee.cache.EmployeeEmailRegistry;
+import com.example.employee.dto.EmployeeArchiveResultDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.exception.DuplicateEmailException;
+import com.example.employee.metrics.EmployeeMetrics;
+import com.example.employee.repository.EmployeeArchiveRepository;
+import com.example.employee.repository.EmployeeArchiveRepository.Expired;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Background purge of soft-deleted employees into {@code employees_archive}, and of
+ * change-log rows past the change retention.
+ * Each batch is its own short transaction over at most {@code batch-size} rows found
+ * by a keyset walk of the deleted rows, with a pause between batches, so the job never
+ * holds locks on employees for long or competes with request traffic for the pool.
+ */
+@Slf4j
+@Service
+public class EmployeeArchiveServiceImpl implements EmployeeArchiveService {
+
+    private final EmployeeArchiveRepository archiveRepository;
+    private final EmployeeChangeLogRepository changeLogRepository;
+    private final EmployeeEmailRegistry emailRegistry;
+    private final EmployeeMetrics employeeMetrics;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final Duration retention;
+    private final int batchSize;
+    private final Duration batchPause;
+    private final int maxBatchesPerRun;
+    private final Duration changeRetention;
+    // One run at a time, whether scheduled or triggered
+    private final ReentrantLock runLock = new ReentrantLock();
+    private final AtomicLong runArchived = new AtomicLong();
+
+    public EmployeeArchiveServiceImpl(EmployeeArchiveRepository archiveRepository,
+                                      EmployeeChangeLogRepository changeLogRepository,
+                                      EmployeeEmailRegistry emailRegistry,
+                                      EmployeeMetrics employeeMetrics,
+                                      ApplicationEventPublisher eventPublisher,
+                                      TransactionTemplate transactionTemplate,
+                                      @Value("${employee.archive.enabled:false}") boolean enabled,
+                                      @Value("${employee.archive.retention:90d}") Duration retention,
+                                      @Value("${employee.archive.batch-size:500}") int batchSize,
+                                      @Value("${employee.archive.batch-pause:200ms}") Duration batchPause,
+                                      @Value("${employee.archive.max-batches-per-run:200}") int maxBatchesPerRun,
+                                      @Value("${employee.changes.retention:7d}") Duration changeRetention) {
+        if (batchSize < 1 || maxBatchesPerRun < 1) {
+            throw new IllegalArgumentException("employee.archive.batch-size and max-batches-per-run must be positive");
+        }
+        this.archiveRepository = archiveRepository;
+        this.changeLogRepository = changeLogRepository;
+        this.emailRegistry = emailRegistry;
+        this.employeeMetrics = employeeMetrics;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.batchPause = batchPause;
+        this.maxBatchesPerRun = maxBatchesPerRun;
+        this.changeRetention = changeRetention;
+    }
+
+    @Scheduled(fixedDelayString = "${employee.archive.interval-ms:3600000}",
+            initialDelayString = "${employee.archive.initial-delay-ms:60000}")
+    public void scheduledRun() {
+        if (enabled) {
+            try {
+                archiveExpired();
+            } catch (RuntimeException e) {
+                // Committed batches stay archived; the next run picks up from the rest
+                log.warn("Employee archive run failed: {}", e.getMessage());
+            }
+        }
+        if (!changeRetention.isZero()) {
+            try {
+                pruneChanges();
+            } catch (RuntimeException e) {
+                log.warn("Employee change log pruning failed: {}", e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public Optional<EmployeeArchiveResultDTO> archiveExpired() {
+        if (!runLock.tryLock()) {
+            return Optional.empty();
+        }
+        try {
+            long start = System.nanoTime();
+            LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+            runArchived.set(0);
+            long afterId = 0;
+            int batches = 0;
+            boolean complete = false;
+            while (batches < maxBatchesPerRun) {
+                List<Expired> expired = archiveRepository.findExpired(afterId, cutoff, batchSize);
+                if (expired.isEmpty()) {
+                    complete = true;
+                    break;
+                }
+                List<Long> ids = expired.stream().map(Expired::id).toList();
+                long batchStart = System.nanoTime();
+                Integer moved = transactionTemplate.execute(
+                        status -> archiveRepository.moveToArchive(ids, LocalDateTime.now()));
+                employeeMetrics.recordArchiveBatch(moved, System.nanoTime() - batchStart);
+                // Archived emails no longer hold uq_employees_email
+                expired.forEach(employee -> emailRegistry.recordReleased(employee.email(), employee.id()));
+                runArchived.addAndGet(moved);
+                batches++;
+                afterId = ids.get(ids.size() - 1);
+                if (expired.size() < batchSize) {
+                    complete = true;
+                    break;
+                }
+                if (!pause()) {
+                    break;
+                }
+            }
+            EmployeeArchiveResultDTO result = EmployeeArchiveResultDTO.builder()
+                    .archived((int) runArchived.get())
+                    .batches(batches)
+                    .complete(complete)
+                    .cutoff(cutoff)
+                    .durationMs(Duration.ofNanos(System.nanoTime() - start).toMillis())
+                    .build();
+            log.info("Archived {} soft-deleted employees in {} batches ({} ms){}", result.getArchived(),
+                    batches, result.getDurationMs(), complete ? "" : "; more remain for the next run");
+            return Optional.of(result);
+        } finally {
+            runLock.unlock();
+        }
+    }
+
+    /**
+     * Restore in one transaction; the saved event refreshes caches and indexes after commit.
+     */
+    @Override
+    public EmployeeResponseDTO restoreEmployee(Long id) {
+        return transactionTemplate.execute(status -> {
+            EmployeeResponseDTO archived = archiveRepository.findArchived(id)
+                    .orElseThrow(() -> new NoSuchElementException("No archived employee with ID: " + id));
+            LocalDateTime now = LocalDateTime.now();
+            try {
+                if (!archiveRepository.restore(id, now)) {
+                    throw new NoSuchElementException("No archived employee with ID: " + id);
+                }
+            } catch (DataIntegrityViolationException e) {
+                throw DuplicateEmailException.from(e, archived.getEmail());
+            }
+            archived.setUpdatedAt(now);
+            archived.setVersion(archived.getVersion() + 1);
+            eventPublisher.publishEvent(EmployeeChangedEvent.saved(archived));
+            employeeMetrics.recordArchiveRestore();
+            log.info("Restored archived employee with ID: {}", id);
+            return archived;
+        });
+    }
+
+    /**
+     * Delete change-log rows from the oldest up to the first one written within the change
+     * retention, in seq ranges of {@code batch-size}. Feed clients and SSE streams behind the
+     * pruned rows get 410 and resync; followers in the app rebuild their views.
+     */
+    @Override
+    public long pruneChanges() {
+        long floor = changeLogRepository.pruneFloor(LocalDateTime.now().minus(changeRetention));
+        long next = changeLogRepository.minSeq();
+        long pruned = 0;
+        int batches = 0;
+        while (next < floor && batches < maxBatchesPerRun) {
+            long from = next;
+            long to = Math.min(from + batchSize, floor);
+            pruned += transactionTemplate.execute(status -> changeLogRepository.deleteSeqRange(from, to));
+            batches++;
+            next = to;
+            if (next < floor && !pause()) {
+                break;
+            }
+        }
+        if (pruned > 0) {
+            log.info("Pruned {} employee changes below seq {}{}", pruned, next,
+                    next < floor ? "; more remain for the next run" : "");
+        }
+        return pruned;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return runLock.isLocked();
+    }
+
+    @Override
+    public long runArchived() {
+        return runArchived.get();
+    }
+
+    // Throttle between batches; false if interrupted (shutdown), ending the run early
+    private boolean pause() {
+        if (batchPause.isZero()) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPause);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
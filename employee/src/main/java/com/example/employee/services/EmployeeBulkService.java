@@ -0,0 +1,19 @@
+package com.example.employee.services;
+
+import java.util.List;
+
+import com.example.employee.dto.EmployeeBulkResultDTO;
+import com.example.employee.dto.EmployeeBulkUpdateDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+
+public interface EmployeeBulkService {
+
+    // Create many employees in batched chunks, reporting the outcome per item
+    EmployeeBulkResultDTO createEmployees(List<EmployeeRequestDTO> requests);
+
+    // Update many employees in batched chunks, reporting the outcome per item
+    EmployeeBulkResultDTO updateEmployees(List<EmployeeBulkUpdateDTO> requests);
+
+    // Soft delete many employees in batched chunks, reporting the outcome per item
+    EmployeeBulkResultDTO deleteEmployees(List<Long> ids);
+}
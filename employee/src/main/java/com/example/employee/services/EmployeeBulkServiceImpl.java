@@ -0,0 +1,342 @@
+package com.example.employee.services;
+
+import lombok.extern.slf4j.Slf4j;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.example.employee.dto.EmployeeBulkItemResultDTO;
+import com.example.employee.dto.EmployeeBulkResultDTO;
+import com.example.employee.dto.EmployeeBulkUpdateDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.repository.EmployeeJdbcRepository;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk create/update/delete for large syncs.
+ * Requests are processed in chunks; each chunk runs one set-based email lookup and
+ * one JDBC batch in its own transaction, so a bad chunk never rolls back earlier ones.
+ */
+@Slf4j
+@Service
+public class EmployeeBulkServiceImpl implements EmployeeBulkService {
+
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public EmployeeBulkServiceImpl(EmployeeJdbcRepository employeeJdbcRepository,
+                                   Validator validator,
+                                   TransactionTemplate transactionTemplate,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${employee.bulk.chunk-size:500}") int chunkSize) {
+        this.employeeJdbcRepository = employeeJdbcRepository;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Create employees chunk by chunk with batched inserts.
+     */
+    @Override
+    public EmployeeBulkResultDTO createEmployees(List<EmployeeRequestDTO> requests) {
+        log.info("Bulk creating {} employees", requests.size());
+        EmployeeBulkItemResultDTO[] results = new EmployeeBulkItemResultDTO[requests.size()];
+        Set<String> seenEmails = new HashSet<>();
+
+        for (int start = 0; start < requests.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, requests.size());
+            List<Integer> candidates = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                String error = validate(requests.get(i));
+                if (error == null && !seenEmails.add(normalizeEmail(requests.get(i).getEmail()))) {
+                    error = "Duplicate email in request: " + requests.get(i).getEmail();
+                }
+                if (error != null) {
+                    results[i] = failed(i, null, error);
+                } else {
+                    candidates.add(i);
+                }
+            }
+
+            Map<String, Long> taken = employeeJdbcRepository.findIdsByEmails(
+                    candidates.stream().map(i -> requests.get(i).getEmail()).toList());
+            List<Integer> accepted = new ArrayList<>();
+            for (Integer i : candidates) {
+                if (taken.containsKey(normalizeEmail(requests.get(i).getEmail()))) {
+                    results[i] = failed(i, null, "Employee with email already exists: " + requests.get(i).getEmail());
+                } else {
+                    accepted.add(i);
+                }
+            }
+            insertChunk(requests, accepted, results);
+        }
+        return summarize(results);
+    }
+
+    /**
+     * Update employees chunk by chunk with batched updates.
+     */
+    @Override
+    public EmployeeBulkResultDTO updateEmployees(List<EmployeeBulkUpdateDTO> requests) {
+        log.info("Bulk updating {} employees", requests.size());
+        EmployeeBulkItemResultDTO[] results = new EmployeeBulkItemResultDTO[requests.size()];
+        Set<String> seenEmails = new HashSet<>();
+        Set<Long> seenIds = new HashSet<>();
+
+        for (int start = 0; start < requests.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, requests.size());
+            List<Integer> candidates = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                EmployeeBulkUpdateDTO request = requests.get(i);
+                String error = validate(request);
+                if (error == null && !seenIds.add(request.getId())) {
+                    error = "Duplicate id in request: " + request.getId();
+                }
+                if (error == null && !seenEmails.add(normalizeEmail(request.getEmail()))) {
+                    error = "Duplicate email in request: " + request.getEmail();
+                }
+                if (error != null) {
+                    results[i] = failed(i, request.getId(), error);
+                } else {
+                    candidates.add(i);
+                }
+            }
+
+            Map<String, Long> taken = employeeJdbcRepository.findIdsByEmails(
+                    candidates.stream().map(i -> requests.get(i).getEmail()).toList());
+            List<Integer> accepted = new ArrayList<>();
+            for (Integer i : candidates) {
+                EmployeeBulkUpdateDTO request = requests.get(i);
+                Long owner = taken.get(normalizeEmail(request.getEmail()));
+                if (owner != null && !owner.equals(request.getId())) {
+                    results[i] = failed(i, request.getId(), "Employee with email already exists: " + request.getEmail());
+                } else {
+                    accepted.add(i);
+                }
+            }
+            updateChunk(requests, accepted, results);
+        }
+        return summarize(results);
+    }
+
+    /**
+     * Soft delete employees chunk by chunk with batched updates.
+     */
+    @Override
+    public EmployeeBulkResultDTO deleteEmployees(List<Long> ids) {
+        log.info("Bulk soft deleting {} employees", ids.size());
+        EmployeeBulkItemResultDTO[] results = new EmployeeBulkItemResultDTO[ids.size()];
+        Set<Long> seenIds = new HashSet<>();
+
+        for (int start = 0; start < ids.size(); start += chunkSize) {
+            int end = Math.min(start + chunkSize, ids.size());
+            List<Integer> accepted = new ArrayList<>();
+            for (int i = start; i < end; i++) {
+                if (ids.get(i) == null) {
+                    results[i] = failed(i, null, "Id is required");
+                } else if (!seenIds.add(ids.get(i))) {
+                    results[i] = failed(i, ids.get(i), "Duplicate id in request: " + ids.get(i));
+                } else {
+                    accepted.add(i);
+                }
+            }
+            if (accepted.isEmpty()) {
+                continue;
+            }
+            List<Long> batch = accepted.stream().map(ids::get).toList();
+            boolean[] deleted = transactionTemplate.execute(status -> {
+                Set<Long> active = new HashSet<>(employeeJdbcRepository.lockActiveIds(batch));
+                boolean[] matched = succeeded(
+                        employeeJdbcRepository.softDeleteBatch(batch, LocalDateTime.now()), batch, active);
+                for (int j = 0; j < matched.length; j++) {
+                    if (matched[j]) {
+                        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(batch.get(j)));
+                    }
+                }
+                return matched;
+            });
+            for (int j = 0; j < accepted.size(); j++) {
+                int i = accepted.get(j);
+                results[i] = deleted[j]
+                        ? new EmployeeBulkItemResultDTO(i, ids.get(i), EmployeeBulkItemResultDTO.DELETED, null)
+                        : failed(i, ids.get(i), "Employee not found with ID: " + ids.get(i));
+            }
+        }
+        return summarize(results);
+    }
+
+    /**
+     * Insert the accepted items as one batch. If the batch fails (e.g. a concurrent
+     * insert took one of the emails), retry item by item to pin down the failures.
+     */
+    private void insertChunk(List<EmployeeRequestDTO> requests, List<Integer> accepted,
+                             EmployeeBulkItemResultDTO[] results) {
+        if (accepted.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> ids = transactionTemplate.execute(status ->
+                    insertAndPublish(accepted.stream().map(requests::get).toList()));
+            for (int j = 0; j < accepted.size(); j++) {
+                int i = accepted.get(j);
+                results[i] = new EmployeeBulkItemResultDTO(i, ids.get(j), EmployeeBulkItemResultDTO.CREATED, null);
+            }
+        } catch (DataAccessException batchFailure) {
+            log.warn("Bulk insert batch of {} failed, retrying item by item: {}",
+                    accepted.size(), batchFailure.getMessage());
+            for (Integer i : accepted) {
+                try {
+                    List<Long> ids = transactionTemplate.execute(status ->
+                            insertAndPublish(List.of(requests.get(i))));
+                    results[i] = new EmployeeBulkItemResultDTO(i, ids.get(0), EmployeeBulkItemResultDTO.CREATED, null);
+                } catch (DuplicateKeyException e) {
+                    results[i] = failed(i, null, "Employee with email already exists: " + requests.get(i).getEmail());
+                } catch (DataAccessException e) {
+                    results[i] = failed(i, null, e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    private List<Long> insertAndPublish(List<EmployeeRequestDTO> batch) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> ids = employeeJdbcRepository.insertBatch(batch, now);
+        for (int j = 0; j < batch.size(); j++) {
+            EmployeeRequestDTO request = batch.get(j);
+            eventPublisher.publishEvent(EmployeeChangedEvent.saved(EmployeeResponseDTO.builder()
+                    .id(ids.get(j))
+                    .name(request.getName())
+                    .email(request.getEmail())
+                    .position(request.getPosition())
+                    .createdAt(now)
+                    .updatedAt(now)
+                    .version(0L)
+                    .build()));
+        }
+        return ids;
+    }
+
+    /**
+     * Update the accepted items as one batch. If the batch fails (e.g. one new email
+     * collides with a concurrent write), retry item by item to pin down the failures.
+     */
+    private void updateChunk(List<EmployeeBulkUpdateDTO> requests, List<Integer> accepted,
+                             EmployeeBulkItemResultDTO[] results) {
+        if (accepted.isEmpty()) {
+            return;
+        }
+        try {
+            updateItems(requests, accepted, results);
+        } catch (DataAccessException batchFailure) {
+            log.warn("Bulk update batch of {} failed, retrying item by item: {}",
+                    accepted.size(), batchFailure.getMessage());
+            for (Integer i : accepted) {
+                EmployeeBulkUpdateDTO request = requests.get(i);
+                try {
+                    updateItems(requests, List.of(i), results);
+                } catch (DuplicateKeyException e) {
+                    results[i] = failed(i, request.getId(), "Employee with email already exists: " + request.getEmail());
+                } catch (DataAccessException e) {
+                    results[i] = failed(i, request.getId(), e.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    /**
+     * Update the items in one transaction, then reload the updated rows in one query
+     * so the results and change events carry the full current state.
+     */
+    private void updateItems(List<EmployeeBulkUpdateDTO> requests, List<Integer> items,
+                             EmployeeBulkItemResultDTO[] results) {
+        List<EmployeeBulkUpdateDTO> batch = items.stream().map(requests::get).toList();
+        List<Long> ids = batch.stream().map(EmployeeBulkUpdateDTO::getId).toList();
+        boolean[] updated = transactionTemplate.execute(status -> {
+            Set<Long> active = new HashSet<>(employeeJdbcRepository.lockActiveIds(ids));
+            boolean[] matched = succeeded(employeeJdbcRepository.updateBatch(batch, LocalDateTime.now()), ids, active);
+            List<Long> updatedIds = new ArrayList<>();
+            for (int j = 0; j < matched.length; j++) {
+                if (matched[j]) {
+                    updatedIds.add(ids.get(j));
+                }
+            }
+            employeeJdbcRepository.findActiveByIds(updatedIds)
+                    .forEach(dto -> eventPublisher.publishEvent(EmployeeChangedEvent.saved(dto)));
+            return matched;
+        });
+        for (int j = 0; j < items.size(); j++) {
+            int i = items.get(j);
+            results[i] = updated[j]
+                    ? new EmployeeBulkItemResultDTO(i, ids.get(j), EmployeeBulkItemResultDTO.UPDATED, null)
+                    : failed(i, ids.get(j), "Employee not found with ID: " + ids.get(j));
+        }
+    }
+
+    private <T> String validate(T request) {
+        if (request == null) {
+            return "Item is required";
+        }
+        Set<ConstraintViolation<T>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                .sorted()
+                .collect(Collectors.joining("; "));
+    }
+
+    /**
+     * Which batch items matched a row. Drivers that rewrite batches may report
+     * SUCCESS_NO_INFO instead of a count; such an item matched if its row was among
+     * the active ones locked before the batch ran.
+     */
+    private static boolean[] succeeded(int[] updateCounts, List<Long> ids, Set<Long> lockedActive) {
+        boolean[] matched = new boolean[updateCounts.length];
+        for (int j = 0; j < updateCounts.length; j++) {
+            matched[j] = updateCounts[j] == Statement.SUCCESS_NO_INFO
+                    ? lockedActive.contains(ids.get(j))
+                    : updateCounts[j] > 0;
+        }
+        return matched;
+    }
+
+    private static String normalizeEmail(String email) {
+        return email.toLowerCase(Locale.ROOT);
+    }
+
+    private static EmployeeBulkItemResultDTO failed(int index, Long id, String error) {
+        return new EmployeeBulkItemResultDTO(index, id, EmployeeBulkItemResultDTO.FAILED, error);
+    }
+
+    private static EmployeeBulkResultDTO summarize(EmployeeBulkItemResultDTO[] results) {
+        List<EmployeeBulkItemResultDTO> items = Arrays.asList(results);
+        int failed = (int) items.stream()
+                .filter(item -> EmployeeBulkItemResultDTO.FAILED.equals(item.getStatus()))
+                .count();
+        return new EmployeeBulkResultDTO(items.size() - failed, failed, items);
+    }
+}
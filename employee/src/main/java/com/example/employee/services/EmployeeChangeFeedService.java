@@ -0,0 +1,12 @@
+package com.example.employee.services;
+
+import com.example.employee.dto.EmployeeChangePageDTO;
+
+public interface EmployeeChangeFeedService {
+
+    // Employees created, updated or soft deleted after the watermark (null = from the oldest retained change)
+    EmployeeChangePageDTO getChanges(String since, int limit);
+
+    // Watermark of the newest change, to follow only changes from now on
+    String headWatermark();
+}
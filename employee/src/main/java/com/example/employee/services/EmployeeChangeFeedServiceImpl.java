@@ -0,0 +1,73 @@
+package com.example.employee.services;
+
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.employee.dto.EmployeeChangeDTO;
+import com.example.employee.dto.EmployeeChangePageDTO;
+import com.example.employee.exception.ChangesExpiredException;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Incremental sync over the change log, in seq order.
+ * <p>
+ * Seqs are handed out by {@link EmployeeChangeSequencer} only to committed changes, in
+ * the order they were numbered, so once a page has returned seq N no change can later
+ * appear at or below N: the watermark never skips a commit, however long the writing
+ * transaction took. Seqs are also contiguous, so a watermark whose next change is
+ * missing has fallen behind the retention of the log (410) rather than skipping anything.
+ */
+@Slf4j
+@Service
+@Transactional(readOnly = true)
+public class EmployeeChangeFeedServiceImpl implements EmployeeChangeFeedService {
+
+    static final int MAX_PAGE_SIZE = 1000;
+
+    private final EmployeeChangeLogRepository changeLogRepository;
+
+    public EmployeeChangeFeedServiceImpl(EmployeeChangeLogRepository changeLogRepository) {
+        this.changeLogRepository = changeLogRepository;
+    }
+
+    /**
+     * Get one page of changes after the watermark, oldest first.
+     */
+    @Override
+    public EmployeeChangePageDTO getChanges(String since, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("Limit must be between 1 and " + MAX_PAGE_SIZE);
+        }
+        boolean resuming = since != null && !since.isBlank();
+        long watermark = resuming ? CursorCodec.decodeWatermark(since) : 0;
+        log.debug("Fetching up to {} changes after seq {}", limit, watermark);
+
+        List<EmployeeChangeDTO> rows = changeLogRepository.findChangesAfter(watermark, limit + 1);
+        if (resuming && !rows.isEmpty() && rows.get(0).getSeq() != watermark + 1) {
+            throw new ChangesExpiredException("Changes after this watermark have been pruned; "
+                    + "reload the employees and follow from a new watermark");
+        }
+        boolean hasMore = rows.size() > limit;
+        List<EmployeeChangeDTO> items = hasMore ? rows.subList(0, limit) : rows;
+        if (!items.isEmpty()) {
+            watermark = items.get(items.size() - 1).getSeq();
+        }
+        return new EmployeeChangePageDTO(List.copyOf(items), CursorCodec.encodeWatermark(watermark), hasMore);
+    }
+
+    @Override
+    public String headWatermark() {
+        return CursorCodec.encodeWatermark(changeLogRepository.maxSeq());
+    }
+
+    /**
+     * Watermark positioned right after the given change, for per-event SSE ids.
+     */
+    static String watermarkOf(EmployeeChangeDTO change) {
+        return CursorCodec.encodeWatermark(change.getSeq());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.employee.services;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+import com.example.employee.dto.EmployeeChangeDTO;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keeps an in-memory view of employees current from the change log, for the name
+ * index, the stats rollup and the email registry.
+ * <p>
+ * {@link #build} notes the highest seq, loads the view's snapshot and then applies every
+ * change after that seq, in order. Each change carries the employee's whole state and is
+ * followed by any later one, so replaying a change the snapshot already holds is harmless
+ * and writes racing the build need no bookkeeping. {@link #catchUp} applies whatever has
+ * been sequenced since, by any instance; owners call it when this instance sequences
+ * changes and on a poll. Seqs are contiguous, so a jump means the changes in between were
+ * pruned from the log: the view is then built again, and the snapshot loader must replace
+ * what the view holds rather than add to it. All reads run outside transactions, so
+ * against the primary.
+ */
+@Slf4j
+public class EmployeeChangeFollower {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final String name;
+    private final EmployeeChangeLogRepository changeLogRepository;
+    private final Consumer<EmployeeChangeDTO> apply;
+    // Not synchronized: callers include virtual threads, which would pin their carrier
+    private final ReentrantLock lock = new ReentrantLock();
+    // Set once built; catch-ups are no-ops before that
+    private volatile Runnable loadSnapshot;
+    private long lastSeq;
+    private volatile boolean ready;
+
+    public EmployeeChangeFollower(String name, EmployeeChangeLogRepository changeLogRepository,
+                                  Consumer<EmployeeChangeDTO> apply) {
+        this.name = name;
+        this.changeLogRepository = changeLogRepository;
+        this.apply = apply;
+    }
+
+    /**
+     * Load the snapshot and catch up past it; the view is ready once this returns.
+     */
+    public void build(Runnable loadSnapshot) {
+        long start = System.nanoTime();
+        lock.lock();
+        try {
+            load(loadSnapshot);
+            this.loadSnapshot = loadSnapshot;
+            ready = true;
+        } finally {
+            lock.unlock();
+        }
+        log.info("Employee {} built in {} ms, following changes after seq {}",
+                name, (System.nanoTime() - start) / 1_000_000, lastSeq);
+    }
+
+    /**
+     * Apply the changes sequenced since the last call; a no-op until built.
+     */
+    public void catchUp() {
+        Runnable snapshot = loadSnapshot;
+        if (snapshot == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            if (ready && applyNewChanges()) {
+                return;
+            }
+            // Also retries a rebuild that failed, until one succeeds
+            log.warn("Employee {} is behind the retained change log after seq {}; rebuilding", name, lastSeq);
+            ready = false;
+            load(snapshot);
+            ready = true;
+        } catch (RuntimeException e) {
+            // Applied changes stay applied; the next call resumes after them
+            log.warn("Employee {} catch-up failed: {}", name, e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // Caller holds the lock
+    private void load(Runnable loadSnapshot) {
+        // Read before the snapshot: everything committed later gets a higher seq, and the
+        // newest change is never pruned
+        lastSeq = changeLogRepository.maxSeq();
+        loadSnapshot.run();
+        applyNewChanges();
+    }
+
+    // Caller holds the lock. False, with nothing applied, when the next change was pruned
+    private boolean applyNewChanges() {
+        List<EmployeeChangeDTO> page;
+        do {
+            page = changeLogRepository.findChangesAfter(lastSeq, BATCH_SIZE);
+            if (!page.isEmpty() && page.get(0).getSeq() != lastSeq + 1) {
+                return false;
+            }
+            for (EmployeeChangeDTO change : page) {
+                apply.accept(change);
+                lastSeq = change.getSeq();
+            }
+        } while (page.size() == BATCH_SIZE);
+        return true;
+    }
+}
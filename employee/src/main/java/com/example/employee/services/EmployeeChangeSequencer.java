@@ -0,0 +1,103 @@
+package com.example.employee.services;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.example.employee.repository.EmployeeChangeLogRepository;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Gives committed change-log rows their seq, the order the change feed is read in.
+ * <p>
+ * Numbering runs on one background thread per instance, never on a writer's thread:
+ * a commit only asks for a run, and requests that arrive while one is queued share it.
+ * A short fixed delay also asks for runs, for the writes this instance was not told
+ * about (other instances, the reactive app). Each run numbers everything committed so
+ * far in batches of its own short transactions, then publishes an
+ * {@link EmployeeChangesSequencedEvent} when there was anything to number, so the feed
+ * and the views following it see a local write a few milliseconds after its commit.
+ */
+@Slf4j
+@Component
+public class EmployeeChangeSequencer {
+
+    private final EmployeeChangeLogRepository changeLogRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("employee-change-sequencer").daemon().factory());
+    // Coalesce: one queued run numbers everything committed before it starts
+    private final AtomicBoolean queued = new AtomicBoolean();
+
+    public EmployeeChangeSequencer(EmployeeChangeLogRepository changeLogRepository,
+                                   ApplicationEventPublisher eventPublisher,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${employee.changes.sequence-batch-size:1000}") int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("employee.changes.sequence-batch-size must be positive");
+        }
+        this.changeLogRepository = changeLogRepository;
+        this.eventPublisher = eventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        requestRun();
+    }
+
+    @Scheduled(fixedDelayString = "${employee.changes.sequence-interval-ms:200}")
+    public void sequence() {
+        requestRun();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        runner.shutdownNow();
+    }
+
+    private void requestRun() {
+        if (queued.compareAndSet(false, true)) {
+            try {
+                runner.execute(this::run);
+            } catch (RejectedExecutionException e) {
+                // Shutting down; whatever is left is numbered by the next instance to run
+                queued.set(false);
+            }
+        }
+    }
+
+    private void run() {
+        queued.set(false);
+        int sequenced = 0;
+        try {
+            int batch;
+            do {
+                batch = transactionTemplate.execute(status -> changeLogRepository.sequencePending(batchSize));
+                sequenced += batch;
+            } while (batch == batchSize);
+        } catch (RuntimeException e) {
+            // Numbered batches are committed; the rest is picked up by the next run
+            log.warn("Sequencing employee changes failed: {}", e.getMessage());
+        }
+        if (sequenced > 0) {
+            log.debug("Sequenced {} employee changes", sequenced);
+            eventPublisher.publishEvent(new EmployeeChangesSequencedEvent(sequenced));
+        }
+    }
+}
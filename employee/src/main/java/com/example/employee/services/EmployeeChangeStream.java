@@ -0,0 +1,159 @@
+package com.example.employee.services;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.example.employee.dto.EmployeeChangeDTO;
+import com.example.employee.dto.EmployeeChangePageDTO;
+import com.example.employee.exception.ChangesExpiredException;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes the change feed to SSE subscribers.
+ * <p>
+ * Every subscriber keeps its own watermark and is caught up from the change feed, so
+ * pushed events have exactly the order and watermarks of {@code GET /changes}. Each batch
+ * of changes the sequencer numbers triggers a catch-up; a periodic poll also picks up
+ * changes numbered by other instances and keeps idle connections alive.
+ */
+@Slf4j
+@Component
+public class EmployeeChangeStream {
+
+    private final EmployeeChangeFeedService changeFeedService;
+    private final long timeoutMs;
+    private final int batchSize;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    // Sends can block on slow clients, so each catch-up runs on its own virtual thread
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    public EmployeeChangeStream(EmployeeChangeFeedService changeFeedService,
+                                @Value("${employee.changes.sse-timeout:30m}") Duration timeout,
+                                @Value("${employee.changes.sse-batch-size:500}") int batchSize) {
+        this.changeFeedService = changeFeedService;
+        this.timeoutMs = timeout.toMillis();
+        this.batchSize = batchSize;
+    }
+
+    private static final class Subscriber {
+        final SseEmitter emitter;
+        final AtomicBoolean queued = new AtomicBoolean();
+        // Not synchronized: a virtual thread blocked in a send would pin its carrier
+        final ReentrantLock lock = new ReentrantLock();
+        String watermark;
+
+        Subscriber(SseEmitter emitter, String watermark) {
+            this.emitter = emitter;
+            this.watermark = watermark;
+        }
+    }
+
+    /**
+     * Open a stream that first replays the changes after {@code since}, then follows new ones.
+     * Without {@code since} it starts at the newest change and only follows.
+     */
+    public SseEmitter subscribe(String since) {
+        String watermark;
+        if (since != null && !since.isBlank()) {
+            // Validate up front so a bad watermark is a 400, not a broken stream
+            CursorCodec.decodeWatermark(since);
+            watermark = since;
+        } else {
+            watermark = changeFeedService.headWatermark();
+        }
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, watermark);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        log.info("Change stream subscribed ({} open)", subscribers.size());
+        catchUp(subscriber, false);
+        return emitter;
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    @EventListener
+    public void onChangesSequenced(EmployeeChangesSequencedEvent event) {
+        subscribers.forEach(subscriber -> catchUp(subscriber, false));
+    }
+
+    @Scheduled(fixedDelayString = "${employee.changes.poll-interval-ms:5000}")
+    public void poll() {
+        subscribers.forEach(subscriber -> catchUp(subscriber, true));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        senders.shutdownNow();
+    }
+
+    private void catchUp(Subscriber subscriber, boolean heartbeat) {
+        // Coalesce: one queued catch-up per subscriber is enough, it reads up to the latest change
+        if (subscriber.queued.compareAndSet(false, true)) {
+            senders.execute(() -> {
+                subscriber.queued.set(false);
+                send(subscriber, heartbeat);
+            });
+        }
+    }
+
+    private void send(Subscriber subscriber, boolean heartbeat) {
+        subscriber.lock.lock();
+        try {
+            boolean sent = false;
+            EmployeeChangePageDTO page;
+            do {
+                page = changeFeedService.getChanges(subscriber.watermark, batchSize);
+                for (EmployeeChangeDTO change : page.getItems()) {
+                    subscriber.emitter.send(SseEmitter.event()
+                            .id(EmployeeChangeFeedServiceImpl.watermarkOf(change))
+                            .name("change")
+                            .data(change));
+                    sent = true;
+                }
+                subscriber.watermark = page.getNextWatermark();
+            } while (page.isHasMore());
+            if (heartbeat && !sent) {
+                subscriber.emitter.send(SseEmitter.event().comment("keepalive"));
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("Dropping change stream subscriber: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            subscriber.emitter.completeWithError(e);
+        } catch (ChangesExpiredException e) {
+            // Retrying cannot help; tell the client to resync, then close
+            log.info("Closing change stream behind the retained log: {}", e.getMessage());
+            subscribers.remove(subscriber);
+            try {
+                subscriber.emitter.send(SseEmitter.event().name("expired").data(e.getMessage()));
+                subscriber.emitter.complete();
+            } catch (IOException | IllegalStateException sendFailed) {
+                subscriber.emitter.completeWithError(sendFailed);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Change stream catch-up failed, retrying on next poll: {}", e.getMessage());
+        } finally {
+            subscriber.lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.employee.services;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+
+/**
+ * Published by the service whenever an employee is created, updated or soft deleted.
+ * {@code employee} holds the new state, or is null when the employee was deleted.
+ * Listeners that keep derived state should react after the transaction commits.
+ */
+public record EmployeeChangedEvent(Long id, EmployeeResponseDTO employee) {
+
+    public static EmployeeChangedEvent saved(EmployeeResponseDTO employee) {
+        return new EmployeeChangedEvent(employee.getId(), employee);
+    }
+
+    public static EmployeeChangedEvent deleted(Long id) {
+        return new EmployeeChangedEvent(id, null);
+    }
+
+    public boolean isDeleted() {
+        return employee == null;
+    }
+}
@@ -0,0 +1,9 @@
+package com.example.employee.services;
+
+/**
+ * Published by {@link EmployeeChangeSequencer}, on its own thread, after it numbered
+ * {@code count} new changes, so change-feed readers in this instance can catch up
+ * without waiting to poll.
+ */
+public record EmployeeChangesSequencedEvent(int count) {
+}
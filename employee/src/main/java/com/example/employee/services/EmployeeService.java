@@ -3,9 +3,13 @@
 	
 	
 	import java.util.List;
+	import java.util.function.Consumer;
 	
 	import org.springframework.stereotype.Service;
 	
+	import com.example.employee.dto.EmployeeFilterDTO;
+import com.example.employee.dto.EmployeePageResponseDTO;
+	import com.example.employee.dto.EmployeePatchDTO;
 	import com.example.employee.dto.EmployeeRequestDTO;
 	import com.example.employee.dto.EmployeeResponseDTO;
 	
@@ -17,16 +21,37 @@
 	
 	    // Get employee by ID
 	    EmployeeResponseDTO getEmployeeById(Long id);
+
+	    // Current version of an employee for a conditional GET, or null when it cannot be told without reading the row
+	    Long getEmployeeVersion(Long id);
 	
 	    // Get all employees (excluding soft-deleted ones)
 	    List<EmployeeResponseDTO> getAllEmployees();
 	
+	    // Get one keyset page of employees after the given cursor (null for the first page)
+	    EmployeePageResponseDTO getEmployeesPage(String cursor, int limit);
+
+	    // Get one keyset page of employees matching the filter after the given cursor
+	    EmployeePageResponseDTO getEmployeesPage(EmployeeFilterDTO filter, String cursor, int limit);
+	
+	    // Stream all employees (excluding soft-deleted ones) to the consumer without materializing them
+	    void streamAllEmployees(Consumer<EmployeeResponseDTO> consumer);
+	
 	    // Update employee details
 	    EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO request);
 	
+	    // Update employee details only if the stored version still equals expectedVersion (null = any)
+	    EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO request, Long expectedVersion);
+	
+	    // Update only the fields present in the patch, optionally guarded by expectedVersion
+	    EmployeeResponseDTO patchEmployee(Long id, EmployeePatchDTO patch, Long expectedVersion);
+	
 	    // Soft delete (mark as deleted)
 	    void deleteEmployee(Long id);
 	
 	    // Search employees by name (case-insensitive)
 	    List<EmployeeResponseDTO> searchEmployeesByName(String name);
+	
+	    // Search employees by name (case-insensitive), best matches first, at most limit results
+	    List<EmployeeResponseDTO> searchEmployeesByName(String name, int limit);
 	}
\ No newline at end of file
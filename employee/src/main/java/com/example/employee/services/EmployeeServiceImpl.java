@@ -4,16 +4,42 @@ package com.example.employee.services;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.example.employee.cache.EmployeeCache;
+import com.example.employee.cache.EmployeeEmailRegistry;
+import com.example.employee.cache.EmployeeReadCoalescer;
+import com.example.employee.dto.EmployeeFilterDTO;
+import com.example.employee.dto.EmployeePageResponseDTO;
+import com.example.employee.dto.EmployeePatchDTO;
 import com.example.employee.dto.EmployeeRequestDTO;
 import com.example.employee.dto.EmployeeResponseDTO;
 import com.example.employee.entity.Employee;
+import com.example.employee.exception.DuplicateEmailException;
+import com.example.employee.exception.PreconditionFailedException;
+import com.example.employee.metrics.EmployeeMetrics;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import com.example.employee.repository.EmployeeJdbcRepository;
 import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.EmployeeWriteBehindQueue;
+import com.example.employee.search.EmployeeNameIndex;
 
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -22,52 +48,152 @@ import java.util.stream.Collectors;
 @Transactional
 public class EmployeeServiceImpl implements EmployeeService {
 
+    static final int MAX_PAGE_SIZE = 500;
+    static final int DEFAULT_SEARCH_LIMIT = 100;
+
     private final EmployeeRepository employeeRepository;
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final EmployeeChangeLogRepository changeLogRepository;
+    private final EmployeeCache employeeCache;
+    private final EmployeeReadCoalescer readCoalescer;
+    private final EmployeeEmailRegistry emailRegistry;
+    private final EmployeeNameIndex employeeNameIndex;
+    private final EmployeeMetrics employeeMetrics;
+    private final EmployeeWriteBehindQueue writeBehindQueue;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Create a new employee and save to DB.
-     * Validates duplicate email before saving.
+     * The email registry answers most duplicate checks without a query; only a possible
+     * match is looked up. The unique constraint stays the final arbiter.
      */
 	    @Override
 	    public EmployeeResponseDTO createEmployee(EmployeeRequestDTO request) {
 	        log.info("Creating new employee with email: {}", request.getEmail());
 	
-	        employeeRepository.findByEmail(request.getEmail()).ifPresent(emp -> {
-	            throw new IllegalArgumentException("Employee with email already exists: " + request.getEmail());
-	        });
+	        EmployeeEmailRegistry.Check check = emailRegistry.check(request.getEmail());
+	        employeeMetrics.recordEmailCheck(check.name().toLowerCase(Locale.ROOT));
+	        if (check == EmployeeEmailRegistry.Check.TAKEN) {
+	            throw new DuplicateEmailException(request.getEmail());
+	        }
+	        if (check == EmployeeEmailRegistry.Check.UNKNOWN) {
+	            employeeRepository.findByEmail(request.getEmail()).ifPresent(emp -> {
+	                emailRegistry.recordTaken(emp.getEmail(), emp.getId());
+	                throw new DuplicateEmailException(request.getEmail());
+	            });
+	        }
 	
 	        Employee employee = new Employee();
 	        employee.setName(request.getName());
 	        employee.setEmail(request.getEmail());
 	        employee.setPosition(request.getPosition());
 	
-	        Employee saved = employeeRepository.save(employee);
-	        return mapToResponse(saved);
+	        Employee saved;
+	        try {
+	            // Flush now so a uq_employees_email violation surfaces here, not at commit
+	            saved = employeeRepository.saveAndFlush(employee);
+	        } catch (DataIntegrityViolationException e) {
+	            throw DuplicateEmailException.from(e, request.getEmail());
+	        }
+	        changeLogRepository.record(List.of(saved.getId()));
+	        EmployeeResponseDTO response = mapToResponse(saved);
+	        eventPublisher.publishEvent(EmployeeChangedEvent.saved(response));
+	        return response;
 	    }
 
     /**
-     * Find employee by ID.
+     * Find employee by ID, served from the employee cache when possible.
+     * Concurrent misses for the same ID share one query.
      */
     @Override
     @Transactional(readOnly = true)
     public EmployeeResponseDTO getEmployeeById(Long id) {
-        Employee employee = employeeRepository.findById(id)
-                .filter(emp -> !emp.getIsDeleted())
+        return employeeCache.get(id, missing -> readCoalescer.loadById(missing, () -> loadActive(missing)))
                 .orElseThrow(() -> new NoSuchElementException("Employee not found with ID: " + id));
+    }
 
-        return mapToResponse(employee);
+    /**
+     * Current version of the employee: the cached copy's when there is one, otherwise
+     * a version-only lookup that neither reads the row nor fills the cache.
+     * Null when the employee is missing or deleted.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Long getEmployeeVersion(Long id) {
+        EmployeeResponseDTO cached = employeeCache.getIfPresent(id);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+        if (writeBehindQueue.isPendingDelete(id)) {
+            return null;
+        }
+        return employeeRepository.findActiveVersionById(id).orElse(null);
     }
 
     /**
-     * Get all employees excluding deleted ones.
+     * Get all employees excluding deleted ones, projected directly into DTOs.
      */
     @Override
     @Transactional(readOnly = true)
     public List<EmployeeResponseDTO> getAllEmployees() {
-        return employeeRepository.findByIsDeletedFalse()
-                .stream()
-                .map(this::mapToResponse)
-                .collect(Collectors.toList());
+        List<EmployeeResponseDTO> employees = employeeRepository.findAllActiveProjected();
+        employeeMetrics.recordResultSize("all", employees.size());
+        return employees;
+    }
+
+    /**
+     * Get one keyset page of employees ordered by id.
+     * Fetches one extra row to know whether a next page exists.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeePageResponseDTO getEmployeesPage(String cursor, int limit) {
+        return getEmployeesPage(null, cursor, limit);
+    }
+
+    /**
+     * Get one keyset page of employees matching the filter, ordered by id.
+     * Without filters this is the JPA projection; with filters only the set ones
+     * become predicates of a JDBC query.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public EmployeePageResponseDTO getEmployeesPage(EmployeeFilterDTO filter, String cursor, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        if (filter != null && filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && !filter.getCreatedFrom().isBefore(filter.getCreatedTo())) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        long afterId = (cursor == null || cursor.isBlank()) ? 0L : CursorCodec.decodeId(cursor);
+
+        List<EmployeeResponseDTO> items = filter == null || filter.isEmpty()
+                ? employeeRepository.findActivePageProjected(afterId, PageRequest.ofSize(pageSize + 1))
+                : employeeJdbcRepository.findActivePage(filter, afterId, pageSize + 1);
+
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            nextCursor = CursorCodec.encodeId(items.get(pageSize - 1).getId());
+        }
+        employeeMetrics.recordResultSize(filter == null || filter.isEmpty() ? "page" : "filtered-page", items.size());
+        return new EmployeePageResponseDTO(items, nextCursor);
+    }
+
+    /**
+     * Stream all employees excluding deleted ones, row by row from a JDBC cursor.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllEmployees(Consumer<EmployeeResponseDTO> consumer) {
+        int[] rows = {0};
+        employeeJdbcRepository.streamActive(employee -> {
+            rows[0]++;
+            consumer.accept(employee);
+        });
+        employeeMetrics.recordResultSize("stream", rows[0]);
     }
 
     /**
@@ -75,33 +201,167 @@ public class EmployeeServiceImpl implements EmployeeService {
      */
     @Override
     public EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO request) {
-        log.info("Updating employee with ID: {}", id);
+        return updateEmployee(id, request, null);
+    }
+
+    /**
+     * Update employee details by ID with one UPDATE and no prior SELECT.
+     * With an expected version (If-Match) the row is only written if it is still at that
+     * version, so concurrent writers cannot silently overwrite each other. The response is
+     * built from the request plus the cached createdAt; only a cache miss needs a read-back.
+     * Without one the update is unconditional and can only fail with 404.
+     */
+    @Override
+    public EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO request, Long expectedVersion) {
+        log.info("Updating employee with ID: {} (expected version: {})", id, expectedVersion);
+
+        rejectPendingDelete(id);
+        if (expectedVersion == null) {
+            return updateUnconditionally(id, request);
+        }
+        // updated_at is a TIMESTAMP without fractional seconds: truncate here so the
+        // response and cache entry carry exactly the value the row stores
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        int updated;
+        try {
+            updated = employeeRepository.updateActiveIfVersion(id, request.getName(), request.getEmail(),
+                    request.getPosition(), now, expectedVersion);
+        } catch (DataIntegrityViolationException e) {
+            throw DuplicateEmailException.from(e, request.getEmail());
+        }
+        if (updated == 0) {
+            // Failure path only: tell a missing employee (404) from a stale version (412)
+            EmployeeResponseDTO current = employeeRepository.findActiveProjectedById(id)
+                    .orElseThrow(() -> new NoSuchElementException("Employee not found with ID: " + id));
+            throw new PreconditionFailedException("Employee " + id + " is at version "
+                    + current.getVersion() + ", not " + expectedVersion);
+        }
+        changeLogRepository.record(List.of(id));
+
+        EmployeeResponseDTO cached = employeeCache.getIfPresent(id);
+        EmployeeResponseDTO response = cached != null
+                ? EmployeeResponseDTO.builder()
+                        .id(id)
+                        .name(request.getName())
+                        .email(request.getEmail())
+                        .position(request.getPosition())
+                        .createdAt(cached.getCreatedAt())
+                        .updatedAt(now)
+                        .version(expectedVersion + 1)
+                        .build()
+                : readBack(id);
+        eventPublisher.publishEvent(EmployeeChangedEvent.saved(response));
+        return response;
+    }
 
-        Employee employee = employeeRepository.findById(id)
-                .filter(emp -> !emp.getIsDeleted())
+    /**
+     * Plain update for a PUT without If-Match: whatever version the row is at is
+     * overwritten, and the row is read back in the same transaction for its
+     * createdAt and new version.
+     */
+    private EmployeeResponseDTO updateUnconditionally(Long id, EmployeeRequestDTO request) {
+        int updated;
+        try {
+            updated = employeeRepository.updateActive(id, request.getName(), request.getEmail(),
+                    request.getPosition(), LocalDateTime.now());
+        } catch (DataIntegrityViolationException e) {
+            throw DuplicateEmailException.from(e, request.getEmail());
+        }
+        if (updated == 0) {
+            throw new NoSuchElementException("Employee not found with ID: " + id);
+        }
+        changeLogRepository.record(List.of(id));
+        EmployeeResponseDTO response = readBack(id);
+        eventPublisher.publishEvent(EmployeeChangedEvent.saved(response));
+        return response;
+    }
+
+    /**
+     * A queued write-behind delete already hides the employee, and its flush would
+     * delete the row over any update made meanwhile, so writes to it are 404.
+     */
+    private void rejectPendingDelete(Long id) {
+        if (writeBehindQueue.isPendingDelete(id)) {
+            throw new NoSuchElementException("Employee not found with ID: " + id);
+        }
+    }
+
+    private EmployeeResponseDTO readBack(Long id) {
+        return employeeRepository.findActiveProjectedById(id)
+                .orElseThrow(() -> new NoSuchElementException("Employee not found with ID: " + id));
+    }
+
+    /**
+     * Partially update an employee. Only changed fields are set on the entity, and with
+     * {@code @DynamicUpdate} only those columns (plus updated_at and version) are written;
+     * the version check in the UPDATE catches concurrent writers.
+     */
+    @Override
+    public EmployeeResponseDTO patchEmployee(Long id, EmployeePatchDTO patch, Long expectedVersion) {
+        log.info("Patching employee with ID: {} (expected version: {})", id, expectedVersion);
+
+        rejectPendingDelete(id);
+        Employee employee = employeeRepository.findByIdAndIsDeletedFalse(id)
                 .orElseThrow(() -> new NoSuchElementException("Employee not found with ID: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(employee.getVersion())) {
+            throw new PreconditionFailedException("Employee " + id + " is at version "
+                    + employee.getVersion() + ", not " + expectedVersion);
+        }
 
-        employee.setName(request.getName());
-        employee.setEmail(request.getEmail());
-        employee.setPosition(request.getPosition());
+        boolean changed = false;
+        if (patch.getName() != null && !patch.getName().equals(employee.getName())) {
+            employee.setName(patch.getName());
+            changed = true;
+        }
+        if (patch.getEmail() != null && !patch.getEmail().equals(employee.getEmail())) {
+            employee.setEmail(patch.getEmail());
+            changed = true;
+        }
+        if (patch.getPosition() != null && !patch.getPosition().equals(employee.getPosition())) {
+            employee.setPosition(patch.getPosition());
+            changed = true;
+        }
+        if (!changed) {
+            return mapToResponse(employee);
+        }
 
-        Employee updated = employeeRepository.save(employee);
-        return mapToResponse(updated);
+        Employee updated;
+        try {
+            updated = employeeRepository.saveAndFlush(employee);
+        } catch (DataIntegrityViolationException e) {
+            throw DuplicateEmailException.from(e, patch.getEmail());
+        } catch (OptimisticLockingFailureException e) {
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Employee " + id + " changed since version " + expectedVersion);
+            }
+            throw e;
+        }
+        changeLogRepository.record(List.of(id));
+        EmployeeResponseDTO response = mapToResponse(updated);
+        eventPublisher.publishEvent(EmployeeChangedEvent.saved(response));
+        return response;
     }
 
     /**
      * Soft delete employee by ID (mark as deleted instead of removing).
+     * One conditional UPDATE, or a queued write when write-behind is enabled.
      */
     @Override
     public void deleteEmployee(Long id) {
         log.info("Soft deleting employee with ID: {}", id);
 
-        Employee employee = employeeRepository.findById(id)
-                .filter(emp -> !emp.getIsDeleted())
-                .orElseThrow(() -> new NoSuchElementException("Employee not found with ID: " + id));
-
-        employee.setIsDeleted(true);
-        employeeRepository.save(employee);
+        if (writeBehindQueue.isEnabled()) {
+            // Existence check is usually a cache hit; the UPDATE itself is batched later
+            employeeCache.get(id, this::loadActive)
+                    .orElseThrow(() -> new NoSuchElementException("Employee not found with ID: " + id));
+            writeBehindQueue.enqueueSoftDelete(id);
+        } else {
+            if (employeeRepository.softDeleteById(id, LocalDateTime.now()) == 0) {
+                throw new NoSuchElementException("Employee not found with ID: " + id);
+            }
+            changeLogRepository.record(List.of(id));
+        }
+        eventPublisher.publishEvent(EmployeeChangedEvent.deleted(id));
     }
 
     /**
@@ -110,17 +370,66 @@ public class EmployeeServiceImpl implements EmployeeService {
     @Override
     @Transactional(readOnly = true)
     public List<EmployeeResponseDTO> searchEmployeesByName(String name) {
-        return employeeRepository.findByNameContainingIgnoreCase(name)
-                .stream()
-                .filter(emp -> !emp.getIsDeleted())
-                .map(this::mapToResponse)
+        return searchEmployeesByName(name, DEFAULT_SEARCH_LIMIT);
+    }
+
+    /**
+     * Search employees by name using the in-memory name index, hydrating only the
+     * matched ids. Falls back to a database LIKE query until the index is built.
+     * Concurrent identical searches share one execution.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<EmployeeResponseDTO> searchEmployeesByName(String name, int limit) {
+        int maxResults = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return readCoalescer.search(name, maxResults, () -> search(name, maxResults));
+    }
+
+    private List<EmployeeResponseDTO> search(String name, int maxResults) {
+        if (!employeeNameIndex.isReady()) {
+            List<EmployeeResponseDTO> results =
+                    employeeRepository.searchActiveProjected(name, PageRequest.ofSize(maxResults));
+            employeeMetrics.recordSearch("database", !results.isEmpty());
+            employeeMetrics.recordResultSize("search", results.size());
+            return results;
+        }
+
+        List<Long> ids = employeeNameIndex.search(name, maxResults);
+        Map<Long, EmployeeResponseDTO> found = employeeCache.getAll(ids, this::loadActiveByIds);
+        List<EmployeeResponseDTO> results = ids.stream()
+                .map(found::get)
+                .filter(Objects::nonNull)
                 .collect(Collectors.toList());
+        employeeMetrics.recordSearch("index", !results.isEmpty());
+        employeeMetrics.recordResultSize("search", results.size());
+        return results;
+    }
+
+    /**
+     * Cache loader: the active employee with this ID, or null if missing or deleted.
+     */
+    private EmployeeResponseDTO loadActive(Long id) {
+        if (writeBehindQueue.isPendingDelete(id)) {
+            return null;
+        }
+        return employeeRepository.findActiveProjectedById(id).orElse(null);
+    }
+
+    /**
+     * Bulk cache loader: the active employees among these IDs, keyed by ID.
+     */
+    private Map<Long, EmployeeResponseDTO> loadActiveByIds(Set<? extends Long> ids) {
+        return employeeRepository.findActiveProjectedByIdIn(new ArrayList<Long>(ids))
+                .stream()
+                // The name index only drops a write-behind delete once it is flushed
+                .filter(employee -> !writeBehindQueue.isPendingDelete(employee.getId()))
+                .collect(Collectors.toMap(EmployeeResponseDTO::getId, Function.identity()));
     }
 
     /**
      * Utility method to map Entity → ResponseDTO.
      */
-    private EmployeeResponseDTO mapToResponse(Employee employee) {
+    EmployeeResponseDTO mapToResponse(Employee employee) {
         EmployeeResponseDTO dto = new EmployeeResponseDTO();
         dto.setId(employee.getId());
         dto.setName(employee.getName());
@@ -128,6 +437,7 @@ public class EmployeeServiceImpl implements EmployeeService {
         dto.setPosition(employee.getPosition());
         dto.setCreatedAt(employee.getCreatedAt());
         dto.setUpdatedAt(employee.getUpdatedAt());
+        dto.setVersion(employee.getVersion());
         return dto;
     }
 }
@@ -0,0 +1,9 @@
+package com.example.employee.services;
+
+import com.example.employee.dto.EmployeeStatsDTO;
+
+public interface EmployeeStatsService {
+
+    // Headcount of active employees by position and created_at month
+    EmployeeStatsDTO getStats();
+}
@@ -0,0 +1,26 @@
+package com.example.employee.services;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.employee.dto.EmployeeStatsDTO;
+import com.example.employee.stats.EmployeeStatsRollup;
+
+import lombok.RequiredArgsConstructor;
+
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class EmployeeStatsServiceImpl implements EmployeeStatsService {
+
+    private final EmployeeStatsRollup statsRollup;
+
+    /**
+     * Headcounts from the in-memory rollup; one GROUP BY query until it is built.
+     */
+    @Override
+    public EmployeeStatsDTO getStats() {
+        EmployeeStatsDTO stats = statsRollup.snapshot();
+        return stats != null ? stats : statsRollup.query();
+    }
+}
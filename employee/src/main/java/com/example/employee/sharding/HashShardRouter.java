@@ -0,0 +1,35 @@
+package com.example.employee.sharding;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+/**
+ * Spreads every tenant's employees over all shards by a hash of the employee id, for
+ * tenants too large for one database. Lookups by id still touch one shard; lists and
+ * searches visit all of them.
+ */
+public class HashShardRouter implements ShardRouter {
+
+    private final int shardCount;
+    private final List<Integer> allShards;
+
+    public HashShardRouter(int shardCount) {
+        this.shardCount = shardCount;
+        this.allShards = IntStream.range(0, shardCount).boxed().toList();
+    }
+
+    @Override
+    public int shardFor(String tenant, long id) {
+        return ShardRouter.bucket(ShardRouter.mix(id), shardCount);
+    }
+
+    @Override
+    public List<Integer> shardsFor(String tenant) {
+        return allShards;
+    }
+
+    @Override
+    public int emailShard(String tenant, String email) {
+        return ShardRouter.bucket(ShardRouter.mix(31L * tenant.hashCode() + email.hashCode()), shardCount);
+    }
+}
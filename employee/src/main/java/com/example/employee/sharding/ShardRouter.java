@@ -0,0 +1,42 @@
+package com.example.employee.sharding;
+
+import java.util.List;
+
+/**
+ * Decides which shard database holds an employee. Shards are numbered from 0 in
+ * the order of {@code employee.sharding.shards}.
+ */
+public interface ShardRouter {
+
+    /**
+     * The shard that holds, or will hold, the tenant's employee with this id.
+     */
+    int shardFor(String tenant, long id);
+
+    /**
+     * The shards a query over all of the tenant's employees has to visit.
+     */
+    List<Integer> shardsFor(String tenant);
+
+    /**
+     * The shard that records the tenant's claim on a (lower-cased) email, used when the
+     * tenant's employees span several shards and no single unique key covers them.
+     */
+    int emailShard(String tenant, String email);
+
+    /**
+     * MurmurHash3's 64-bit finalizer: spreads sequential ids and similar keys evenly.
+     */
+    static long mix(long value) {
+        value ^= value >>> 33;
+        value *= 0xff51afd7ed558ccdL;
+        value ^= value >>> 33;
+        value *= 0xc4ceb9fe1a85ec53L;
+        value ^= value >>> 33;
+        return value;
+    }
+
+    static int bucket(long hash, int shardCount) {
+        return (int) Math.floorMod(hash, (long) shardCount);
+    }
+}
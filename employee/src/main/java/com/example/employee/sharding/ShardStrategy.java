@@ -0,0 +1,11 @@
+package com.example.employee.sharding;
+
+/**
+ * How employees are placed on the shard databases.
+ */
+public enum ShardStrategy {
+    // All employees of a tenant live on one shard, mapped explicitly or by a hash of the tenant
+    TENANT,
+    // Employees of every tenant spread over all shards by a hash of their id
+    HASH
+}
@@ -0,0 +1,167 @@
+package com.example.employee.sharding;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import com.example.employee.dto.EmployeeFilterDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.repository.EmployeeJdbcRepository;
+
+import io.micrometer.core.annotation.Timed;
+
+/**
+ * JDBC access to the employees tables of every shard (schema in
+ * {@code migrations/shards}). Each call names its shard and tenant, and every
+ * statement filters on tenant_id. Statements touch one row or read one shard,
+ * so they run in auto-commit mode.
+ */
+@Timed(value = "employee.sharding.jdbc", description = "Sharded employee JDBC calls")
+public class ShardedEmployeeRepository implements AutoCloseable {
+
+    private static final String SELECT_ACTIVE =
+            "SELECT id, name, email, position, created_at, updated_at, version "
+            + "FROM employees WHERE tenant_id = :tenant AND is_deleted = FALSE";
+
+    private static final String INSERT =
+            "INSERT INTO employees (id, tenant_id, name, email, position, created_at, updated_at, is_deleted, version) "
+            + "VALUES (:id, :tenant, :name, :email, :position, :now, :now, FALSE, 0)";
+
+    private static final String UPDATE_IF_VERSION =
+            "UPDATE employees SET name = :name, email = :email, position = :position, updated_at = :now, "
+            + "version = version + 1 WHERE id = :id AND tenant_id = :tenant AND is_deleted = FALSE AND version = :version";
+
+    private static final String SOFT_DELETE =
+            "UPDATE employees SET is_deleted = TRUE, updated_at = :now, version = version + 1 "
+            + "WHERE id = :id AND tenant_id = :tenant AND is_deleted = FALSE";
+
+    private static final String INSERT_CLAIM =
+            "INSERT INTO employee_email_claims (tenant_id, email, employee_id) VALUES (:tenant, :email, :id)";
+
+    private static final String DELETE_CLAIM =
+            "DELETE FROM employee_email_claims WHERE tenant_id = :tenant AND email = :email AND employee_id = :id";
+
+    private final List<DataSource> dataSources;
+    private final List<NamedParameterJdbcTemplate> shards;
+
+    public ShardedEmployeeRepository(List<DataSource> dataSources) {
+        this.dataSources = List.copyOf(dataSources);
+        this.shards = dataSources.stream().map(NamedParameterJdbcTemplate::new).toList();
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public Optional<EmployeeResponseDTO> findActive(int shard, String tenant, long id) {
+        return shards.get(shard).query(SELECT_ACTIVE + " AND id = :id",
+                        Map.of("tenant", tenant, "id", id), (rs, rowNum) -> mapRow(rs))
+                .stream()
+                .findFirst();
+    }
+
+    /**
+     * One keyset page of the tenant's active employees on this shard after {@code afterId},
+     * in id order, with the same filters as the single-database list.
+     */
+    public List<EmployeeResponseDTO> findActivePage(int shard, String tenant, EmployeeFilterDTO filter,
+                                                    long afterId, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("tenant", tenant)
+                .addValue("afterId", afterId);
+        String sql = SELECT_ACTIVE + " AND id > :afterId"
+                + EmployeeJdbcRepository.filterPredicates(filter, params) + " ORDER BY id LIMIT :limit";
+        params.addValue("limit", limit);
+        return shards.get(shard).query(sql, params, (rs, rowNum) -> mapRow(rs));
+    }
+
+    /**
+     * Case-insensitive substring match on the name, in id order, like the database search
+     * of the single-database service.
+     */
+    public List<EmployeeResponseDTO> searchActive(int shard, String tenant, String name, int limit) {
+        return shards.get(shard).query(SELECT_ACTIVE
+                        + " AND LOWER(name) LIKE LOWER(CONCAT('%', :name, '%')) ORDER BY id LIMIT :limit",
+                Map.of("tenant", tenant, "name", name, "limit", limit), (rs, rowNum) -> mapRow(rs));
+    }
+
+    /**
+     * Insert an employee with a caller-assigned id. Throws DuplicateKeyException when
+     * the email is taken within the tenant on this shard.
+     */
+    public void insert(int shard, String tenant, long id, EmployeeRequestDTO employee, LocalDateTime now) {
+        shards.get(shard).update(INSERT, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("tenant", tenant)
+                .addValue("name", employee.getName())
+                .addValue("email", employee.getEmail())
+                .addValue("position", employee.getPosition())
+                .addValue("now", Timestamp.valueOf(now)));
+    }
+
+    /**
+     * Update an active employee only if it is still at {@code version}.
+     * Returns 0 when it is missing, deleted or at another version.
+     */
+    public int updateIfVersion(int shard, String tenant, long id, String name, String email, String position,
+                               LocalDateTime now, long version) {
+        return shards.get(shard).update(UPDATE_IF_VERSION, new MapSqlParameterSource()
+                .addValue("id", id)
+                .addValue("tenant", tenant)
+                .addValue("name", name)
+                .addValue("email", email)
+                .addValue("position", position)
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("version", version));
+    }
+
+    public int softDelete(int shard, String tenant, long id, LocalDateTime now) {
+        return shards.get(shard).update(SOFT_DELETE, Map.of("id", id, "tenant", tenant, "now", Timestamp.valueOf(now)));
+    }
+
+    /**
+     * Record that the employee owns the email within the tenant. Throws
+     * DuplicateKeyException when another employee of the tenant already does.
+     */
+    public void claimEmail(int shard, String tenant, String email, long employeeId) {
+        shards.get(shard).update(INSERT_CLAIM, Map.of("tenant", tenant, "email", email, "id", employeeId));
+    }
+
+    /**
+     * Give up the employee's claim on the email; a claim held by another employee is left alone.
+     */
+    public void releaseEmail(int shard, String tenant, String email, long employeeId) {
+        shards.get(shard).update(DELETE_CLAIM, Map.of("tenant", tenant, "email", email, "id", employeeId));
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource dataSource : dataSources) {
+            if (dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private static EmployeeResponseDTO mapRow(ResultSet rs) throws SQLException {
+        return EmployeeResponseDTO.builder()
+                .id(rs.getLong("id"))
+                .name(rs.getString("name"))
+                .email(rs.getString("email"))
+                .position(rs.getString("position"))
+                .createdAt(rs.getObject("created_at", LocalDateTime.class))
+                .updatedAt(rs.getObject("updated_at", LocalDateTime.class))
+                .version(rs.getLong("version"))
+                .build();
+    }
+}
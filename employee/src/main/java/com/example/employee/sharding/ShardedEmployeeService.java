@@ -0,0 +1,364 @@
+package com.example.employee.sharding;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.example.employee.dto.EmployeeFilterDTO;
+import com.example.employee.dto.EmployeePageResponseDTO;
+import com.example.employee.dto.EmployeePatchDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.exception.DuplicateEmailException;
+import com.example.employee.exception.PreconditionFailedException;
+import com.example.employee.id.SnowflakeIdGenerator;
+import com.example.employee.metrics.EmployeeMetrics;
+import com.example.employee.services.CursorCodec;
+import com.example.employee.services.EmployeeService;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link EmployeeService} over several shard databases, for the tenant of the current
+ * request. Reads and writes of one employee go to the shard the router picks for its id;
+ * lists and searches query every shard the tenant spans in parallel and merge the results
+ * by id, so keyset cursors work as on a single database.
+ * <p>
+ * When a tenant spans several shards, its emails are claimed in
+ * {@code employee_email_claims} before a row is written, which keeps them unique
+ * within the tenant. Caches, the name index and change events of the
+ * single-database service are not used.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class ShardedEmployeeService implements EmployeeService {
+
+    static final int MAX_PAGE_SIZE = 500;
+    static final int DEFAULT_SEARCH_LIMIT = 100;
+    static final int STREAM_BATCH_SIZE = 500;
+
+    private static final Comparator<EmployeeResponseDTO> BY_ID = Comparator.comparing(EmployeeResponseDTO::getId);
+
+    private final ShardedEmployeeRepository repository;
+    private final ShardRouter router;
+    private final SnowflakeIdGenerator idGenerator;
+    private final EmployeeMetrics employeeMetrics;
+    private final String defaultTenant;
+
+    /**
+     * Create an employee on the shard its new id maps to.
+     */
+    @Override
+    public EmployeeResponseDTO createEmployee(EmployeeRequestDTO request) {
+        String tenant = tenant();
+        long id = idGenerator.nextId();
+        int shard = router.shardFor(tenant, id);
+        log.info("Creating employee {} for tenant {} on shard {}", id, tenant, shard);
+
+        LocalDateTime now = LocalDateTime.now();
+        String claimed = claimEmail(tenant, request.getEmail(), id);
+        boolean inserted = false;
+        try {
+            repository.insert(shard, tenant, id, request, now);
+            inserted = true;
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateEmailException(request.getEmail());
+        } finally {
+            if (!inserted) {
+                releaseEmail(tenant, claimed, id);
+            }
+        }
+        return EmployeeResponseDTO.builder()
+                .id(id)
+                .name(request.getName())
+                .email(request.getEmail())
+                .position(request.getPosition())
+                .createdAt(now)
+                .updatedAt(now)
+                .version(0L)
+                .build();
+    }
+
+    @Override
+    public EmployeeResponseDTO getEmployeeById(Long id) {
+        return findActive(tenant(), id);
+    }
+
+    /**
+     * No cache here, so a conditional GET reads the row once and compares afterwards.
+     */
+    @Override
+    public Long getEmployeeVersion(Long id) {
+        return null;
+    }
+
+    @Override
+    public List<EmployeeResponseDTO> getAllEmployees() {
+        List<EmployeeResponseDTO> employees = new ArrayList<>();
+        streamAllEmployees(employees::add);
+        return employees;
+    }
+
+    @Override
+    public EmployeePageResponseDTO getEmployeesPage(String cursor, int limit) {
+        return getEmployeesPage(null, cursor, limit);
+    }
+
+    /**
+     * One keyset page merged from the tenant's shards: each shard returns its first
+     * {@code limit + 1} matches after the cursor, and the lowest ids overall make the page.
+     */
+    @Override
+    public EmployeePageResponseDTO getEmployeesPage(EmployeeFilterDTO filter, String cursor, int limit) {
+        if (limit < 1) {
+            throw new IllegalArgumentException("Page limit must be positive: " + limit);
+        }
+        if (filter != null && filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && !filter.getCreatedFrom().isBefore(filter.getCreatedTo())) {
+            throw new IllegalArgumentException("createdFrom must be before createdTo");
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        long afterId = (cursor == null || cursor.isBlank()) ? 0L : CursorCodec.decodeId(cursor);
+
+        List<EmployeeResponseDTO> items = page(tenant(), filter, afterId, pageSize + 1);
+        String nextCursor = null;
+        if (items.size() > pageSize) {
+            items = items.subList(0, pageSize);
+            nextCursor = CursorCodec.encodeId(items.get(pageSize - 1).getId());
+        }
+        employeeMetrics.recordResultSize(filter == null || filter.isEmpty() ? "page" : "filtered-page", items.size());
+        return new EmployeePageResponseDTO(items, nextCursor);
+    }
+
+    /**
+     * Stream the tenant's employees in id order, one merged keyset page at a time.
+     */
+    @Override
+    public void streamAllEmployees(Consumer<EmployeeResponseDTO> consumer) {
+        String tenant = tenant();
+        long afterId = 0L;
+        int rows = 0;
+        List<EmployeeResponseDTO> batch;
+        do {
+            batch = page(tenant, null, afterId, STREAM_BATCH_SIZE);
+            batch.forEach(consumer);
+            rows += batch.size();
+            if (!batch.isEmpty()) {
+                afterId = batch.get(batch.size() - 1).getId();
+            }
+        } while (batch.size() == STREAM_BATCH_SIZE);
+        employeeMetrics.recordResultSize("stream", rows);
+    }
+
+    @Override
+    public EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO request) {
+        return updateEmployee(id, request, null);
+    }
+
+    @Override
+    public EmployeeResponseDTO updateEmployee(Long id, EmployeeRequestDTO request, Long expectedVersion) {
+        log.info("Updating employee with ID: {} (expected version: {})", id, expectedVersion);
+        String tenant = tenant();
+        EmployeeResponseDTO current = findActive(tenant, id);
+        return write(tenant, current, request.getName(), request.getEmail(), request.getPosition(), expectedVersion);
+    }
+
+    @Override
+    public EmployeeResponseDTO patchEmployee(Long id, EmployeePatchDTO patch, Long expectedVersion) {
+        log.info("Patching employee with ID: {} (expected version: {})", id, expectedVersion);
+        String tenant = tenant();
+        EmployeeResponseDTO current = findActive(tenant, id);
+        String name = patch.getName() != null ? patch.getName() : current.getName();
+        String email = patch.getEmail() != null ? patch.getEmail() : current.getEmail();
+        String position = patch.getPosition() != null ? patch.getPosition() : current.getPosition();
+        if (name.equals(current.getName()) && email.equals(current.getEmail())
+                && position.equals(current.getPosition())) {
+            if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                throw stale(current, expectedVersion);
+            }
+            return current;
+        }
+        return write(tenant, current, name, email, position, expectedVersion);
+    }
+
+    /**
+     * Soft delete on the employee's shard. Its email claim stays, as a soft-deleted row
+     * keeps its email in the unique key too.
+     */
+    @Override
+    public void deleteEmployee(Long id) {
+        log.info("Soft deleting employee with ID: {}", id);
+        String tenant = tenant();
+        if (repository.softDelete(router.shardFor(tenant, id), tenant, id, LocalDateTime.now()) == 0) {
+            throw new NoSuchElementException("Employee not found with ID: " + id);
+        }
+    }
+
+    @Override
+    public List<EmployeeResponseDTO> searchEmployeesByName(String name) {
+        return searchEmployeesByName(name, DEFAULT_SEARCH_LIMIT);
+    }
+
+    /**
+     * Search every shard of the tenant in parallel; the lowest ids among all matches win,
+     * the same order as the single-database search.
+     */
+    @Override
+    public List<EmployeeResponseDTO> searchEmployeesByName(String name, int limit) {
+        String tenant = tenant();
+        int maxResults = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        List<Integer> shards = router.shardsFor(tenant);
+        List<EmployeeResponseDTO> results = merge(
+                scatter("search", shards, shard -> repository.searchActive(shard, tenant, name, maxResults)),
+                maxResults);
+        employeeMetrics.recordSearch("database", !results.isEmpty());
+        employeeMetrics.recordResultSize("search", results.size());
+        return results;
+    }
+
+    private EmployeeResponseDTO findActive(String tenant, long id) {
+        return repository.findActive(router.shardFor(tenant, id), tenant, id)
+                .orElseThrow(() -> new NoSuchElementException("Employee not found with ID: " + id));
+    }
+
+    /**
+     * Write new values over {@code current} with a compare-and-set on its version. A new
+     * email is claimed before the row changes; the old claim is released once it has.
+     */
+    private EmployeeResponseDTO write(String tenant, EmployeeResponseDTO current, String name, String email,
+                                      String position, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+            throw stale(current, expectedVersion);
+        }
+        long id = current.getId();
+        boolean emailChanged = !current.getEmail().equalsIgnoreCase(email);
+        String claimed = emailChanged ? claimEmail(tenant, email, id) : null;
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        try {
+            updated = repository.updateIfVersion(router.shardFor(tenant, id), tenant, id, name, email, position,
+                    now, current.getVersion());
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateEmailException(email);
+        } finally {
+            if (updated == 0) {
+                releaseEmail(tenant, claimed, id);
+            }
+        }
+        if (updated == 0) {
+            // Written or deleted by someone else since it was read
+            if (expectedVersion != null) {
+                throw new PreconditionFailedException("Employee " + id + " changed since version " + expectedVersion);
+            }
+            throw new OptimisticLockingFailureException("Employee " + id + " was changed concurrently");
+        }
+        if (claimed != null) {
+            releaseEmail(tenant, current.getEmail().toLowerCase(Locale.ROOT), id);
+        }
+        return EmployeeResponseDTO.builder()
+                .id(id)
+                .name(name)
+                .email(email)
+                .position(position)
+                .createdAt(current.getCreatedAt())
+                .updatedAt(now)
+                .version(current.getVersion() + 1)
+                .build();
+    }
+
+    private static PreconditionFailedException stale(EmployeeResponseDTO current, Long expectedVersion) {
+        return new PreconditionFailedException("Employee " + current.getId() + " is at version "
+                + current.getVersion() + ", not " + expectedVersion);
+    }
+
+    /**
+     * Claim the email for the employee when the tenant spans several shards. Returns the
+     * claimed, lower-cased email, or null when the tenant's one shard enforces uniqueness
+     * with its own unique key.
+     */
+    private String claimEmail(String tenant, String email, long employeeId) {
+        if (router.shardsFor(tenant).size() == 1) {
+            return null;
+        }
+        String normalized = email.toLowerCase(Locale.ROOT);
+        try {
+            repository.claimEmail(router.emailShard(tenant, normalized), tenant, normalized, employeeId);
+        } catch (DuplicateKeyException e) {
+            throw new DuplicateEmailException(email);
+        }
+        return normalized;
+    }
+
+    private void releaseEmail(String tenant, String claimed, long employeeId) {
+        if (claimed != null) {
+            repository.releaseEmail(router.emailShard(tenant, claimed), tenant, claimed, employeeId);
+        }
+    }
+
+    private List<EmployeeResponseDTO> page(String tenant, EmployeeFilterDTO filter, long afterId, int limit) {
+        List<Integer> shards = router.shardsFor(tenant);
+        return merge(scatter("page", shards,
+                shard -> repository.findActivePage(shard, tenant, filter, afterId, limit)), limit);
+    }
+
+    /**
+     * Run the query on each shard, in parallel when there is more than one.
+     */
+    private <T> List<T> scatter(String operation, List<Integer> shards, IntFunction<T> query) {
+        employeeMetrics.recordShardFanOut(operation, shards.size());
+        if (shards.size() == 1) {
+            return List.of(query.apply(shards.get(0)));
+        }
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<T>> futures = shards.stream()
+                    .map(shard -> executor.submit(() -> query.apply(shard)))
+                    .toList();
+            List<T> results = new ArrayList<>(futures.size());
+            for (Future<T> future : futures) {
+                results.add(future.get());
+            }
+            return results;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while querying shards", e);
+        }
+    }
+
+    /**
+     * The {@code limit} lowest ids across the per-shard results, each already in id order.
+     */
+    private static List<EmployeeResponseDTO> merge(List<List<EmployeeResponseDTO>> perShard, int limit) {
+        if (perShard.size() == 1) {
+            return perShard.get(0);
+        }
+        return perShard.stream()
+                .flatMap(List::stream)
+                .sorted(BY_ID)
+                .limit(limit)
+                .toList();
+    }
+
+    private String tenant() {
+        String tenant = TenantContext.current();
+        return tenant != null ? tenant : defaultTenant;
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.employee.sharding;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Shard databases for employees, numbered from 0 in the order listed. The number of
+ * shards and the tenant map decide where existing rows are looked up, so they must
+ * not change once data is written.
+ */
+@ConfigurationProperties("employee.sharding")
+public record ShardingProperties(
+        List<Shard> shards,
+        @DefaultValue("tenant") ShardStrategy strategy,
+        // Tenant to shard index for strategy=tenant; other tenants are placed by hash
+        Map<String, Integer> tenants,
+        // Tenant of requests without an X-Tenant-Id header
+        @DefaultValue("default") String defaultTenant,
+        @DefaultValue("10") int shardPoolSize) {
+
+    public record Shard(String url, String username, String password) {
+    }
+
+    public List<Shard> shards() {
+        return shards == null ? List.of() : shards;
+    }
+
+    public Map<String, Integer> tenants() {
+        return tenants == null ? Map.of() : tenants;
+    }
+}
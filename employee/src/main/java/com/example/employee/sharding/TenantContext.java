@@ -0,0 +1,25 @@
+package com.example.employee.sharding;
+
+/**
+ * The tenant of the current request, set by {@link TenantFilter}.
+ */
+final class TenantContext {
+
+    private static final ThreadLocal<String> TENANT = new ThreadLocal<>();
+
+    private TenantContext() {
+    }
+
+    static void set(String tenant) {
+        TENANT.set(tenant);
+    }
+
+    static void clear() {
+        TENANT.remove();
+    }
+
+    // Null outside a request or when the request named no tenant
+    static String current() {
+        return TENANT.get();
+    }
+}
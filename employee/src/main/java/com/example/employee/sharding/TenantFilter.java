@@ -0,0 +1,39 @@
+package com.example.employee.sharding;
+
+import java.io.IOException;
+import java.util.regex.Pattern;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Takes the tenant of each request from the {@code X-Tenant-Id} header; requests
+ * without it belong to the default tenant.
+ */
+public class TenantFilter extends OncePerRequestFilter {
+
+    static final String TENANT_HEADER = "X-Tenant-Id";
+
+    // Same bound as the tenant_id column
+    private static final Pattern TENANT_ID = Pattern.compile("[A-Za-z0-9_.-]{1,64}");
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String tenant = request.getHeader(TENANT_HEADER);
+        if (tenant != null && !TENANT_ID.matcher(tenant).matches()) {
+            response.sendError(HttpServletResponse.SC_BAD_REQUEST, "Invalid " + TENANT_HEADER + " header");
+            return;
+        }
+        TenantContext.set(tenant);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            TenantContext.clear();
+        }
+    }
+}
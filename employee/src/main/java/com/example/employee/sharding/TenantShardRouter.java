@@ -0,0 +1,46 @@
+package com.example.employee.sharding;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps each tenant on one shard: the one configured for it, or else one picked by a
+ * hash of the tenant id. Lists and searches then touch a single database, and the
+ * shard's (tenant_id, email) unique key keeps emails unique within the tenant.
+ */
+public class TenantShardRouter implements ShardRouter {
+
+    private final Map<String, Integer> tenants;
+    private final int shardCount;
+
+    public TenantShardRouter(Map<String, Integer> tenants, int shardCount) {
+        tenants.forEach((tenant, shard) -> {
+            if (shard < 0 || shard >= shardCount) {
+                throw new IllegalArgumentException("Tenant " + tenant + " is mapped to shard " + shard
+                        + ", but only " + shardCount + " shards are configured");
+            }
+        });
+        this.tenants = Map.copyOf(tenants);
+        this.shardCount = shardCount;
+    }
+
+    @Override
+    public int shardFor(String tenant, long id) {
+        return shardOf(tenant);
+    }
+
+    @Override
+    public List<Integer> shardsFor(String tenant) {
+        return List.of(shardOf(tenant));
+    }
+
+    @Override
+    public int emailShard(String tenant, String email) {
+        return shardOf(tenant);
+    }
+
+    private int shardOf(String tenant) {
+        Integer shard = tenants.get(tenant);
+        return shard != null ? shard : ShardRouter.bucket(ShardRouter.mix(tenant.hashCode()), shardCount);
+    }
+}
@@ -0,0 +1,160 @@
+package com.example.employee.stats;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.employee.dto.EmployeeChangeDTO;
+import com.example.employee.dto.EmployeeStatsDTO;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import com.example.employee.services.EmployeeChangeFollower;
+import com.example.employee.services.EmployeeChangesSequencedEvent;
+
+/**
+ * In-memory headcount of active employees per position and created_at month.
+ * Built once at startup and kept current from the change log, so reading the
+ * stats costs a walk over the (few) cells, not a table scan, and counts writes
+ * made by other instances too.
+ */
+@Component
+public class EmployeeStatsRollup {
+
+    private record Cell(String position, YearMonth createdMonth) {
+    }
+
+    private final EmployeeJdbcRepository employeeJdbcRepository;
+    private final EmployeeChangeFollower follower;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Cell, Long> counts = new HashMap<>();
+    // The cell each active employee is counted in, to move or drop it on update and delete
+    private final Map<Long, Cell> cells = new HashMap<>();
+
+    public EmployeeStatsRollup(EmployeeJdbcRepository employeeJdbcRepository,
+                               EmployeeChangeLogRepository changeLogRepository) {
+        this.employeeJdbcRepository = employeeJdbcRepository;
+        this.follower = new EmployeeChangeFollower("stats rollup", changeLogRepository, this::apply);
+    }
+
+    /**
+     * Count every active employee into an empty rollup; run by StartupBuildConfig, and
+     * again by the follower if it falls behind the retained change log.
+     */
+    public void build() {
+        follower.build(() -> {
+            clear();
+            employeeJdbcRepository.streamActive(employee ->
+                    set(employee.getId(), new Cell(employee.getPosition(), monthOf(employee.getCreatedAt()))));
+        });
+    }
+
+    @EventListener
+    public void onChangesSequenced(EmployeeChangesSequencedEvent event) {
+        follower.catchUp();
+    }
+
+    @Scheduled(fixedDelayString = "${employee.changes.follow-interval-ms:1000}")
+    public void follow() {
+        follower.catchUp();
+    }
+
+    /**
+     * The current headcounts, or null until the rollup is built.
+     */
+    public EmployeeStatsDTO snapshot() {
+        if (!follower.isReady()) {
+            return null;
+        }
+        lock.readLock().lock();
+        try {
+            return toStats(counts);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Headcounts aggregated by the database, for use until the rollup is built.
+     */
+    public EmployeeStatsDTO query() {
+        Map<Cell, Long> queried = new HashMap<>();
+        employeeJdbcRepository.countActiveByPositionAndMonth((position, year, month, count) ->
+                queried.merge(new Cell(position, YearMonth.of(year, month)), count, Long::sum));
+        return toStats(queried);
+    }
+
+    public boolean isReady() {
+        return follower.isReady();
+    }
+
+    private static EmployeeStatsDTO toStats(Map<Cell, Long> counts) {
+        long total = 0;
+        Map<String, Long> byPosition = new TreeMap<>();
+        Map<String, Long> byCreatedMonth = new TreeMap<>();
+        Map<String, Map<String, Long>> byPositionAndMonth = new TreeMap<>();
+        for (Map.Entry<Cell, Long> entry : counts.entrySet()) {
+            String position = entry.getKey().position();
+            String month = entry.getKey().createdMonth() == null ? "unknown" : entry.getKey().createdMonth().toString();
+            long count = entry.getValue();
+            total += count;
+            byPosition.merge(position, count, Long::sum);
+            byCreatedMonth.merge(month, count, Long::sum);
+            byPositionAndMonth.computeIfAbsent(position, p -> new TreeMap<>()).merge(month, count, Long::sum);
+        }
+        return new EmployeeStatsDTO(total, byPosition, byCreatedMonth, byPositionAndMonth);
+    }
+
+    private void apply(EmployeeChangeDTO change) {
+        set(change.getId(), change.isDeleted() ? null
+                : new Cell(change.getPosition(), monthOf(change.getCreatedAt())));
+    }
+
+    // Count the employee in the cell, or drop it when the cell is null
+    private void set(Long id, Cell cell) {
+        lock.writeLock().lock();
+        try {
+            remove(id);
+            if (cell != null) {
+                put(id, cell);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static YearMonth monthOf(LocalDateTime createdAt) {
+        return createdAt == null ? null : YearMonth.from(createdAt);
+    }
+
+    // Caller holds the write lock
+    private void put(Long id, Cell cell) {
+        cells.put(id, cell);
+        counts.merge(cell, 1L, Long::sum);
+    }
+
+    private void clear() {
+        lock.writeLock().lock();
+        try {
+            counts.clear();
+            cells.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Caller holds the write lock
+    private void remove(Long id) {
+        Cell previous = cells.remove(id);
+        if (previous != null) {
+            counts.computeIfPresent(previous, (cell, count) -> count > 1 ? count - 1 : null);
+        }
+    }
+}
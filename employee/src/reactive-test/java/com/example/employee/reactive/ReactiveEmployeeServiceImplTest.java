@@ -0,0 +1,113 @@
+package com.example.employee.reactive;
+
+import com.example.employee.dto.EmployeePatchDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.exception.DuplicateEmailException;
+import com.example.employee.exception.PreconditionFailedException;
+import com.example.employee.id.SnowflakeIdGenerator;
+import io.r2dbc.spi.ConnectionFactories;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.test.StepVerifier;
+
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReactiveEmployeeServiceImplTest {
+
+    private DatabaseClient databaseClient;
+    private ReactiveEmployeeService employeeService;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient = DatabaseClient.create(ConnectionFactories.get(
+                "r2dbc:h2:mem:///reactive_" + UUID.randomUUID() + "?options=DB_CLOSE_DELAY=-1"));
+        databaseClient.sql("CREATE TABLE employees ("
+                        + "id BIGINT PRIMARY KEY, name VARCHAR(150) NOT NULL, "
+                        + "email VARCHAR(150) NOT NULL UNIQUE, position VARCHAR(100) NOT NULL, "
+                        + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, "
+                        + "is_deleted BOOLEAN NOT NULL DEFAULT FALSE, version BIGINT NOT NULL DEFAULT 0)")
+                .then()
+                .block();
+        databaseClient.sql("CREATE TABLE employee_changes ("
+                        + "change_id BIGINT AUTO_INCREMENT PRIMARY KEY, seq BIGINT NULL UNIQUE, "
+                        + "employee_id BIGINT NOT NULL, name VARCHAR(150) NOT NULL, "
+                        + "email VARCHAR(150) NOT NULL, position VARCHAR(100) NOT NULL, "
+                        + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, "
+                        + "version BIGINT NOT NULL, is_deleted BOOLEAN NOT NULL)")
+                .then()
+                .block();
+        employeeService = new ReactiveEmployeeServiceImpl(new ReactiveEmployeeRepository(databaseClient, SnowflakeIdGenerator.forNode(0)), 2);
+    }
+
+    private EmployeeResponseDTO create(String name, String email) {
+        return employeeService.createEmployee(new EmployeeRequestDTO(name, email, "Engineer")).block();
+    }
+
+    @Test
+    @DisplayName("Created employees are listed in id order and a taken email is rejected")
+    void testCreateAndList() {
+        EmployeeResponseDTO alice = create("Alice", "alice@example.com");
+        create("Bob", "bob@example.com");
+        create("Carol", "carol@example.com");
+
+        assertThat(alice.getId()).isNotNull();
+        assertThat(alice.getVersion()).isZero();
+        StepVerifier.create(employeeService.getAllEmployees().map(EmployeeResponseDTO::getName))
+                .expectNext("Alice", "Bob", "Carol")
+                .verifyComplete();
+        StepVerifier.create(employeeService.createEmployee(new EmployeeRequestDTO("A", "alice@example.com", "QA")))
+                .verifyError(DuplicateEmailException.class);
+    }
+
+    @Test
+    @DisplayName("Keyset pages continue from the cursor")
+    void testPages() {
+        create("Alice", "alice@example.com");
+        create("Bob", "bob@example.com");
+        create("Carol", "carol@example.com");
+
+        var first = employeeService.getEmployeesPage(null, 2).block();
+        var second = employeeService.getEmployeesPage(first.getNextCursor(), 2).block();
+
+        assertThat(first.getItems()).extracting(EmployeeResponseDTO::getName).containsExactly("Alice", "Bob");
+        assertThat(second.getItems()).extracting(EmployeeResponseDTO::getName).containsExactly("Carol");
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Versioned updates apply once; a stale version is 412 and a deleted employee 404")
+    void testUpdatePatchDelete() {
+        EmployeeResponseDTO alice = create("Alice", "alice@example.com");
+
+        EmployeeResponseDTO updated = employeeService.updateEmployee(alice.getId(),
+                new EmployeeRequestDTO("Alice Smith", "alice@example.com", "Lead"), 0L).block();
+        assertThat(updated.getVersion()).isEqualTo(1L);
+
+        StepVerifier.create(employeeService.patchEmployee(alice.getId(),
+                        EmployeePatchDTO.builder().position("Manager").build(), 0L))
+                .verifyError(PreconditionFailedException.class);
+        EmployeeResponseDTO patched = employeeService.patchEmployee(alice.getId(),
+                EmployeePatchDTO.builder().position("Manager").build(), 1L).block();
+        assertThat(patched.getName()).isEqualTo("Alice Smith");
+        assertThat(patched.getPosition()).isEqualTo("Manager");
+
+        employeeService.deleteEmployee(alice.getId()).block();
+        StepVerifier.create(employeeService.getEmployeeById(alice.getId()))
+                .verifyError(NoSuchElementException.class);
+        StepVerifier.create(employeeService.searchEmployeesByName("alice", 10)).verifyComplete();
+
+        // Every successful write is in the change log; the stale patch is not
+        StepVerifier.create(databaseClient.sql("SELECT version FROM employee_changes WHERE employee_id = :id ORDER BY change_id")
+                        .bind("id", alice.getId())
+                        .map(row -> row.get("version", Long.class))
+                        .all())
+                .expectNext(0L, 1L, 2L, 3L)
+                .verifyComplete();
+    }
+}
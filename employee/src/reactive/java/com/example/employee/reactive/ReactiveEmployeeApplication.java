@@ -0,0 +1,44 @@
+package com.example.employee.reactive;
+
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.data.jpa.JpaRepositoriesAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceAutoConfiguration;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceTransactionManagerAutoConfiguration;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernateJpaAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Profile;
+
+import com.example.employee.config.IdGeneratorConfig;
+import com.example.employee.controller.GlobalExceptionHandler;
+
+/**
+ * Reactive variant of the employee API: the same /api/employees contract on WebFlux and
+ * R2DBC instead of servlets and JPA, against the same employees table. Only this
+ * package is scanned, so none of the servlet-side caches, filters or services start;
+ * ids come from the same generator as the servlet app's.
+ * Run with: java -cp employee.jar -Dloader.main=com.example.employee.reactive.ReactiveEmployeeApplication
+ *     org.springframework.boot.loader.launch.PropertiesLauncher
+ */
+@Profile("reactive")
+@SpringBootConfiguration
+@EnableAutoConfiguration(exclude = {
+        DataSourceAutoConfiguration.class,
+        DataSourceTransactionManagerAutoConfiguration.class,
+        HibernateJpaAutoConfiguration.class,
+        JpaRepositoriesAutoConfiguration.class
+})
+@ComponentScan(basePackageClasses = ReactiveEmployeeApplication.class)
+@Import({GlobalExceptionHandler.class, IdGeneratorConfig.class})
+public class ReactiveEmployeeApplication {
+
+    public static void main(String[] args) {
+        new SpringApplicationBuilder(ReactiveEmployeeApplication.class)
+                .web(WebApplicationType.REACTIVE)
+                .profiles("reactive")
+                .run(args);
+    }
+}
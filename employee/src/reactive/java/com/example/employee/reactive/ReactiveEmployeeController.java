@@ -0,0 +1,130 @@
+package com.example.employee.reactive;
+
+import java.net.URI;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import com.example.employee.cache.EmployeeJsonCache;
+import com.example.employee.dto.EmployeePageResponseDTO;
+import com.example.employee.dto.EmployeePatchDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * The /api/employees contract on WebFlux. Lists and searches are streamed with
+ * backpressure: a JSON array by default, one object per line for Accept: application/x-ndjson.
+ */
+@Slf4j
+@Profile("reactive")
+@RestController
+@RequestMapping("/api/employees")
+@RequiredArgsConstructor
+@CrossOrigin("*")
+public class ReactiveEmployeeController {
+
+    private final ReactiveEmployeeService employeeService;
+
+    /**
+     * Create a new employee.
+     * Endpoint: POST /api/employees
+     */
+    @PostMapping
+    public Mono<ResponseEntity<EmployeeResponseDTO>> createEmployee(@Valid @RequestBody EmployeeRequestDTO request) {
+        log.info("Received request to create employee: {}", request.getEmail());
+        return employeeService.createEmployee(request)
+                .map(created -> ResponseEntity.created(URI.create("/api/employees/" + created.getId()))
+                                              .eTag(EmployeeJsonCache.etag(created))
+                                              .body(created));
+    }
+
+    /**
+     * Get employee details by ID.
+     * Endpoint: GET /api/employees/{id}
+     */
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<EmployeeResponseDTO>> getEmployeeById(@PathVariable Long id) {
+        return employeeService.getEmployeeById(id)
+                .map(employee -> ResponseEntity.ok().eTag(EmployeeJsonCache.etag(employee)).body(employee));
+    }
+
+    /**
+     * Get all employees (excluding soft-deleted), streamed as rows arrive.
+     * Endpoint: GET /api/employees
+     */
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EmployeeResponseDTO> getAllEmployees() {
+        log.info("Streaming all employees");
+        return employeeService.getAllEmployees();
+    }
+
+    /**
+     * Get one keyset-paginated page of employees (excluding soft-deleted).
+     * Endpoint: GET /api/employees?limit={limit}&cursor={nextCursor}
+     */
+    @GetMapping(params = "limit")
+    public Mono<EmployeePageResponseDTO> getEmployeesPage(
+            @RequestParam int limit,
+            @RequestParam(required = false) String cursor) {
+        return employeeService.getEmployeesPage(cursor, limit);
+    }
+
+    /**
+     * Update employee details by ID; If-Match makes it conditional (412 when stale).
+     * Endpoint: PUT /api/employees/{id}
+     */
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<EmployeeResponseDTO>> updateEmployee(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody EmployeeRequestDTO request) {
+        log.info("Updating employee with ID: {}", id);
+        return employeeService.updateEmployee(id, request, EmployeeJsonCache.versionFromIfMatch(id, ifMatch))
+                .map(updated -> ResponseEntity.ok().eTag(EmployeeJsonCache.etag(updated)).body(updated));
+    }
+
+    /**
+     * Update only the fields present in the body; same If-Match, 409 and 412 rules as PUT.
+     * Endpoint: PATCH /api/employees/{id}
+     */
+    @PatchMapping("/{id}")
+    public Mono<ResponseEntity<EmployeeResponseDTO>> patchEmployee(
+            @PathVariable Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+            @Valid @RequestBody EmployeePatchDTO patch) {
+        log.info("Patching employee with ID: {}", id);
+        return employeeService.patchEmployee(id, patch, EmployeeJsonCache.versionFromIfMatch(id, ifMatch))
+                .map(patched -> ResponseEntity.ok().eTag(EmployeeJsonCache.etag(patched)).body(patched));
+    }
+
+    /**
+     * Soft delete employee (mark as deleted).
+     * Endpoint: DELETE /api/employees/{id}
+     */
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> deleteEmployee(@PathVariable Long id) {
+        log.info("Deleting employee with ID: {}", id);
+        return employeeService.deleteEmployee(id).thenReturn(ResponseEntity.noContent().<Void>build());
+    }
+
+    /**
+     * Search employees by name (case-insensitive), streamed.
+     * Endpoint: GET /api/employees/search?name={name}&limit={limit}
+     */
+    @GetMapping(value = "/search", produces = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public Flux<EmployeeResponseDTO> searchEmployeesByName(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("Searching employees with name containing: {}", name);
+        return employeeService.searchEmployeesByName(name, limit);
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.employee.reactive;
+
+import java.time.LocalDateTime;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.reactive.TransactionalOperator;
+
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.id.SnowflakeIdGenerator;
+
+import io.r2dbc.spi.Readable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Non-blocking access to the employees table. Statements mirror the JDBC and
+ * JPA ones of the servlet app, so both variants use the same indexes, and each
+ * write records the row in employee_changes in its own transaction, like the
+ * servlet app's write paths do.
+ */
+@Profile("reactive")
+@Repository
+public class ReactiveEmployeeRepository {
+
+    private static final String COLUMNS = "SELECT id, name, email, position, created_at, updated_at, version FROM employees ";
+
+    // Same statement as EmployeeChangeLogRepository.record, for one employee
+    private static final String RECORD_CHANGE =
+            "INSERT INTO employee_changes (employee_id, name, email, position, created_at, updated_at, version, is_deleted) "
+            + "SELECT id, name, email, position, created_at, updated_at, version, is_deleted "
+            + "FROM employees WHERE id = :id";
+
+    private final DatabaseClient databaseClient;
+    private final SnowflakeIdGenerator idGenerator;
+    private final TransactionalOperator transactionalOperator;
+
+    public ReactiveEmployeeRepository(DatabaseClient databaseClient, SnowflakeIdGenerator idGenerator) {
+        this.databaseClient = databaseClient;
+        this.idGenerator = idGenerator;
+        this.transactionalOperator = TransactionalOperator.create(
+                new R2dbcTransactionManager(databaseClient.getConnectionFactory()));
+    }
+
+    /**
+     * Every active employee in id order; rows are fetched as the subscriber requests them.
+     */
+    public Flux<EmployeeResponseDTO> findAllActive() {
+        return databaseClient.sql(COLUMNS + "WHERE is_deleted = FALSE ORDER BY id")
+                .map(ReactiveEmployeeRepository::mapRow)
+                .all();
+    }
+
+    public Flux<EmployeeResponseDTO> findActivePage(long afterId, int limit) {
+        return databaseClient.sql(COLUMNS + "WHERE is_deleted = FALSE AND id > :afterId ORDER BY id LIMIT :limit")
+                .bind("afterId", afterId)
+                .bind("limit", limit)
+                .map(ReactiveEmployeeRepository::mapRow)
+                .all();
+    }
+
+    public Mono<EmployeeResponseDTO> findActiveById(long id) {
+        return databaseClient.sql(COLUMNS + "WHERE id = :id AND is_deleted = FALSE")
+                .bind("id", id)
+                .map(ReactiveEmployeeRepository::mapRow)
+                .one();
+    }
+
+    /**
+     * Case-insensitive substring match on the name, like the servlet app's database search.
+     */
+    public Flux<EmployeeResponseDTO> searchActive(String name, int limit) {
+        return databaseClient.sql(COLUMNS
+                        + "WHERE is_deleted = FALSE AND LOWER(name) LIKE LOWER(CONCAT('%', :name, '%')) "
+                        + "ORDER BY id LIMIT :limit")
+                .bind("name", name)
+                .bind("limit", limit)
+                .map(ReactiveEmployeeRepository::mapRow)
+                .all();
+    }
+
+    /**
+     * Whether any employee, soft-deleted ones included, owns the email.
+     */
+    public Mono<Boolean> existsByEmail(String email) {
+        return databaseClient.sql("SELECT 1 FROM employees WHERE email = :email")
+                .bind("email", email)
+                .map(row -> Boolean.TRUE)
+                .first()
+                .defaultIfEmpty(Boolean.FALSE);
+    }
+
+    /**
+     * Insert an employee and return its new id.
+     */
+    public Mono<Long> insert(EmployeeRequestDTO employee, LocalDateTime now) {
+        long id = idGenerator.nextId();
+        return databaseClient.sql("INSERT INTO employees (id, name, email, position, created_at, updated_at, is_deleted, version) "
+                        + "VALUES (:id, :name, :email, :position, :now, :now, FALSE, 0)")
+                .bind("id", id)
+                .bind("name", employee.getName())
+                .bind("email", employee.getEmail())
+                .bind("position", employee.getPosition())
+                .bind("now", now)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rows -> recordChange(id, rows))
+                .thenReturn(id)
+                .as(transactionalOperator::transactional);
+    }
+
+    /**
+     * Update an active employee, only if its version still matches when one is given.
+     * Emits the number of rows updated.
+     */
+    public Mono<Long> updateActive(long id, String name, String email, String position,
+                                   LocalDateTime now, Long expectedVersion) {
+        String sql = "UPDATE employees SET name = :name, email = :email, position = :position, "
+                + "updated_at = :now, version = version + 1 WHERE id = :id AND is_deleted = FALSE"
+                + (expectedVersion != null ? " AND version = :version" : "");
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(sql)
+                .bind("name", name)
+                .bind("email", email)
+                .bind("position", position)
+                .bind("now", now)
+                .bind("id", id);
+        if (expectedVersion != null) {
+            spec = spec.bind("version", expectedVersion);
+        }
+        return spec.fetch().rowsUpdated()
+                .flatMap(rows -> recordChange(id, rows))
+                .as(transactionalOperator::transactional);
+    }
+
+    public Mono<Long> softDelete(long id, LocalDateTime now) {
+        return databaseClient.sql("UPDATE employees SET is_deleted = TRUE, updated_at = :now, version = version + 1 "
+                        + "WHERE id = :id AND is_deleted = FALSE")
+                .bind("now", now)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(rows -> recordChange(id, rows))
+                .as(transactionalOperator::transactional);
+    }
+
+    // Logs the employee when the write matched it; passes the row count through
+    private Mono<Long> recordChange(long id, long rowsUpdated) {
+        if (rowsUpdated == 0) {
+            return Mono.just(rowsUpdated);
+        }
+        return databaseClient.sql(RECORD_CHANGE)
+                .bind("id", id)
+                .fetch()
+                .rowsUpdated()
+                .thenReturn(rowsUpdated);
+    }
+
+    private static EmployeeResponseDTO mapRow(Readable row) {
+        return EmployeeResponseDTO.builder()
+                .id(row.get("id", Long.class))
+                .name(row.get("name", String.class))
+                .email(row.get("email", String.class))
+                .position(row.get("position", String.class))
+                .createdAt(row.get("created_at", LocalDateTime.class))
+                .updatedAt(row.get("updated_at", LocalDateTime.class))
+                .version(row.get("version", Long.class))
+                .build();
+    }
+}
@@ -0,0 +1,30 @@
+package com.example.employee.reactive;
+
+import com.example.employee.dto.EmployeePageResponseDTO;
+import com.example.employee.dto.EmployeePatchDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+public interface ReactiveEmployeeService {
+
+    Mono<EmployeeResponseDTO> createEmployee(EmployeeRequestDTO request);
+
+    Mono<EmployeeResponseDTO> getEmployeeById(Long id);
+
+    // Every active employee, emitted as rows arrive
+    Flux<EmployeeResponseDTO> getAllEmployees();
+
+    Mono<EmployeePageResponseDTO> getEmployeesPage(String cursor, int limit);
+
+    // Update only if the stored version still equals expectedVersion (null = any)
+    Mono<EmployeeResponseDTO> updateEmployee(Long id, EmployeeRequestDTO request, Long expectedVersion);
+
+    Mono<EmployeeResponseDTO> patchEmployee(Long id, EmployeePatchDTO patch, Long expectedVersion);
+
+    Mono<Void> deleteEmployee(Long id);
+
+    Flux<EmployeeResponseDTO> searchEmployeesByName(String name, int limit);
+}
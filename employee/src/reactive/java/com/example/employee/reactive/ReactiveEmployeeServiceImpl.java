@@ -0,0 +1,154 @@
+package com.example.employee.reactive;
+
+import java.time.LocalDateTime;
+import java.util.NoSuchElementException;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+
+import com.example.employee.dto.EmployeePageResponseDTO;
+import com.example.employee.dto.EmployeePatchDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.exception.DuplicateEmailException;
+import com.example.employee.exception.PreconditionFailedException;
+import com.example.employee.services.CursorCodec;
+
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * Same rules as {@code EmployeeServiceImpl} (404 for missing or deleted, 409 for a
+ * taken email, 412 for a stale If-Match version) without blocking a thread per query.
+ * There are no in-process caches here, so every read goes to the database.
+ */
+@Slf4j
+@Profile("reactive")
+@Service
+public class ReactiveEmployeeServiceImpl implements ReactiveEmployeeService {
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    private final ReactiveEmployeeRepository employeeRepository;
+    private final int prefetch;
+
+    public ReactiveEmployeeServiceImpl(ReactiveEmployeeRepository employeeRepository,
+                                       @Value("${employee.stream.fetch-size:500}") int prefetch) {
+        this.employeeRepository = employeeRepository;
+        this.prefetch = prefetch;
+    }
+
+    /**
+     * Create an employee. The unique constraint decides races between concurrent creates.
+     */
+    @Override
+    public Mono<EmployeeResponseDTO> createEmployee(EmployeeRequestDTO request) {
+        return employeeRepository.existsByEmail(request.getEmail())
+                .flatMap(taken -> taken
+                        ? Mono.<Long>error(new DuplicateEmailException(request.getEmail()))
+                        : employeeRepository.insert(request, LocalDateTime.now()))
+                .onErrorMap(DataIntegrityViolationException.class, e -> DuplicateEmailException.from(e, request.getEmail()))
+                .flatMap(this::getEmployeeById);
+    }
+
+    @Override
+    public Mono<EmployeeResponseDTO> getEmployeeById(Long id) {
+        return employeeRepository.findActiveById(id)
+                .switchIfEmpty(Mono.error(() -> new NoSuchElementException("Employee not found with ID: " + id)));
+    }
+
+    /**
+     * Every active employee; at most {@code prefetch} rows are requested from the driver ahead
+     * of the subscriber, so a slow client slows the query instead of filling memory.
+     */
+    @Override
+    public Flux<EmployeeResponseDTO> getAllEmployees() {
+        return employeeRepository.findAllActive().limitRate(prefetch);
+    }
+
+    @Override
+    public Mono<EmployeePageResponseDTO> getEmployeesPage(String cursor, int limit) {
+        if (limit < 1) {
+            return Mono.error(new IllegalArgumentException("Page limit must be positive: " + limit));
+        }
+        int pageSize = Math.min(limit, MAX_PAGE_SIZE);
+        long afterId;
+        try {
+            afterId = (cursor == null || cursor.isBlank()) ? 0L : CursorCodec.decodeId(cursor);
+        } catch (IllegalArgumentException e) {
+            return Mono.error(e);
+        }
+        // One extra row tells whether a next page exists
+        return employeeRepository.findActivePage(afterId, pageSize + 1)
+                .collectList()
+                .map(items -> {
+                    if (items.size() <= pageSize) {
+                        return new EmployeePageResponseDTO(items, null);
+                    }
+                    var page = items.subList(0, pageSize);
+                    return new EmployeePageResponseDTO(page, CursorCodec.encodeId(page.get(pageSize - 1).getId()));
+                });
+    }
+
+    @Override
+    public Mono<EmployeeResponseDTO> updateEmployee(Long id, EmployeeRequestDTO request, Long expectedVersion) {
+        return update(id, request.getName(), request.getEmail(), request.getPosition(), expectedVersion);
+    }
+
+    /**
+     * Apply the fields present in the patch to the current row, then a versioned update,
+     * so a concurrent change in between fails with 412 instead of being overwritten.
+     */
+    @Override
+    public Mono<EmployeeResponseDTO> patchEmployee(Long id, EmployeePatchDTO patch, Long expectedVersion) {
+        return getEmployeeById(id).flatMap(current -> {
+            if (expectedVersion != null && !expectedVersion.equals(current.getVersion())) {
+                return Mono.error(new PreconditionFailedException(
+                        "Employee " + id + " is at version " + current.getVersion() + ", not " + expectedVersion));
+            }
+            return update(id,
+                    patch.getName() != null ? patch.getName() : current.getName(),
+                    patch.getEmail() != null ? patch.getEmail() : current.getEmail(),
+                    patch.getPosition() != null ? patch.getPosition() : current.getPosition(),
+                    current.getVersion());
+        });
+    }
+
+    @Override
+    public Mono<Void> deleteEmployee(Long id) {
+        log.info("Soft deleting employee with ID: {}", id);
+        return employeeRepository.softDelete(id, LocalDateTime.now())
+                .flatMap(rows -> rows == 0
+                        ? Mono.<Void>error(new NoSuchElementException("Employee not found with ID: " + id))
+                        : Mono.<Void>empty());
+    }
+
+    @Override
+    public Flux<EmployeeResponseDTO> searchEmployeesByName(String name, int limit) {
+        int maxResults = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        return employeeRepository.searchActive(name, maxResults);
+    }
+
+    /**
+     * One UPDATE, conditional on the version when one is expected. When it matches
+     * nothing, one read tells 404 from 412; without an expected version it is always 404.
+     */
+    private Mono<EmployeeResponseDTO> update(Long id, String name, String email, String position, Long expectedVersion) {
+        return employeeRepository.updateActive(id, name, email, position, LocalDateTime.now(), expectedVersion)
+                .onErrorMap(DataIntegrityViolationException.class, e -> DuplicateEmailException.from(e, email))
+                .flatMap(rows -> {
+                    if (rows > 0) {
+                        return getEmployeeById(id);
+                    }
+                    if (expectedVersion == null) {
+                        return Mono.error(new NoSuchElementException("Employee not found with ID: " + id));
+                    }
+                    return getEmployeeById(id).flatMap(current -> Mono.<EmployeeResponseDTO>error(
+                            new PreconditionFailedException("Employee " + id + " is at version "
+                                    + current.getVersion() + ", not " + expectedVersion)));
+                });
+    }
+}
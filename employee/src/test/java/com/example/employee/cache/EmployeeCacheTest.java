@@ -0,0 +1,98 @@
+package com.example.employee.cache;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.services.EmployeeChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeCacheTest {
+
+    private EmployeeCache employeeCache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        employeeCache = new EmployeeCache(100, Duration.ofMinutes(1), Duration.ZERO);
+        loads = new AtomicInteger();
+    }
+
+    private EmployeeResponseDTO load(Long id) {
+        loads.incrementAndGet();
+        return EmployeeResponseDTO.builder().id(id).name("John Doe").build();
+    }
+
+    @Test
+    @DisplayName("Second read is a hit and does not call the loader")
+    void testReadThrough() {
+        employeeCache.get(1L, this::load);
+        employeeCache.get(1L, this::load);
+
+        assertThat(loads.get()).isEqualTo(1);
+        assertThat(employeeCache.stats().hitCount()).isEqualTo(1);
+        assertThat(employeeCache.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Missing employees are not cached")
+    void testMissNotCached() {
+        assertThat(employeeCache.get(1L, id -> null)).isEmpty();
+        assertThat(employeeCache.get(1L, this::load)).isPresent();
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Committed delete drops the entry so it is never served again")
+    void testDeleteInvalidates() {
+        employeeCache.get(1L, this::load);
+
+        employeeCache.onEmployeeChanged(EmployeeChangedEvent.deleted(1L));
+
+        assertThat(employeeCache.get(1L, id -> null)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Committed update replaces the cached entry")
+    void testUpdateRefreshes() {
+        employeeCache.get(1L, this::load);
+
+        employeeCache.onEmployeeChanged(EmployeeChangedEvent.saved(
+                EmployeeResponseDTO.builder().id(1L).name("Jane Doe").build()));
+
+        assertThat(employeeCache.get(1L, this::load).get().getName()).isEqualTo("Jane Doe");
+        assertThat(loads.get()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("A delete committed while a load is in flight keeps the loaded row out of the cache")
+    void testDeleteDuringLoadIsNotCached() {
+        employeeCache.get(1L, id -> {
+            EmployeeResponseDTO loaded = load(id);
+            employeeCache.onEmployeeChanged(EmployeeChangedEvent.deleted(1L));
+            return loaded;
+        });
+
+        assertThat(employeeCache.getIfPresent(1L)).isNull();
+        assertThat(employeeCache.getAll(List.of(1L), ids -> Map.of())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Ids written within the write guard are not cached from a load")
+    void testRecentWriteIsNotCachedFromLoad() {
+        EmployeeCache guarded = new EmployeeCache(100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+        guarded.onEmployeeChanged(EmployeeChangedEvent.deleted(1L));
+
+        guarded.get(1L, this::load);
+        guarded.getAll(List.of(2L), ids -> Map.of(2L, load(2L)));
+
+        assertThat(guarded.getIfPresent(1L)).isNull();
+        assertThat(guarded.getIfPresent(2L)).isNotNull();
+    }
+}
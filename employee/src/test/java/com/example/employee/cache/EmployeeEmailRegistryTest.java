@@ -0,0 +1,73 @@
+package com.example.employee.cache;
+
+import com.example.employee.dto.EmployeeChangeDTO;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeEmailRegistryTest {
+
+    private EmployeeJdbcRepository employeeJdbcRepository;
+    private EmployeeChangeLogRepository changeLogRepository;
+    private EmployeeEmailRegistry registry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        employeeJdbcRepository = Mockito.mock(EmployeeJdbcRepository.class);
+        Mockito.doAnswer(invocation -> {
+            Consumer<String> consumer = invocation.getArgument(0);
+            IntStream.range(0, 1000).forEach(i -> consumer.accept("User" + i + "@Example.com"));
+            return null;
+        }).when(employeeJdbcRepository).streamEmails(Mockito.any(Consumer.class));
+        changeLogRepository = Mockito.mock(EmployeeChangeLogRepository.class);
+        registry = new EmployeeEmailRegistry(employeeJdbcRepository, changeLogRepository, 1000, 0.01, 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    @DisplayName("Every check is unknown until the filter is seeded")
+    void testUnknownBeforeSeed() {
+        assertThat(registry.check("someone@example.com")).isEqualTo(EmployeeEmailRegistry.Check.UNKNOWN);
+    }
+
+    @Test
+    @DisplayName("Seeded emails are never reported new, and most unseen emails are")
+    void testSeededFilter() {
+        registry.seed();
+
+        assertThat(IntStream.range(0, 1000).mapToObj(i -> registry.check("user" + i + "@example.com")))
+                .doesNotContain(EmployeeEmailRegistry.Check.NEW);
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> registry.check("other" + i + "@example.com") != EmployeeEmailRegistry.Check.NEW)
+                .count();
+        assertThat(falsePositives).isLessThan(300);
+    }
+
+    @Test
+    @DisplayName("Emails from the change log are taken; a changed email frees the old one in the exact cache")
+    void testRecentEmails() {
+        registry.seed();
+        Mockito.when(changeLogRepository.findChangesAfter(Mockito.eq(0L), Mockito.anyInt()))
+                .thenReturn(List.of(EmployeeChangeDTO.builder().seq(1L).id(7L).email("new@example.com").build()));
+        registry.follow();
+
+        assertThat(registry.check("NEW@example.com")).isEqualTo(EmployeeEmailRegistry.Check.TAKEN);
+
+        Mockito.when(changeLogRepository.findChangesAfter(Mockito.eq(1L), Mockito.anyInt()))
+                .thenReturn(List.of(EmployeeChangeDTO.builder().seq(2L).id(7L).email("renamed@example.com").build()));
+        registry.follow();
+
+        assertThat(registry.check("new@example.com")).isEqualTo(EmployeeEmailRegistry.Check.UNKNOWN);
+        assertThat(registry.check("renamed@example.com")).isEqualTo(EmployeeEmailRegistry.Check.TAKEN);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.employee.cache;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.exception.PreconditionFailedException;
+import com.example.employee.services.EmployeeChangedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeJsonCacheTest {
+
+    private ObjectMapper objectMapper;
+    private EmployeeJsonCache jsonCache;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Mockito.spy(JsonMapper.builder().findAndAddModules().build());
+        jsonCache = new EmployeeJsonCache(objectMapper, 100);
+    }
+
+    private static EmployeeResponseDTO employee(String name, long version) {
+        return EmployeeResponseDTO.builder().id(1L).name(name).version(version).build();
+    }
+
+    @Test
+    @DisplayName("Same version is served from cached bytes without re-serializing")
+    void testFragmentReused() throws Exception {
+        byte[] first = jsonCache.toJson(employee("John", 3));
+        byte[] second = jsonCache.toJson(employee("John", 3));
+
+        assertThat(second).isSameAs(first);
+        Mockito.verify(objectMapper, Mockito.times(1)).writeValueAsBytes(Mockito.any());
+    }
+
+    @Test
+    @DisplayName("Newer version or committed change re-serializes")
+    void testFragmentRefreshed() {
+        jsonCache.toJson(employee("John", 3));
+
+        byte[] newer = jsonCache.toJson(employee("Jane", 4));
+        assertThat(new String(newer)).contains("Jane");
+
+        jsonCache.onEmployeeChanged(EmployeeChangedEvent.deleted(1L));
+        assertThat(jsonCache.nativeCache().getIfPresent(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("Streamed rows reuse a current fragment but are not cached")
+    void testUncachedStream() {
+        byte[] streamed = jsonCache.toJsonUncached(employee("John", 3));
+        assertThat(jsonCache.nativeCache().getIfPresent(1L)).isNull();
+
+        byte[] cached = jsonCache.toJson(employee("John", 3));
+        assertThat(streamed).isEqualTo(cached);
+        assertThat(jsonCache.toJsonUncached(employee("John", 3))).isSameAs(cached);
+    }
+
+    @Test
+    @DisplayName("ETag changes with version and representation")
+    void testEtag() {
+        assertThat(EmployeeJsonCache.etag(employee("John", 3)))
+                .isEqualTo("\"1-3\"")
+                .isNotEqualTo(EmployeeJsonCache.etag(employee("John", 4)));
+        assertThat(EmployeeJsonCache.etag(1L, 3L, MediaType.APPLICATION_CBOR)).isEqualTo("\"1-3+cbor\"");
+        assertThat(EmployeeJsonCache.etag(List.of(employee("John", 3)), "null")).startsWith("W/\"");
+    }
+
+    @Test
+    @DisplayName("If-None-Match is compared weakly and honours lists and *")
+    void testMatchesIfNoneMatch() {
+        assertThat(EmployeeJsonCache.matchesIfNoneMatch("\"1-2\", W/\"1-3\"", "\"1-3\"")).isTrue();
+        assertThat(EmployeeJsonCache.matchesIfNoneMatch("*", "\"1-3\"")).isTrue();
+        assertThat(EmployeeJsonCache.matchesIfNoneMatch("\"1-3\"", "\"1-3+cbor\"")).isFalse();
+    }
+
+    @Test
+    @DisplayName("If-Match yields the version; foreign or malformed tags fail the precondition")
+    void testVersionFromIfMatch() {
+        assertThat(EmployeeJsonCache.versionFromIfMatch(1L, "\"1-3\"")).isEqualTo(3L);
+        assertThat(EmployeeJsonCache.versionFromIfMatch(1L, "\"1-3+x-jackson-smile\"")).isEqualTo(3L);
+        assertThat(EmployeeJsonCache.versionFromIfMatch(1L, "*")).isNull();
+        assertThat(EmployeeJsonCache.versionFromIfMatch(1L, null)).isNull();
+        assertThatThrownBy(() -> EmployeeJsonCache.versionFromIfMatch(1L, "\"2-3\""))
+                .isInstanceOf(PreconditionFailedException.class);
+        assertThatThrownBy(() -> EmployeeJsonCache.versionFromIfMatch(1L, "W/\"1-3\""))
+                .isInstanceOf(PreconditionFailedException.class);
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.employee.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("Concurrent calls for one key run once and share the result")
+    void testCoalescesConcurrentCalls() throws Exception {
+        SingleFlight<Long, String> flight = new SingleFlight<>(100);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 10; i++) {
+                results.add(executor.submit(() -> flight.execute(1L, () -> {
+                    calls.incrementAndGet();
+                    await(release);
+                    return "employee-1";
+                })));
+            }
+            // Wait until every caller has either started the call or joined it
+            while (flight.leaders() + flight.shared() < 10) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("employee-1");
+            }
+        }
+
+        assertThat(calls).hasValue(1);
+        assertThat(flight.shared()).isEqualTo(9);
+    }
+
+    @Test
+    @DisplayName("Completed calls are not cached and failures propagate")
+    void testNoCachingAndFailures() {
+        SingleFlight<Long, String> flight = new SingleFlight<>(100);
+        AtomicInteger calls = new AtomicInteger();
+
+        flight.execute(1L, () -> "a" + calls.incrementAndGet());
+        assertThat(flight.execute(1L, () -> "a" + calls.incrementAndGet())).isEqualTo("a2");
+
+        assertThatThrownBy(() -> flight.execute(2L, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+        assertThat(flight.execute(2L, () -> "recovered")).isEqualTo("recovered");
+    }
+
+    @Test
+    @DisplayName("Calls bypass coalescing once the key map is full")
+    void testBoundedKeys() {
+        SingleFlight<Long, String> flight = new SingleFlight<>(1);
+        String result = flight.execute(1L, () -> flight.execute(2L, () -> "inner"));
+
+        assertThat(result).isEqualTo("inner");
+        assertThat(flight.bypassed()).isEqualTo(1);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
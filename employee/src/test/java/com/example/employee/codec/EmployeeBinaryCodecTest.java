@@ -0,0 +1,90 @@
+package com.example.employee.codec;
+
+import com.example.employee.dto.EmployeePageResponseDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeBinaryCodecTest {
+
+    private ObjectMapper objectMapper;
+    private EmployeeBinaryCodec codec;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        codec = new EmployeeBinaryCodec(Jackson2ObjectMapperBuilder.json());
+    }
+
+    @Test
+    @DisplayName("Only an explicit CBOR or Smile Accept selects a binary format")
+    void testNegotiate() {
+        assertThat(codec.negotiate(null)).isNull();
+        assertThat(codec.negotiate("*/*")).isNull();
+        assertThat(codec.negotiate("application/json, application/cbor")).isNull();
+        assertThat(codec.negotiate("not a media type")).isNull();
+        assertThat(codec.negotiate("application/cbor")).isEqualTo(EmployeeBinaryCodec.CBOR);
+        assertThat(codec.negotiate("application/x-jackson-smile;q=0.9, */*;q=0.1")).isEqualTo(EmployeeBinaryCodec.SMILE);
+    }
+
+    @Test
+    @DisplayName("Employees and pages round-trip through CBOR and Smile")
+    void testRoundTrip() throws Exception {
+        EmployeeResponseDTO employee = new EmployeeResponseDTO(7L, "Jane Doe", "jane@example.com", "Engineer",
+                LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_000_000), LocalDateTime.of(2024, 3, 2, 10, 0), 3L);
+        EmployeePageResponseDTO page = new EmployeePageResponseDTO(List.of(employee), null);
+
+        for (MediaType type : List.of(EmployeeBinaryCodec.CBOR, EmployeeBinaryCodec.SMILE)) {
+            ObjectMapper mapper = codec.mapperFor(type);
+            assertThat(mapper.readValue(codec.write(type, employee), EmployeeResponseDTO.class)).isEqualTo(employee);
+            assertThat(mapper.readValue(codec.write(type, page), EmployeePageResponseDTO.class)).isEqualTo(page);
+        }
+    }
+
+    /**
+     * The request asked for 3x smaller than JSON. Measured on this list: JSON 154,542 bytes,
+     * CBOR 81,975 (1.9x), Smile 66,840 (2.3x). What is left is mostly the unique name and
+     * email strings, which no encoding shrinks, so the targets below are the measured ratios
+     * less a small margin. With response compression on, gzip gets JSON itself to ~14x.
+     */
+    @Test
+    @DisplayName("A streamed list is a single array, about 2x smaller than JSON")
+    void testStreamedArrayIsSmallerThanJson() throws Exception {
+        List<EmployeeResponseDTO> employees = employees(1000);
+        int jsonSize = objectMapper.writeValueAsBytes(employees).length;
+        Map<MediaType, Double> minRatio = Map.of(EmployeeBinaryCodec.CBOR, 1.8, EmployeeBinaryCodec.SMILE, 2.2);
+
+        for (MediaType type : List.of(EmployeeBinaryCodec.CBOR, EmployeeBinaryCodec.SMILE)) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            codec.writeArray(type, out, employees::forEach);
+
+            List<EmployeeResponseDTO> read = codec.mapperFor(type).readValue(out.toByteArray(), new TypeReference<>() { });
+            assertThat(read).isEqualTo(employees);
+            assertThat((double) jsonSize / out.size()).as("%s size %d vs JSON %d", type, out.size(), jsonSize)
+                    .isGreaterThanOrEqualTo(minRatio.get(type));
+        }
+    }
+
+    private static List<EmployeeResponseDTO> employees(int count) {
+        LocalDateTime created = LocalDateTime.of(2024, 1, 15, 8, 0);
+        List<EmployeeResponseDTO> employees = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            employees.add(new EmployeeResponseDTO((long) i, "Employee " + i, "user" + i + "@example.com",
+                    "Position " + (i % 20), created.plusDays(i % 28), created.plusDays(i % 28), 0L));
+        }
+        return employees;
+    }
+}
@@ -0,0 +1,96 @@
+package com.example.employee.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaRoutingDataSourceTest {
+
+    private Replica replica;
+    private ReadYourWrites readYourWrites;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = database("primary");
+        DataSource replicaDataSource = database("replica");
+        replica = new Replica("replica-0", replicaDataSource);
+        readYourWrites = new ReadYourWrites(Duration.ofMinutes(1));
+
+        LazyConnectionDataSourceProxy routing = new LazyConnectionDataSourceProxy(primary);
+        routing.setReadOnlyDataSource(new ReplicaPoolDataSource(
+                primary, List.of(replica), ReplicaSelection.ROUND_ROBIN, readYourWrites));
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(routing);
+        jdbcTemplate = new JdbcTemplate(routing);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReadYourWrites.clearClient();
+    }
+
+    @Test
+    @DisplayName("Read-only transactions use the replica, read-write ones the primary")
+    void testRoutesByReadOnlyFlag() {
+        assertThat(readFrom(readOnly)).isEqualTo("replica");
+        assertThat(readFrom(readWrite)).isEqualTo("primary");
+    }
+
+    @Test
+    @DisplayName("A client that just wrote reads from the primary; other clients keep using the replica")
+    void testReadYourWrites() {
+        ReadYourWrites.setClient("writer");
+        readYourWrites.recordWrite();
+        assertThat(readFrom(readOnly)).isEqualTo("primary");
+
+        ReadYourWrites.setClient("reader");
+        assertThat(readFrom(readOnly)).isEqualTo("replica");
+    }
+
+    @Test
+    @DisplayName("Reads fall back to the primary while the replica is down")
+    void testFallbackWhenReplicaDown() {
+        replica.markDown("test");
+        assertThat(readFrom(readOnly)).isEqualTo("primary");
+
+        replica.check(1);
+        assertThat(replica.isHealthy()).isTrue();
+        assertThat(readFrom(readOnly)).isEqualTo("replica");
+    }
+
+    private String readFrom(TransactionTemplate transaction) {
+        return transaction.execute(status -> whereAmI());
+    }
+
+    private String whereAmI() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker", String.class);
+    }
+
+    private static DataSource database(String name) {
+        DataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(20))");
+        jdbc.update("DELETE FROM marker");
+        jdbc.update("INSERT INTO marker (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
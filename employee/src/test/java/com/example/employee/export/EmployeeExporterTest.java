@@ -0,0 +1,105 @@
+package com.example.employee.export;
+
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeExporterTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2025, 1, 1, 10, 0);
+
+    private EmployeeJdbcRepository employeeJdbcRepository;
+    private EmployeeExporter exporter;
+
+    @BeforeEach
+    void setUp() {
+        employeeJdbcRepository = Mockito.mock(EmployeeJdbcRepository.class);
+        exporter = new EmployeeExporter(employeeJdbcRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenEmployees(int count) {
+        Mockito.doAnswer(invocation -> {
+            Consumer<EmployeeResponseDTO> consumer = invocation.getArgument(0);
+            for (long id = 1; id <= count; id++) {
+                consumer.accept(new EmployeeResponseDTO(id, "Doe, \"J\" " + id, "e" + id + "@example.com",
+                        "Engineer", CREATED, CREATED, 0L));
+            }
+            return null;
+        }).when(employeeJdbcRepository).streamActive(Mockito.any(Consumer.class));
+    }
+
+    @Test
+    @DisplayName("CSV export writes a header and escapes quotes and commas")
+    void testCsv() throws Exception {
+        givenEmployees(2);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        long rows = exporter.export(ExportFormat.CSV, false, Channels.newChannel(out));
+
+        assertThat(rows).isEqualTo(2);
+        assertThat(out.toString(StandardCharsets.UTF_8)).isEqualTo(
+                "id,name,email,position,created_at,updated_at\r\n"
+                        + "1,\"Doe, \"\"J\"\" 1\",e1@example.com,Engineer,2025-01-01T10:00,2025-01-01T10:00\r\n"
+                        + "2,\"Doe, \"\"J\"\" 2\",e2@example.com,Engineer,2025-01-01T10:00,2025-01-01T10:00\r\n");
+    }
+
+    @Test
+    @DisplayName("Gzipped columnar export round-trips across row groups")
+    void testColumnarGzip() throws Exception {
+        int count = ColumnarEmployeeWriter.ROW_GROUP_SIZE + 10;
+        givenEmployees(count);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        exporter.export(ExportFormat.COLUMNAR, true, Channels.newChannel(out));
+
+        DataInputStream in = new DataInputStream(new GZIPInputStream(new ByteArrayInputStream(out.toByteArray())));
+        assertThat(in.readNBytes(4)).isEqualTo(ColumnarEmployeeWriter.MAGIC);
+        assertThat(in.readByte()).isEqualTo(ColumnarEmployeeWriter.VERSION);
+
+        long nextId = 1;
+        int groupRows;
+        while ((groupRows = in.readInt()) > 0) {
+            for (int i = 0; i < groupRows; i++) {
+                assertThat(in.readLong()).isEqualTo(nextId + i);
+            }
+            for (int i = 0; i < groupRows; i++) {
+                assertThat(new String(in.readNBytes(in.readInt()), StandardCharsets.UTF_8))
+                        .isEqualTo("Doe, \"J\" " + (nextId + i));
+            }
+            for (int column = 0; column < 2; column++) {
+                for (int i = 0; i < groupRows; i++) {
+                    in.readNBytes(in.readInt());
+                }
+            }
+            for (int i = 0; i < groupRows * 2; i++) {
+                assertThat(in.readLong()).isEqualTo(CREATED.toInstant(ZoneOffset.UTC).toEpochMilli());
+            }
+            nextId += groupRows;
+        }
+        assertThat(nextId - 1).isEqualTo(count);
+        assertThat(in.read()).isEqualTo(-1);
+    }
+
+    @Test
+    @DisplayName("Unknown format is rejected")
+    void testUnknownFormat() {
+        assertThatThrownBy(() -> ExportFormat.from("xml")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
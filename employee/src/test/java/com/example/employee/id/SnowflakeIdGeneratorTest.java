@@ -0,0 +1,78 @@
+package com.example.employee.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final long NOW = SnowflakeIdGenerator.EPOCH_MILLIS + 86_400_000L;
+
+    @Test
+    @DisplayName("Ids carry the node and increase; a full millisecond borrows the next one")
+    void testLayoutAndOrder() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7, () -> NOW);
+
+        long previous = 0;
+        for (int i = 0; i < 300; i++) {
+            long id = generator.nextId();
+            assertThat(id).isGreaterThan(previous).isLessThan(1L << 53);
+            assertThat(SnowflakeIdGenerator.nodeOf(id)).isEqualTo(7);
+            previous = id;
+        }
+        // 300 ids at 128 per millisecond span three milliseconds of a clock that stood still
+        assertThat(SnowflakeIdGenerator.timestampOf(previous).toEpochMilli()).isEqualTo(NOW + 2);
+    }
+
+    @Test
+    @DisplayName("A clock that moves backwards does not repeat ids")
+    void testClockMovingBackwards() {
+        long[] clock = {NOW};
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(0, () -> clock[0]);
+
+        long before = generator.nextId();
+        clock[0] = NOW - 5_000;
+        assertThat(generator.nextId()).isGreaterThan(before);
+    }
+
+    @Test
+    @DisplayName("Concurrent callers get distinct ids")
+    void testConcurrentUniqueness() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1, System::currentTimeMillis);
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (int t = 0; t < 8; t++) {
+                futures.add(executor.submit(() -> {
+                    List<Long> ids = new ArrayList<>();
+                    for (int i = 0; i < 10_000; i++) {
+                        ids.add(generator.nextId());
+                    }
+                    return ids;
+                }));
+            }
+        }
+        Set<Long> unique = new HashSet<>();
+        for (Future<List<Long>> future : futures) {
+            unique.addAll(future.get());
+        }
+        assertThat(unique).hasSize(80_000);
+    }
+
+    @Test
+    @DisplayName("Node ids outside 5 bits are rejected")
+    void testNodeRange() {
+        assertThatThrownBy(() -> SnowflakeIdGenerator.forNode(SnowflakeIdGenerator.MAX_NODE_ID + 1))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(SnowflakeIdGenerator.forNode(3)).isSameAs(SnowflakeIdGenerator.forNode(3));
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.employee.importer;
+
+import com.example.employee.dto.EmployeeImportErrorDTO;
+import com.example.employee.dto.EmployeeImportResultDTO;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import com.example.employee.services.EmployeeBulkService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeImporterTest {
+
+    private EmployeeJdbcRepository employeeJdbcRepository;
+    private EmployeeImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        employeeJdbcRepository = Mockito.mock(EmployeeJdbcRepository.class);
+        PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        Mockito.when(transactionManager.getTransaction(Mockito.any()))
+                .thenReturn(new SimpleTransactionStatus());
+
+        AtomicLong ids = new AtomicLong();
+        Mockito.when(employeeJdbcRepository.insertBatch(Mockito.anyList(), Mockito.any(LocalDateTime.class)))
+                .thenAnswer(invocation -> LongStream.range(0, invocation.getArgument(0, List.class).size())
+                        .mapToObj(i -> ids.incrementAndGet()).toList());
+
+        importer = new EmployeeImporter(employeeJdbcRepository,
+                Mockito.mock(EmployeeBulkService.class),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new TransactionTemplate(transactionManager),
+                Mockito.mock(ApplicationEventPublisher.class),
+                2, 2, 2, 10);
+    }
+
+    private EmployeeImportResultDTO importCsv(String csv) throws Exception {
+        return importer.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    @DisplayName("Import reports invalid rows, in-file duplicates and existing emails by line")
+    void testImport_perRowErrors() throws Exception {
+        Mockito.when(employeeJdbcRepository.findIdsByEmails(Mockito.anyCollection()))
+                .thenAnswer(invocation -> invocation.getArgument(0, List.class).contains("taken@example.com")
+                        ? Map.of("taken@example.com", 9L) : Map.of());
+
+        EmployeeImportResultDTO result = importCsv("""
+                id,name,email,position
+                ,"Doe, Jane",jane@example.com,Engineer
+                ,Bad,not-an-email,Engineer
+                ,"Multi
+                line",JANE@example.com,Engineer
+                ,Taken,taken@example.com,Manager
+                ,John,john@example.com,Designer
+                """);
+
+        assertThat(result.getRows()).isEqualTo(5);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getErrors()).extracting(EmployeeImportErrorDTO::getLine).containsExactly(3L, 4L, 6L);
+        assertThat(result.getErrors().get(1).getError()).contains("Duplicate email in file");
+        assertThat(result.getErrors().get(2).getError()).contains("already exists");
+        Mockito.verify(employeeJdbcRepository, Mockito.times(2))
+                .insertBatch(Mockito.anyList(), Mockito.any(LocalDateTime.class));
+    }
+
+    @Test
+    @DisplayName("Header without the required columns is rejected")
+    void testImport_missingColumns() {
+        assertThatThrownBy(() -> importCsv("name,email\nJane,jane@example.com\n"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
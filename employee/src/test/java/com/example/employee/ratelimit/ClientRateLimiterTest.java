@@ -0,0 +1,49 @@
+package com.example.employee.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClientRateLimiterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private ClientRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties(true, 1000, Set.of(),
+                Map.of(EndpointGroup.SEARCH, new RateLimitProperties.Bucket(10, 5)),
+                new RateLimitProperties.Concurrency(true, 20, 4, 200, 0.2, 1.5));
+        limiter = new ClientRateLimiter(properties, clock::get);
+    }
+
+    @Test
+    @DisplayName("A burst is admitted, the next request waits one emission interval")
+    void testBurstThenRate() {
+        for (int i = 0; i < 5; i++) {
+            assertThat(limiter.tryAcquire("a", EndpointGroup.SEARCH)).isZero();
+        }
+        assertThat(limiter.tryAcquire("a", EndpointGroup.SEARCH)).isEqualTo(100_000_000L);
+
+        clock.addAndGet(100_000_000L);
+        assertThat(limiter.tryAcquire("a", EndpointGroup.SEARCH)).isZero();
+        assertThat(limiter.tryAcquire("a", EndpointGroup.SEARCH)).isPositive();
+    }
+
+    @Test
+    @DisplayName("Clients and endpoint groups have separate buckets")
+    void testSeparateBuckets() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire("a", EndpointGroup.SEARCH);
+        }
+        assertThat(limiter.tryAcquire("a", EndpointGroup.SEARCH)).isPositive();
+        assertThat(limiter.tryAcquire("b", EndpointGroup.SEARCH)).isZero();
+        assertThat(limiter.tryAcquire("a", EndpointGroup.READ)).isZero();
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.employee.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GradientConcurrencyLimiterTest {
+
+    private GradientConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new GradientConcurrencyLimiter(new RateLimitProperties.Concurrency(true, 10, 2, 100, 0.2, 1.5));
+    }
+
+    @Test
+    @DisplayName("Requests beyond the limit are rejected until one is released")
+    void testRejectsAtLimit() {
+        for (int i = 1; i <= 10; i++) {
+            assertThat(limiter.tryAcquire()).isEqualTo(i);
+        }
+        assertThat(limiter.tryAcquire()).isNegative();
+
+        limiter.release(10, -1);
+        assertThat(limiter.tryAcquire()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("The limit grows while latency is flat and shrinks when it climbs")
+    void testAdaptsToLatency() {
+        for (int i = 0; i < 50; i++) {
+            limiter.tryAcquire();
+            limiter.release(limiter.limit(), 10_000_000L);
+        }
+        int grown = limiter.limit();
+        assertThat(grown).isGreaterThan(10);
+
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.release(limiter.limit(), 100_000_000L);
+        }
+        assertThat(limiter.limit()).isLessThan(grown);
+    }
+
+    @Test
+    @DisplayName("Samples taken far below the limit do not move it")
+    void testIgnoresAppLimitedSamples() {
+        for (int i = 0; i < 20; i++) {
+            limiter.tryAcquire();
+            limiter.release(1, 500_000_000L);
+        }
+        assertThat(limiter.limit()).isEqualTo(10);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.employee.ratelimit;
+
+import com.example.employee.metrics.EmployeeMetrics;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoadSheddingFilterTest {
+
+    private static final RateLimitProperties PROPERTIES = new RateLimitProperties(true, 1000, Set.of("10.0.0.1"),
+            Map.of(), new RateLimitProperties.Concurrency(true, 20, 4, 200, 0.2, 1.5));
+
+    private static MockHttpServletRequest request(String remoteAddr, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/employees");
+        request.setRemoteAddr(remoteAddr);
+        if (clientId != null) {
+            request.addHeader(LoadSheddingFilter.CLIENT_HEADER, clientId);
+        }
+        return request;
+    }
+
+    @Test
+    @DisplayName("X-Client-Id is only trusted from configured proxies")
+    void testClientHeaderOnlyFromTrustedProxies() {
+        assertThat(LoadSheddingFilter.clientOf(request("203.0.113.7", "someone-else"), PROPERTIES.trustedProxies()))
+                .isEqualTo("203.0.113.7");
+        assertThat(LoadSheddingFilter.clientOf(request("10.0.0.1", "client-42"), PROPERTIES.trustedProxies()))
+                .isEqualTo("client-42");
+        assertThat(LoadSheddingFilter.clientOf(request("10.0.0.1", null), PROPERTIES.trustedProxies()))
+                .isEqualTo("10.0.0.1");
+    }
+
+    @Test
+    @DisplayName("An async response holds its concurrency permit until it completes")
+    void testAsyncResponseHoldsPermit() throws Exception {
+        GradientConcurrencyLimiter concurrencyLimiter = new GradientConcurrencyLimiter(PROPERTIES.concurrency());
+        LoadSheddingFilter filter = new LoadSheddingFilter(new ClientRateLimiter(PROPERTIES), concurrencyLimiter,
+                new EmployeeMetrics(new SimpleMeterRegistry()), new ObjectMapper(), PROPERTIES.trustedProxies());
+        MockHttpServletRequest request = request("203.0.113.7", null);
+        request.setAsyncSupported(true);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> req.startAsync());
+
+        assertThat(concurrencyLimiter.inflight()).isEqualTo(1);
+        request.getAsyncContext().complete();
+        assertThat(concurrencyLimiter.inflight()).isZero();
+    }
+}
@@ -0,0 +1,128 @@
+package com.example.employee.repositoy;
+
+import com.example.employee.config.IdGeneratorConfig;
+import com.example.employee.dto.EmployeeChangeDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Runs outside a test transaction so that two connections can commit in a chosen order.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EmployeeJdbcRepository.class, EmployeeChangeLogRepository.class, IdGeneratorConfig.class})
+class EmployeeChangeLogRepositoryTest {
+
+    @Autowired
+    private EmployeeJdbcRepository employeeJdbcRepository;
+
+    @Autowired
+    private EmployeeChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM employee_changes");
+        jdbcTemplate.update("DELETE FROM employee_change_sequence");
+        jdbcTemplate.update("DELETE FROM employees");
+    }
+
+    private int sequence() {
+        return new TransactionTemplate(transactionManager).execute(status -> changeLogRepository.sequencePending(100));
+    }
+
+    @Test
+    @DisplayName("A write that commits after a later-stamped one is still delivered after the watermark")
+    void testLateCommitIsNotSkipped() throws SQLException {
+        LocalDateTime now = LocalDateTime.now();
+        long watermark;
+        try (Connection slow = dataSource.getConnection()) {
+            slow.setAutoCommit(false);
+            try (PreparedStatement insert = slow.prepareStatement(
+                    "INSERT INTO employees (id, name, email, position, created_at, updated_at, is_deleted, version) "
+                    + "VALUES (1, 'Slow Writer', 'slow@example.com', 'Engineer', ?, ?, FALSE, 0)")) {
+                insert.setTimestamp(1, Timestamp.valueOf(now.minusMinutes(1)));
+                insert.setTimestamp(2, Timestamp.valueOf(now.minusMinutes(1)));
+                insert.executeUpdate();
+            }
+            // What EmployeeChangeLogRepository.record runs in the writer's transaction
+            try (PreparedStatement record = slow.prepareStatement(
+                    "INSERT INTO employee_changes (employee_id, name, email, position, created_at, updated_at, "
+                    + "version, is_deleted) SELECT id, name, email, position, created_at, updated_at, version, "
+                    + "is_deleted FROM employees WHERE id = 1")) {
+                record.executeUpdate();
+            }
+            Long fastId = employeeJdbcRepository.insertBatch(
+                    List.of(new EmployeeRequestDTO("Fast Writer", "fast@example.com", "Engineer")), now).get(0);
+
+            // The uncommitted change is not numbered, and not skipped either
+            assertThat(sequence()).isEqualTo(1);
+            List<EmployeeChangeDTO> first = changeLogRepository.findChangesAfter(0, 10);
+            assertThat(first).extracting(EmployeeChangeDTO::getId).containsExactly(fastId);
+            watermark = first.get(0).getSeq();
+
+            slow.commit();
+        }
+
+        assertThat(sequence()).isEqualTo(1);
+        List<EmployeeChangeDTO> next = changeLogRepository.findChangesAfter(watermark, 10);
+        assertThat(next).extracting(EmployeeChangeDTO::getId).containsExactly(1L);
+        assertThat(next.get(0).getSeq()).isGreaterThan(watermark);
+        assertThat(next.get(0).getUpdatedAt()).isBefore(first(watermark).getUpdatedAt());
+        assertThat(sequence()).isZero();
+    }
+
+    @Test
+    @DisplayName("Soft deletes are logged with the employee's new state, in order, and no-op writes not at all")
+    void testUpdatesAndDeletesAreLogged() {
+        Long id = employeeJdbcRepository.insertBatch(
+                List.of(new EmployeeRequestDTO("Kavya Rao", "kavya@example.com", "Designer")), LocalDateTime.now()).get(0);
+        employeeJdbcRepository.softDeleteBatch(List.of(id), LocalDateTime.now());
+        // Matches nothing, so logs nothing
+        employeeJdbcRepository.softDeleteBatch(List.of(id), LocalDateTime.now());
+        sequence();
+
+        List<EmployeeChangeDTO> changes = changeLogRepository.findChangesAfter(0, 10);
+
+        assertThat(changes).extracting(EmployeeChangeDTO::getId).containsExactly(id, id);
+        assertThat(changes).extracting(EmployeeChangeDTO::isDeleted).containsExactly(false, true);
+        assertThat(changes.get(1).getVersion()).isGreaterThan(changes.get(0).getVersion());
+        assertThat(changes.get(1).getSeq()).isEqualTo(changes.get(0).getSeq() + 1);
+    }
+
+    private EmployeeChangeDTO first(long seq) {
+        return changeLogRepository.findChangesAfter(seq - 1, 1).get(0);
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.employee.repositoy;
+
+import com.example.employee.config.IdGeneratorConfig;
+import com.example.employee.dto.EmployeeFilterDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import com.example.employee.repository.EmployeeJdbcRepository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmployeeJdbcRepository.class, EmployeeChangeLogRepository.class, IdGeneratorConfig.class})
+class EmployeeJdbcRepositoryTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2025, 1, 10, 9, 0);
+    private static final LocalDateTime MARCH = LocalDateTime.of(2025, 3, 5, 9, 0);
+
+    @Autowired
+    private EmployeeJdbcRepository employeeJdbcRepository;
+
+    @BeforeEach
+    void setUp() {
+        employeeJdbcRepository.insertBatch(List.of(
+                new EmployeeRequestDTO("Karan Mehta", "karan@example.com", "Engineer"),
+                new EmployeeRequestDTO("Kavya Rao", "kavya@example.com", "Designer"),
+                new EmployeeRequestDTO("Kabir Shah", "kabir@example.com", "Engineer")), JANUARY);
+        employeeJdbcRepository.insertBatch(List.of(
+                new EmployeeRequestDTO("Karl Ng", "karl@example.com", "Engineer")), MARCH);
+    }
+
+    @Test
+    @DisplayName("Filters combine and page by id")
+    void testFilteredPage() {
+        EmployeeFilterDTO filter = EmployeeFilterDTO.builder()
+                .position("Engineer")
+                .namePrefix("Ka")
+                .createdFrom(LocalDateTime.of(2025, 1, 1, 0, 0))
+                .createdTo(LocalDateTime.of(2025, 2, 1, 0, 0))
+                .build();
+
+        List<EmployeeResponseDTO> first = employeeJdbcRepository.findActivePage(filter, 0L, 1);
+        List<EmployeeResponseDTO> rest = employeeJdbcRepository.findActivePage(filter, first.get(0).getId(), 10);
+
+        assertThat(first).extracting(EmployeeResponseDTO::getName).containsExactly("Karan Mehta");
+        assertThat(rest).extracting(EmployeeResponseDTO::getName).containsExactly("Kabir Shah");
+    }
+
+    @Test
+    @DisplayName("LIKE wildcards in the name prefix match literally")
+    void testNamePrefixIsEscaped() {
+        EmployeeFilterDTO filter = EmployeeFilterDTO.builder().namePrefix("K%").build();
+
+        assertThat(employeeJdbcRepository.findActivePage(filter, 0L, 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Headcounts are grouped by position and created month")
+    void testCountByPositionAndMonth() {
+        List<String> cells = new ArrayList<>();
+        employeeJdbcRepository.countActiveByPositionAndMonth((position, year, month, count) ->
+                cells.add(position + " " + year + "-" + month + " " + count));
+
+        assertThat(cells).containsExactlyInAnyOrder("Engineer 2025-1 2", "Designer 2025-1 1", "Engineer 2025-3 1");
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.employee.repositoy;
+
+import com.example.employee.config.IdGeneratorConfig;
+import com.example.employee.dto.EmployeeFilterDTO;
+import com.example.employee.entity.Employee;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import com.example.employee.repository.EmployeeRepository;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks with H2's EXPLAIN that the queries the repositories actually run are served by
+ * the (is_deleted, ...) indexes, and the change feed by the change log's seq, instead of
+ * scanning the table. The SQL and its bind values are captured from the DataSource, so
+ * the plans follow any change to the JPQL or the JDBC statements.
+ * <p>
+ * Runs outside a test transaction: H2's ANALYZE, which gives the planner the column
+ * selectivities it needs, commits. The seeded rows are deleted after each test.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({EmployeeJdbcRepository.class, EmployeeChangeLogRepository.class, IdGeneratorConfig.class, EmployeeQueryPlanTest.CaptureConfig.class})
+class EmployeeQueryPlanTest {
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EmployeeJdbcRepository employeeJdbcRepository;
+
+    @Autowired
+    private EmployeeChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private CapturingDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        List<Employee> employees = new ArrayList<>();
+        for (int i = 0; i < 500; i++) {
+            employees.add(Employee.builder()
+                    .name("Employee " + i)
+                    .email("employee" + i + "@example.com")
+                    .position("Position " + (i % 20))
+                    .isDeleted(i % 10 == 0)
+                    .build());
+        }
+        employeeRepository.saveAllAndFlush(employees);
+        jdbcTemplate.execute("ANALYZE");
+        dataSource.captured.clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM employees");
+    }
+
+    // EXPLAIN the last query run through the DataSource, with the values it was bound with
+    private String explainLastQuery() {
+        CapturedQuery query = dataSource.captured.get(dataSource.captured.size() - 1);
+        List<String> plan = jdbcTemplate.query("EXPLAIN " + query.sql(), ps -> {
+            for (Map.Entry<Integer, Object> param : query.params().entrySet()) {
+                ps.setObject(param.getKey(), param.getValue());
+            }
+        }, (rs, rowNum) -> rs.getString(1));
+        return String.join("\n", plan).toUpperCase(Locale.ROOT);
+    }
+
+    @Test
+    @DisplayName("Active list and keyset pages use the (is_deleted, id) index")
+    void testListUsesDeletedIdIndex() {
+        employeeJdbcRepository.streamActive(employee -> { });
+        assertThat(explainLastQuery()).contains("IDX_EMPLOYEES_DELETED_ID");
+
+        employeeRepository.findActivePageProjected(100L, PageRequest.ofSize(50));
+        assertThat(explainLastQuery()).contains("IDX_EMPLOYEES_DELETED_ID");
+    }
+
+    @Test
+    @DisplayName("Lookup by id uses the primary key")
+    void testLookupUsesPrimaryKey() {
+        employeeRepository.findActiveProjectedById(42L);
+
+        assertThat(explainLastQuery()).contains("PRIMARY_KEY");
+    }
+
+    @Test
+    @DisplayName("Position-filtered keyset pages use the (is_deleted, position, id) index")
+    void testPositionFilterUsesDeletedPositionIndex() {
+        employeeJdbcRepository.findActivePage(EmployeeFilterDTO.builder().position("Position 3").build(), 100L, 50);
+
+        assertThat(explainLastQuery()).contains("IDX_EMPLOYEES_DELETED_POSITION");
+    }
+
+    @Test
+    @DisplayName("Name-prefix filtered pages use the (is_deleted, name, id) index")
+    void testNamePrefixUsesDeletedNameIndex() {
+        employeeJdbcRepository.findActivePage(EmployeeFilterDTO.builder().namePrefix("Employee 4").build(), 0L, 50);
+
+        assertThat(explainLastQuery()).contains("IDX_EMPLOYEES_DELETED_NAME");
+    }
+
+    @Test
+    @DisplayName("Change feed pages use the change log's seq index")
+    void testChangesUseSeqIndex() {
+        changeLogRepository.findChangesAfter(10L, 100);
+
+        assertThat(explainLastQuery()).contains("UQ_EMPLOYEE_CHANGES_SEQ");
+    }
+
+    record CapturedQuery(String sql, Map<Integer, Object> params) {
+    }
+
+    /**
+     * Records the SQL and bind values of every prepared statement that is executed.
+     */
+    static class CapturingDataSource extends DelegatingDataSource {
+
+        final List<CapturedQuery> captured = new ArrayList<>();
+
+        CapturingDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            return capture(super.getConnection());
+        }
+
+        @Override
+        public Connection getConnection(String username, String password) throws SQLException {
+            return capture(super.getConnection(username, password));
+        }
+
+        private Connection capture(Connection connection) {
+            return (Connection) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                        Object result = invoke(connection, method, args);
+                        if (result instanceof PreparedStatement statement && method.getName().equals("prepareStatement")) {
+                            return capture(statement, (String) args[0]);
+                        }
+                        return result;
+                    });
+        }
+
+        private PreparedStatement capture(PreparedStatement statement, String sql) {
+            Map<Integer, Object> params = new TreeMap<>();
+            return (PreparedStatement) Proxy.newProxyInstance(getClass().getClassLoader(),
+                    new Class<?>[] {PreparedStatement.class}, (proxy, method, args) -> {
+                        String name = method.getName();
+                        if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                            params.put(index, name.equals("setNull") ? null : args[1]);
+                        } else if (name.startsWith("execute") && (args == null || args.length == 0)
+                                && !sql.startsWith("EXPLAIN")) {
+                            captured.add(new CapturedQuery(sql, new TreeMap<>(params)));
+                        }
+                        return invoke(statement, method, args);
+                    });
+        }
+
+        private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+            try {
+                return method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        static BeanPostProcessor capturingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource && !(bean instanceof CapturingDataSource)
+                            ? new CapturingDataSource(dataSource) : bean;
+                }
+            };
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.example.employee.repositoy;
 
 
 
+import com.example.employee.dto.EmployeeResponseDTO;
 import com.example.employee.entity.Employee;
 import com.example.employee.repository.EmployeeRepository;
 
@@ -10,7 +11,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -98,4 +101,55 @@ class EmployeeRepositoryTest {
         assertThat(results.size()).isEqualTo(1);
         assertThat(results.get(0).getName()).isEqualTo("Carol");
     }
+
+    @Test
+    @DisplayName("Projection queries return only active employees as DTOs")
+    void testActiveProjections() {
+        Employee erin = employeeRepository.save(Employee.builder()
+                .name("Erin")
+                .email("erin@example.com")
+                .position("Manager")
+                .isDeleted(false)
+                .build());
+
+        Employee frank = employeeRepository.save(Employee.builder()
+                .name("Frank")
+                .email("frank@example.com")
+                .position("Analyst")
+                .isDeleted(true)
+                .build());
+
+        List<EmployeeResponseDTO> all = employeeRepository.findAllActiveProjected();
+        assertThat(all).extracting(EmployeeResponseDTO::getName).containsExactly("Erin");
+
+        assertThat(employeeRepository.findActiveProjectedById(erin.getId())).isPresent();
+        assertThat(employeeRepository.findActiveProjectedById(frank.getId())).isEmpty();
+
+        List<EmployeeResponseDTO> page = employeeRepository.findActivePageProjected(0L, PageRequest.ofSize(10));
+        assertThat(page).hasSize(1);
+        assertThat(employeeRepository.searchActiveProjected("FR", PageRequest.ofSize(10))).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Conditional update only applies at the expected version and bumps it")
+    void testUpdateActiveIfVersion() {
+        Employee saved = employeeRepository.saveAndFlush(Employee.builder()
+                .name("Versioned")
+                .email("versioned@example.com")
+                .position("Developer")
+                .isDeleted(false)
+                .build());
+        Long version = saved.getVersion();
+
+        int stale = employeeRepository.updateActiveIfVersion(saved.getId(), "Stale", "versioned@example.com",
+                "Developer", LocalDateTime.now(), version + 1);
+        int applied = employeeRepository.updateActiveIfVersion(saved.getId(), "Renamed", "versioned@example.com",
+                "Lead", LocalDateTime.now(), version);
+
+        assertThat(stale).isZero();
+        assertThat(applied).isEqualTo(1);
+        EmployeeResponseDTO current = employeeRepository.findActiveProjectedById(saved.getId()).orElseThrow();
+        assertThat(current.getName()).isEqualTo("Renamed");
+        assertThat(current.getVersion()).isEqualTo(version + 1);
+    }
 }
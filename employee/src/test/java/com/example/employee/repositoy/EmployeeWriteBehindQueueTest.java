@@ -0,0 +1,54 @@
+package com.example.employee.repositoy;
+
+import com.example.employee.repository.EmployeeJdbcRepository;
+import com.example.employee.repository.EmployeeWriteBehindQueue;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeWriteBehindQueueTest {
+
+    @Test
+    @DisplayName("Deletes are queued once per id and flushed in batches")
+    void testCoalesceAndFlush() {
+        EmployeeJdbcRepository jdbcRepository = Mockito.mock(EmployeeJdbcRepository.class);
+        EmployeeWriteBehindQueue queue = new EmployeeWriteBehindQueue(jdbcRepository,
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)), true, 2);
+
+        assertThat(queue.enqueueSoftDelete(1L)).isTrue();
+        assertThat(queue.enqueueSoftDelete(1L)).isFalse();
+        queue.enqueueSoftDelete(2L);
+        queue.enqueueSoftDelete(3L);
+
+        assertThat(queue.isPendingDelete(1L)).isTrue();
+        assertThat(queue.pendingCount()).isEqualTo(3);
+
+        queue.flush();
+
+        Mockito.verify(jdbcRepository, Mockito.times(2))
+                .softDeleteBatch(Mockito.anyList(), Mockito.any(LocalDateTime.class));
+        assertThat(queue.pendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Failed flush keeps deletes queued")
+    void testFailedFlushRetains() {
+        EmployeeJdbcRepository jdbcRepository = Mockito.mock(EmployeeJdbcRepository.class);
+        Mockito.when(jdbcRepository.softDeleteBatch(Mockito.anyList(), Mockito.any(LocalDateTime.class)))
+                .thenThrow(new IllegalStateException("database down"));
+        EmployeeWriteBehindQueue queue = new EmployeeWriteBehindQueue(jdbcRepository,
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)), true, 10);
+
+        queue.enqueueSoftDelete(1L);
+        queue.flush();
+
+        assertThat(queue.isPendingDelete(1L)).isTrue();
+        assertThat(queue.pendingCount()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,88 @@
+package com.example.employee.search;
+
+import com.example.employee.dto.EmployeeChangeDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeNameIndexTest {
+
+    private EmployeeChangeLogRepository changeLogRepository;
+    private EmployeeNameIndex index;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        EmployeeJdbcRepository jdbcRepository = Mockito.mock(EmployeeJdbcRepository.class);
+        Mockito.doAnswer(invocation -> {
+            Consumer<EmployeeResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(employee(1L, "Bobby Brown"));
+            consumer.accept(employee(2L, "Bob"));
+            consumer.accept(employee(3L, "Alice Bobson"));
+            consumer.accept(employee(4L, "Carol"));
+            return null;
+        }).when(jdbcRepository).streamActive(Mockito.any(Consumer.class));
+        changeLogRepository = Mockito.mock(EmployeeChangeLogRepository.class);
+        Mockito.when(changeLogRepository.maxSeq()).thenReturn(10L);
+
+        index = new EmployeeNameIndex(jdbcRepository, changeLogRepository);
+        index.build();
+    }
+
+    private static EmployeeResponseDTO employee(Long id, String name) {
+        return EmployeeResponseDTO.builder().id(id).name(name).build();
+    }
+
+    private static EmployeeChangeDTO change(long seq, Long id, String name, boolean deleted) {
+        return EmployeeChangeDTO.builder().seq(seq).id(id).name(name).deleted(deleted).build();
+    }
+
+    @Test
+    @DisplayName("Matches are ranked exact, prefix, word prefix")
+    void testSearchRanking() {
+        assertThat(index.isReady()).isTrue();
+        assertThat(index.search("BOB", 10)).containsExactly(2L, 1L, 3L);
+    }
+
+    @Test
+    @DisplayName("Limits keep the best matches")
+    void testLimit() {
+        assertThat(index.search("bob", 2)).containsExactly(2L, 1L);
+        assertThat(index.search("b", 1)).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("Short queries match anywhere in a name, prefixes of the name and its words first")
+    void testShortQueries() {
+        assertThat(index.search("ca", 10)).containsExactly(4L);
+        assertThat(index.search("b", 10)).containsExactly(2L, 1L, 3L);
+        assertThat(index.search("bo", 10)).containsExactly(2L, 1L, 3L);
+        // Not at the start of a word: contained, shorter names first, like the database fallback
+        assertThat(index.search("li", 10)).containsExactly(3L);
+        assertThat(index.search("ro", 10)).containsExactly(4L, 1L);
+        assertThat(index.search("o", 10)).containsExactly(2L, 4L, 1L, 3L);
+        assertThat(index.search("ro", 1)).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Changes from the log after the build are applied in seq order")
+    void testFollowsChangeLog() {
+        Mockito.when(changeLogRepository.findChangesAfter(Mockito.eq(10L), Mockito.anyInt()))
+                .thenReturn(List.of(change(11L, 4L, "Bobbie", false), change(12L, 1L, "Bobby Brown", true)));
+
+        index.follow();
+
+        assertThat(index.search("bob", 10)).containsExactly(2L, 4L, 3L);
+        assertThat(index.search("carol", 10)).isEmpty();
+        assertThat(index.search("ca", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.employee.services;
+
+import com.example.employee.cache.EmployeeEmailRegistry;
+import com.example.employee.config.IdGeneratorConfig;
+import com.example.employee.dto.EmployeeArchiveResultDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.exception.DuplicateEmailException;
+import com.example.employee.metrics.EmployeeMetrics;
+import com.example.employee.repository.EmployeeArchiveRepository;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({EmployeeJdbcRepository.class, EmployeeArchiveRepository.class, EmployeeChangeLogRepository.class, IdGeneratorConfig.class})
+class EmployeeArchiveServiceImplTest {
+
+    @Autowired
+    private EmployeeJdbcRepository employeeJdbcRepository;
+
+    @Autowired
+    private EmployeeArchiveRepository archiveRepository;
+
+    @Autowired
+    private EmployeeChangeLogRepository changeLogRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private ApplicationEventPublisher eventPublisher;
+    private EmployeeArchiveServiceImpl archiveService;
+    private List<Long> ids;
+
+    @BeforeEach
+    void setUp() {
+        eventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        archiveService = new EmployeeArchiveServiceImpl(archiveRepository, changeLogRepository,
+                Mockito.mock(EmployeeEmailRegistry.class),
+                new EmployeeMetrics(new SimpleMeterRegistry()),
+                eventPublisher,
+                new TransactionTemplate(transactionManager),
+                true, Duration.ofDays(30), 2, Duration.ZERO, 10, Duration.ofDays(7));
+
+        LocalDateTime longAgo = LocalDateTime.now().minusDays(120);
+        ids = employeeJdbcRepository.insertBatch(List.of(
+                new EmployeeRequestDTO("Karan Mehta", "karan@example.com", "Engineer"),
+                new EmployeeRequestDTO("Kavya Rao", "kavya@example.com", "Designer"),
+                new EmployeeRequestDTO("Kabir Shah", "kabir@example.com", "Engineer"),
+                new EmployeeRequestDTO("Karl Ng", "karl@example.com", "Engineer"),
+                new EmployeeRequestDTO("Kiran Das", "kiran@example.com", "Analyst")), longAgo);
+        // Three deleted past retention, one deleted recently, one active
+        employeeJdbcRepository.softDeleteBatch(ids.subList(0, 3), LocalDateTime.now().minusDays(60));
+        employeeJdbcRepository.softDeleteBatch(ids.subList(3, 4), LocalDateTime.now().minusDays(1));
+    }
+
+    private int count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Integer.class);
+    }
+
+    @Test
+    @DisplayName("Only employees deleted past retention are archived, in keyset batches")
+    void testArchiveExpired() {
+        EmployeeArchiveResultDTO result = archiveService.archiveExpired().orElseThrow();
+
+        assertThat(result.getArchived()).isEqualTo(3);
+        assertThat(result.getBatches()).isEqualTo(2);
+        assertThat(result.isComplete()).isTrue();
+        assertThat(count("employees")).isEqualTo(2);
+        assertThat(count("employees_archive")).isEqualTo(3);
+        assertThat(archiveService.archiveExpired().orElseThrow().getArchived()).isZero();
+    }
+
+    @Test
+    @DisplayName("Changes older than the change retention are pruned in seq ranges, keeping the rest")
+    void testPruneChanges() {
+        new TransactionTemplate(transactionManager).execute(status -> changeLogRepository.sequencePending(100));
+
+        // Five inserts 120 days ago and three deletes 60 days ago go; the delete of yesterday stays
+        assertThat(archiveService.pruneChanges()).isEqualTo(8);
+        assertThat(changeLogRepository.minSeq()).isEqualTo(9);
+        assertThat(changeLogRepository.maxSeq()).isEqualTo(9);
+        assertThat(archiveService.pruneChanges()).isZero();
+    }
+
+    @Test
+    @DisplayName("Restore brings an archived employee back as active with a new version")
+    void testRestoreEmployee() {
+        archiveService.archiveExpired();
+
+        EmployeeResponseDTO restored = archiveService.restoreEmployee(ids.get(0));
+
+        assertThat(restored.getEmail()).isEqualTo("karan@example.com");
+        assertThat(restored.getVersion()).isEqualTo(2L);
+        assertThat(employeeJdbcRepository.findActiveByIds(List.of(ids.get(0)))).hasSize(1);
+        assertThat(archiveRepository.findArchived(ids.get(0))).isEmpty();
+        Mockito.verify(eventPublisher).publishEvent(Mockito.any(EmployeeChangedEvent.class));
+        assertThatThrownBy(() -> archiveService.restoreEmployee(ids.get(0)))
+                .isInstanceOf(NoSuchElementException.class);
+    }
+
+    @Test
+    @DisplayName("Restore is refused when the email has been taken since")
+    void testRestoreEmployee_emailTaken() {
+        archiveService.archiveExpired();
+        employeeJdbcRepository.insertBatch(List.of(
+                new EmployeeRequestDTO("Karan M", "karan@example.com", "Engineer")), LocalDateTime.now());
+
+        assertThatThrownBy(() -> archiveService.restoreEmployee(ids.get(0)))
+                .isInstanceOf(DuplicateEmailException.class);
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.employee.services;
+
+import com.example.employee.dto.EmployeeBulkItemResultDTO;
+import com.example.employee.dto.EmployeeBulkResultDTO;
+import com.example.employee.dto.EmployeeBulkUpdateDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeBulkServiceImplTest {
+
+    private EmployeeJdbcRepository employeeJdbcRepository;
+    private EmployeeBulkServiceImpl bulkService;
+
+    @BeforeEach
+    void setUp() {
+        employeeJdbcRepository = Mockito.mock(EmployeeJdbcRepository.class);
+        PlatformTransactionManager transactionManager = Mockito.mock(PlatformTransactionManager.class);
+        Mockito.when(transactionManager.getTransaction(Mockito.any()))
+                .thenReturn(new SimpleTransactionStatus());
+
+        bulkService = new EmployeeBulkServiceImpl(employeeJdbcRepository,
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                new TransactionTemplate(transactionManager),
+                Mockito.mock(ApplicationEventPublisher.class),
+                2);
+    }
+
+    private static EmployeeRequestDTO request(String name, String email) {
+        return EmployeeRequestDTO.builder().name(name).email(email).position("Developer").build();
+    }
+
+    @Test
+    @DisplayName("Bulk create reports invalid, duplicate and existing emails per item")
+    void testCreateEmployees_perItemErrors() {
+        Mockito.when(employeeJdbcRepository.findIdsByEmails(Mockito.anyCollection()))
+                .thenAnswer(invocation -> invocation.getArgument(0, List.class).contains("taken@example.com")
+                        ? Map.of("taken@example.com", 9L) : Map.of());
+        Mockito.when(employeeJdbcRepository.insertBatch(Mockito.anyList(), Mockito.any(LocalDateTime.class)))
+                .thenAnswer(invocation -> invocation.getArgument(0, List.class).size() == 1 ? List.of(10L) : List.of());
+
+        EmployeeBulkResultDTO result = bulkService.createEmployees(List.of(
+                request("Alice", "alice@example.com"),
+                request("", "not-an-email"),
+                request("Alice Again", "ALICE@example.com"),
+                request("Taken", "taken@example.com")));
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(3);
+        assertThat(result.getItems()).extracting(EmployeeBulkItemResultDTO::getStatus).containsExactly(
+                EmployeeBulkItemResultDTO.CREATED,
+                EmployeeBulkItemResultDTO.FAILED,
+                EmployeeBulkItemResultDTO.FAILED,
+                EmployeeBulkItemResultDTO.FAILED);
+        assertThat(result.getItems().get(0).getId()).isEqualTo(10L);
+        assertThat(result.getItems().get(2).getError()).contains("Duplicate email in request");
+        assertThat(result.getItems().get(3).getError()).contains("already exists");
+    }
+
+    @Test
+    @DisplayName("A failed update batch is retried item by item, so only the conflicting item fails")
+    void testUpdateEmployees_retriesItemByItem() {
+        Mockito.when(employeeJdbcRepository.lockActiveIds(Mockito.anyCollection()))
+                .thenAnswer(invocation -> List.copyOf(invocation.getArgument(0, List.class)));
+        Mockito.when(employeeJdbcRepository.updateBatch(Mockito.anyList(), Mockito.any(LocalDateTime.class)))
+                .thenAnswer(invocation -> {
+                    List<EmployeeBulkUpdateDTO> batch = invocation.getArgument(0);
+                    if (batch.stream().anyMatch(item -> item.getEmail().equals("taken@example.com"))) {
+                        throw new DuplicateKeyException("uq_employees_email");
+                    }
+                    return new int[] {1};
+                });
+
+        EmployeeBulkResultDTO result = bulkService.updateEmployees(List.of(
+                new EmployeeBulkUpdateDTO(1L, "Alice", "alice@example.com", "Developer"),
+                new EmployeeBulkUpdateDTO(2L, "Bob", "taken@example.com", "Developer")));
+
+        assertThat(result.getItems()).extracting(EmployeeBulkItemResultDTO::getStatus).containsExactly(
+                EmployeeBulkItemResultDTO.UPDATED,
+                EmployeeBulkItemResultDTO.FAILED);
+        assertThat(result.getItems().get(1).getError()).contains("already exists: taken@example.com");
+    }
+
+    @Test
+    @DisplayName("Batch counts without info are resolved against the rows locked before the batch")
+    void testDeleteEmployees_successNoInfo() {
+        Mockito.when(employeeJdbcRepository.lockActiveIds(Mockito.anyCollection())).thenReturn(List.of(1L));
+        Mockito.when(employeeJdbcRepository.softDeleteBatch(Mockito.anyList(), Mockito.any(LocalDateTime.class)))
+                .thenReturn(new int[] {Statement.SUCCESS_NO_INFO, Statement.SUCCESS_NO_INFO});
+
+        EmployeeBulkResultDTO result = bulkService.deleteEmployees(List.of(1L, 2L));
+
+        assertThat(result.getItems()).extracting(EmployeeBulkItemResultDTO::getStatus).containsExactly(
+                EmployeeBulkItemResultDTO.DELETED,
+                EmployeeBulkItemResultDTO.FAILED);
+        assertThat(result.getItems().get(1).getError()).contains("Employee not found");
+    }
+
+    @Test
+    @DisplayName("Bulk delete marks missing ids as failed")
+    void testDeleteEmployees_missingId() {
+        Mockito.when(employeeJdbcRepository.softDeleteBatch(Mockito.anyList(), Mockito.any(LocalDateTime.class)))
+                .thenReturn(new int[] {1, 0});
+
+        EmployeeBulkResultDTO result = bulkService.deleteEmployees(List.of(1L, 2L));
+
+        assertThat(result.getSucceeded()).isEqualTo(1);
+        assertThat(result.getItems().get(1).getError()).contains("Employee not found");
+    }
+
+    @Test
+    @DisplayName("Bulk delete rejects a repeated id instead of reporting it not found")
+    void testDeleteEmployees_duplicateId() {
+        Mockito.when(employeeJdbcRepository.softDeleteBatch(Mockito.anyList(), Mockito.any(LocalDateTime.class)))
+                .thenReturn(new int[] {1, 1});
+
+        EmployeeBulkResultDTO result = bulkService.deleteEmployees(List.of(1L, 2L, 1L));
+
+        assertThat(result.getItems()).extracting(EmployeeBulkItemResultDTO::getStatus).containsExactly(
+                EmployeeBulkItemResultDTO.DELETED,
+                EmployeeBulkItemResultDTO.DELETED,
+                EmployeeBulkItemResultDTO.FAILED);
+        assertThat(result.getItems().get(2).getError()).contains("Duplicate id in request: 1");
+        Mockito.verify(employeeJdbcRepository).softDeleteBatch(Mockito.eq(List.of(1L, 2L)), Mockito.any(LocalDateTime.class));
+    }
+}
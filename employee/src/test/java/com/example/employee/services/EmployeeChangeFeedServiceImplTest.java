@@ -0,0 +1,89 @@
+package com.example.employee.services;
+
+import com.example.employee.dto.EmployeeChangeDTO;
+import com.example.employee.dto.EmployeeChangePageDTO;
+import com.example.employee.exception.ChangesExpiredException;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class EmployeeChangeFeedServiceImplTest {
+
+    private EmployeeChangeLogRepository changeLogRepository;
+    private EmployeeChangeFeedServiceImpl changeFeedService;
+
+    @BeforeEach
+    void setUp() {
+        changeLogRepository = Mockito.mock(EmployeeChangeLogRepository.class);
+        changeFeedService = new EmployeeChangeFeedServiceImpl(changeLogRepository);
+    }
+
+    private static EmployeeChangeDTO change(long seq, long id, boolean deleted) {
+        return EmployeeChangeDTO.builder().seq(seq).id(id).name("E" + id).deleted(deleted).build();
+    }
+
+    @Test
+    @DisplayName("Changes page fetches limit + 1 and the watermark resumes after the last seq")
+    void testGetChanges_watermark() {
+        Mockito.when(changeLogRepository.findChangesAfter(0L, 3))
+                .thenReturn(List.of(change(1L, 7L, false), change(2L, 8L, true), change(3L, 7L, false)));
+
+        EmployeeChangePageDTO page = changeFeedService.getChanges(null, 2);
+
+        assertThat(page.getItems()).extracting(EmployeeChangeDTO::getId).containsExactly(7L, 8L);
+        assertThat(page.getItems().get(1).isDeleted()).isTrue();
+        assertThat(page.isHasMore()).isTrue();
+
+        Mockito.when(changeLogRepository.findChangesAfter(2L, 3)).thenReturn(List.of(change(3L, 7L, false)));
+
+        EmployeeChangePageDTO next = changeFeedService.getChanges(page.getNextWatermark(), 2);
+
+        assertThat(next.getItems()).extracting(EmployeeChangeDTO::getSeq).containsExactly(3L);
+        assertThat(next.isHasMore()).isFalse();
+        assertThat(next.getNextWatermark()).isEqualTo(EmployeeChangeFeedServiceImpl.watermarkOf(change(3L, 7L, false)));
+    }
+
+    @Test
+    @DisplayName("Empty page keeps the watermark")
+    void testGetChanges_emptyKeepsWatermark() {
+        String since = CursorCodec.encodeWatermark(5L);
+
+        EmployeeChangePageDTO page = changeFeedService.getChanges(since, 10);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.getNextWatermark()).isEqualTo(since);
+        Mockito.verify(changeLogRepository).findChangesAfter(5L, 11);
+    }
+
+    @Test
+    @DisplayName("A watermark whose next change was pruned is gone, not silently advanced")
+    void testGetChanges_prunedWatermark() {
+        Mockito.when(changeLogRepository.findChangesAfter(2L, 11)).thenReturn(List.of(change(9L, 7L, false)));
+        Mockito.when(changeLogRepository.maxSeq()).thenReturn(9L);
+
+        assertThatThrownBy(() -> changeFeedService.getChanges(CursorCodec.encodeWatermark(2L), 10))
+                .isInstanceOf(ChangesExpiredException.class);
+        assertThat(changeFeedService.headWatermark()).isEqualTo(CursorCodec.encodeWatermark(9L));
+    }
+
+    @Test
+    @DisplayName("Invalid and old (updated_at, id) watermarks are rejected")
+    void testGetChanges_invalidWatermark() {
+        String old = Base64.getUrlEncoder().withoutPadding()
+                .encodeToString("2025-01-01T10:00|5".getBytes(StandardCharsets.US_ASCII));
+
+        assertThatThrownBy(() -> changeFeedService.getChanges("not-a-watermark", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> changeFeedService.getChanges(old, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
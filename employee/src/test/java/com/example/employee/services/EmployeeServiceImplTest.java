@@ -1,14 +1,36 @@
 package com.example.employee.services;
 
+import com.example.employee.cache.EmployeeCache;
+import com.example.employee.cache.EmployeeEmailRegistry;
+import com.example.employee.cache.EmployeeReadCoalescer;
+import com.example.employee.dto.EmployeePageResponseDTO;
+import com.example.employee.dto.EmployeePatchDTO;
 import com.example.employee.dto.EmployeeRequestDTO;
 import com.example.employee.dto.EmployeeResponseDTO;
 import com.example.employee.entity.Employee;
+import com.example.employee.exception.DuplicateEmailException;
+import com.example.employee.exception.PreconditionFailedException;
+import com.example.employee.metrics.EmployeeMetrics;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import com.example.employee.repository.EmployeeJdbcRepository;
 import com.example.employee.repository.EmployeeRepository;
+import com.example.employee.repository.EmployeeWriteBehindQueue;
+import com.example.employee.search.EmployeeNameIndex;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
-
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.NoSuchElementException;
@@ -20,6 +42,11 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 class EmployeeServiceImplTest {
 
     private EmployeeRepository employeeRepository;
+    private EmployeeJdbcRepository employeeJdbcRepository;
+    private EmployeeChangeLogRepository changeLogRepository;
+    private ApplicationEventPublisher eventPublisher;
+    private EmployeeEmailRegistry emailRegistry;
+    private EmployeeWriteBehindQueue writeBehindQueue;
     private EmployeeServiceImpl employeeService;
 
     private Employee employee;
@@ -29,9 +56,20 @@ class EmployeeServiceImplTest {
     void setUp() {
         // Create mock manually
         employeeRepository = Mockito.mock(EmployeeRepository.class);
+        employeeJdbcRepository = Mockito.mock(EmployeeJdbcRepository.class);
+        eventPublisher = Mockito.mock(ApplicationEventPublisher.class);
+        changeLogRepository = Mockito.mock(EmployeeChangeLogRepository.class);
+        emailRegistry = new EmployeeEmailRegistry(employeeJdbcRepository, changeLogRepository, 1000, 0.01, 100, Duration.ofMinutes(1));
+
+        writeBehindQueue = new EmployeeWriteBehindQueue(employeeJdbcRepository,
+                new TransactionTemplate(Mockito.mock(PlatformTransactionManager.class)), false, 100);
 
-        // Inject mock into service
-        employeeService = new EmployeeServiceImpl(employeeRepository);
+        // Inject mocks into service, with a fresh cache per test
+        employeeService = new EmployeeServiceImpl(employeeRepository, employeeJdbcRepository, changeLogRepository,
+                new EmployeeCache(100, Duration.ofMinutes(1), Duration.ZERO), new EmployeeReadCoalescer(100), emailRegistry,
+                new EmployeeNameIndex(employeeJdbcRepository, changeLogRepository),
+                new EmployeeMetrics(new SimpleMeterRegistry()),
+                writeBehindQueue, eventPublisher);
 
         employee = Employee.builder()
                 .id(1L)
@@ -53,13 +91,48 @@ class EmployeeServiceImplTest {
     void testCreateEmployee_success() {
         Mockito.when(employeeRepository.findByEmail(requestDTO.getEmail()))
                 .thenReturn(Optional.empty());
-        Mockito.when(employeeRepository.save(Mockito.any(Employee.class)))
+        Mockito.when(employeeRepository.saveAndFlush(Mockito.any(Employee.class)))
                 .thenReturn(employee);
 
         EmployeeResponseDTO response = employeeService.createEmployee(requestDTO);
 
         assertThat(response.getName()).isEqualTo("John Doe");
-        Mockito.verify(employeeRepository).save(Mockito.any(Employee.class));
+        Mockito.verify(employeeRepository).saveAndFlush(Mockito.any(Employee.class));
+        Mockito.verify(changeLogRepository).record(List.of(1L));
+    }
+
+    @Test
+    @DisplayName("Create with a definitely new email skips the lookup query")
+    void testCreateEmployee_newEmailSkipsLookup() {
+        emailRegistry.seed();
+        Mockito.when(employeeRepository.saveAndFlush(Mockito.any(Employee.class)))
+                .thenReturn(employee);
+
+        employeeService.createEmployee(requestDTO);
+
+        Mockito.verify(employeeRepository, Mockito.never()).findByEmail(Mockito.anyString());
+    }
+
+    @Test
+    @DisplayName("Unique constraint violation on create is a duplicate email")
+    void testCreateEmployee_constraintViolation() {
+        emailRegistry.seed();
+        Mockito.when(employeeRepository.saveAndFlush(Mockito.any(Employee.class)))
+                .thenThrow(new DataIntegrityViolationException("uq_employees_email"));
+
+        assertThatThrownBy(() -> employeeService.createEmployee(requestDTO))
+                .isInstanceOf(DuplicateEmailException.class);
+    }
+
+    @Test
+    @DisplayName("Other constraint violations on create are not reported as a duplicate email")
+    void testCreateEmployee_otherConstraintViolation() {
+        emailRegistry.seed();
+        DataIntegrityViolationException violation =
+                new DataIntegrityViolationException("NULL not allowed for column \"POSITION\"");
+        Mockito.when(employeeRepository.saveAndFlush(Mockito.any(Employee.class))).thenThrow(violation);
+
+        assertThatThrownBy(() -> employeeService.createEmployee(requestDTO)).isSameAs(violation);
     }
 
     @Test
@@ -73,21 +146,28 @@ class EmployeeServiceImplTest {
                 .hasMessageContaining("Employee with email already exists");
     }
 
+    private static EmployeeResponseDTO dto(Long id, String name, String email) {
+        return EmployeeResponseDTO.builder().id(id).name(name).email(email).position("Dev").build();
+    }
+
     @Test
     @DisplayName("Get employee by ID successfully")
     void testGetEmployeeById_success() {
-        Mockito.when(employeeRepository.findById(1L))
-                .thenReturn(Optional.of(employee));
+        Mockito.when(employeeRepository.findActiveProjectedById(1L))
+                .thenReturn(Optional.of(dto(1L, "John Doe", "john@example.com")));
 
         EmployeeResponseDTO response = employeeService.getEmployeeById(1L);
+        EmployeeResponseDTO cached = employeeService.getEmployeeById(1L);
 
         assertThat(response.getName()).isEqualTo("John Doe");
+        assertThat(cached).isSameAs(response);
+        Mockito.verify(employeeRepository, Mockito.times(1)).findActiveProjectedById(1L);
     }
 
     @Test
     @DisplayName("Get employee by ID not found throws exception")
     void testGetEmployeeById_notFound() {
-        Mockito.when(employeeRepository.findById(1L))
+        Mockito.when(employeeRepository.findActiveProjectedById(1L))
                 .thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> employeeService.getEmployeeById(1L))
@@ -95,13 +175,29 @@ class EmployeeServiceImplTest {
                 .hasMessageContaining("Employee not found");
     }
 
+    @Test
+    @DisplayName("Version for a conditional GET comes from the cache, else a version-only lookup")
+    void testGetEmployeeVersion() {
+        Mockito.when(employeeRepository.findActiveVersionById(1L)).thenReturn(Optional.of(4L));
+        assertThat(employeeService.getEmployeeVersion(1L)).isEqualTo(4L);
+        Mockito.verify(employeeRepository, Mockito.never()).findActiveProjectedById(1L);
+
+        EmployeeResponseDTO cachedDto = dto(2L, "Jane Doe", "jane@example.com");
+        cachedDto.setVersion(7L);
+        Mockito.when(employeeRepository.findActiveProjectedById(2L)).thenReturn(Optional.of(cachedDto));
+        employeeService.getEmployeeById(2L);
+        assertThat(employeeService.getEmployeeVersion(2L)).isEqualTo(7L);
+        Mockito.verify(employeeRepository, Mockito.never()).findActiveVersionById(2L);
+    }
+
     @Test
     @DisplayName("Update employee successfully")
     void testUpdateEmployee_success() {
-        Mockito.when(employeeRepository.findById(1L))
-                .thenReturn(Optional.of(employee));
-        Mockito.when(employeeRepository.save(Mockito.any(Employee.class)))
-                .thenReturn(employee);
+        Mockito.when(employeeRepository.updateActive(Mockito.eq(1L), Mockito.eq("Jane Doe"),
+                        Mockito.eq("jane@example.com"), Mockito.eq("Tester"), Mockito.any(LocalDateTime.class)))
+                .thenReturn(1);
+        Mockito.when(employeeRepository.findActiveProjectedById(1L))
+                .thenReturn(Optional.of(dto(1L, "Jane Doe", "jane@example.com")));
 
         EmployeeRequestDTO updateRequest = EmployeeRequestDTO.builder()
                 .name("Jane Doe")
@@ -113,32 +209,136 @@ class EmployeeServiceImplTest {
 
         assertThat(response.getName()).isEqualTo("Jane Doe");
         assertThat(response.getEmail()).isEqualTo("jane@example.com");
+        Mockito.verify(employeeRepository, Mockito.never()).findByIdAndIsDeletedFalse(1L);
+    }
+
+    @Test
+    @DisplayName("Conditional update of a cached employee is a single UPDATE")
+    void testUpdateEmployee_ifMatchSingleStatement() {
+        EmployeeResponseDTO current = dto(1L, "John Doe", "john@example.com");
+        current.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
+        current.setVersion(3L);
+        Mockito.when(employeeRepository.findActiveProjectedById(1L)).thenReturn(Optional.of(current));
+        employeeService.getEmployeeById(1L);
+        Mockito.when(employeeRepository.updateActiveIfVersion(Mockito.eq(1L), Mockito.anyString(),
+                        Mockito.anyString(), Mockito.anyString(), Mockito.any(LocalDateTime.class), Mockito.eq(3L)))
+                .thenReturn(1);
+
+        EmployeeResponseDTO response = employeeService.updateEmployee(1L, requestDTO, 3L);
+
+        assertThat(response.getVersion()).isEqualTo(4L);
+        assertThat(response.getCreatedAt()).isEqualTo(current.getCreatedAt());
+        ArgumentCaptor<LocalDateTime> written = ArgumentCaptor.forClass(LocalDateTime.class);
+        Mockito.verify(employeeRepository).updateActiveIfVersion(Mockito.eq(1L), Mockito.anyString(),
+                Mockito.anyString(), Mockito.anyString(), written.capture(), Mockito.eq(3L));
+        assertThat(response.getUpdatedAt()).isEqualTo(written.getValue());
+        assertThat(response.getUpdatedAt().getNano()).isZero();
+        Mockito.verify(employeeRepository, Mockito.times(1)).findActiveProjectedById(1L);
+    }
+
+    @Test
+    @DisplayName("Conditional update with a stale version fails the precondition")
+    void testUpdateEmployee_staleVersion() {
+        Mockito.when(employeeRepository.updateActiveIfVersion(Mockito.eq(1L), Mockito.anyString(),
+                        Mockito.anyString(), Mockito.anyString(), Mockito.any(LocalDateTime.class), Mockito.eq(2L)))
+                .thenReturn(0);
+        EmployeeResponseDTO current = dto(1L, "John Doe", "john@example.com");
+        current.setVersion(3L);
+        Mockito.when(employeeRepository.findActiveProjectedById(1L)).thenReturn(Optional.of(current));
+
+        assertThatThrownBy(() -> employeeService.updateEmployee(1L, requestDTO, 2L))
+                .isInstanceOf(PreconditionFailedException.class)
+                .hasMessageContaining("version 3");
+    }
+
+    @Test
+    @DisplayName("Update without If-Match never fails the precondition")
+    void testUpdateEmployee_unconditionalNotFound() {
+        Mockito.when(employeeRepository.updateActive(Mockito.eq(1L), Mockito.anyString(), Mockito.anyString(),
+                        Mockito.anyString(), Mockito.any(LocalDateTime.class)))
+                .thenReturn(0);
+        Mockito.when(employeeRepository.findActiveProjectedById(1L))
+                .thenReturn(Optional.of(dto(1L, "John Doe", "john@example.com")));
+
+        assertThatThrownBy(() -> employeeService.updateEmployee(1L, requestDTO, null))
+                .isInstanceOf(NoSuchElementException.class);
+        Mockito.verify(employeeRepository, Mockito.never()).updateActiveIfVersion(Mockito.anyLong(),
+                Mockito.anyString(), Mockito.anyString(), Mockito.anyString(), Mockito.any(), Mockito.any());
+    }
+
+    @Test
+    @DisplayName("PUT and PATCH of an employee with a queued delete are not found")
+    void testUpdateEmployee_pendingDelete() {
+        writeBehindQueue.enqueueSoftDelete(1L);
+
+        assertThatThrownBy(() -> employeeService.updateEmployee(1L, requestDTO, null))
+                .isInstanceOf(NoSuchElementException.class);
+        assertThatThrownBy(() -> employeeService.patchEmployee(1L,
+                EmployeePatchDTO.builder().position("Lead").build(), null))
+                .isInstanceOf(NoSuchElementException.class);
+        Mockito.verifyNoInteractions(employeeRepository);
+    }
+
+    @Test
+    @DisplayName("Update to a taken email is a duplicate email conflict")
+    void testUpdateEmployee_duplicateEmail() {
+        Mockito.when(employeeRepository.updateActive(Mockito.eq(1L), Mockito.anyString(), Mockito.anyString(),
+                        Mockito.anyString(), Mockito.any(LocalDateTime.class)))
+                .thenThrow(new DataIntegrityViolationException("uq_employees_email"));
+
+        assertThatThrownBy(() -> employeeService.updateEmployee(1L, requestDTO))
+                .isInstanceOf(DuplicateEmailException.class);
+    }
+
+    @Test
+    @DisplayName("Patch only changes the given fields")
+    void testPatchEmployee() {
+        employee.setVersion(5L);
+        Mockito.when(employeeRepository.findByIdAndIsDeletedFalse(1L)).thenReturn(Optional.of(employee));
+        Mockito.when(employeeRepository.saveAndFlush(employee)).thenReturn(employee);
+
+        EmployeeResponseDTO response = employeeService.patchEmployee(1L,
+                EmployeePatchDTO.builder().position("Lead").build(), 5L);
+
+        assertThat(response.getPosition()).isEqualTo("Lead");
+        assertThat(response.getEmail()).isEqualTo("john@example.com");
+        assertThatThrownBy(() -> employeeService.patchEmployee(1L,
+                EmployeePatchDTO.builder().position("CTO").build(), 4L))
+                .isInstanceOf(PreconditionFailedException.class);
     }
 
     @Test
     @DisplayName("Delete employee successfully (soft delete)")
     void testDeleteEmployee_success() {
-        Mockito.when(employeeRepository.findById(1L))
-                .thenReturn(Optional.of(employee));
+        Mockito.when(employeeRepository.softDeleteById(Mockito.eq(1L), Mockito.any(LocalDateTime.class)))
+                .thenReturn(1);
 
         employeeService.deleteEmployee(1L);
 
-        assertThat(employee.getIsDeleted()).isTrue();
-        Mockito.verify(employeeRepository).save(employee);
+        Mockito.verify(employeeRepository, Mockito.never()).findById(1L);
+        Mockito.verify(changeLogRepository).record(List.of(1L));
+        Mockito.verify(eventPublisher).publishEvent(EmployeeChangedEvent.deleted(1L));
+    }
+
+    @Test
+    @DisplayName("Delete missing or already deleted employee throws exception")
+    void testDeleteEmployee_notFound() {
+        Mockito.when(employeeRepository.softDeleteById(Mockito.eq(1L), Mockito.any(LocalDateTime.class)))
+                .thenReturn(0);
+
+        assertThatThrownBy(() -> employeeService.deleteEmployee(1L))
+                .isInstanceOf(NoSuchElementException.class)
+                .hasMessageContaining("Employee not found");
+        Mockito.verifyNoInteractions(changeLogRepository);
     }
 
     @Test
     @DisplayName("Search employees by name")
     void testSearchEmployeesByName() {
-        Employee emp1 = Employee.builder()
-                .id(1L).name("Alice").email("alice@example.com")
-                .position("Dev").isDeleted(false).build();
-
-        Employee emp2 = Employee.builder()
-                .id(2L).name("Alicia").email("alicia@example.com")
-                .position("Dev").isDeleted(false).build();
+        EmployeeResponseDTO emp1 = dto(1L, "Alice", "alice@example.com");
+        EmployeeResponseDTO emp2 = dto(2L, "Alicia", "alicia@example.com");
 
-        Mockito.when(employeeRepository.findByNameContainingIgnoreCase("ali"))
+        Mockito.when(employeeRepository.searchActiveProjected(Mockito.eq("ali"), Mockito.any(Pageable.class)))
                 .thenReturn(Arrays.asList(emp1, emp2));
 
         List<EmployeeResponseDTO> results = employeeService.searchEmployeesByName("ali");
@@ -150,15 +350,10 @@ class EmployeeServiceImplTest {
     @Test
     @DisplayName("Get all employees excluding deleted ones")
     void testGetAllEmployees() {
-        Employee emp1 = Employee.builder()
-                .id(1L).name("Alice").email("alice@example.com")
-                .position("Dev").isDeleted(false).build();
+        EmployeeResponseDTO emp1 = dto(1L, "Alice", "alice@example.com");
 
-        Employee emp2 = Employee.builder()
-                .id(2L).name("Bob").email("bob@example.com")
-                .position("Dev").isDeleted(true).build();
-
-        Mockito.when(employeeRepository.findByIsDeletedFalse())
+        // Deleted rows are filtered in SQL, so the projection only returns active ones
+        Mockito.when(employeeRepository.findAllActiveProjected())
                 .thenReturn(List.of(emp1));
 
         List<EmployeeResponseDTO> results = employeeService.getAllEmployees();
@@ -166,4 +361,35 @@ class EmployeeServiceImplTest {
         assertThat(results.size()).isEqualTo(1);
         assertThat(results.get(0).getName()).isEqualTo("Alice");
     }
+
+    @Test
+    @DisplayName("Get employees page returns next cursor when more rows exist")
+    void testGetEmployeesPage_hasNext() {
+        EmployeeResponseDTO emp1 = dto(1L, "Alice", "alice@example.com");
+        EmployeeResponseDTO emp2 = dto(2L, "Bob", "bob@example.com");
+
+        Mockito.when(employeeRepository.findActivePageProjected(Mockito.eq(0L), Mockito.any(Pageable.class)))
+                .thenReturn(new ArrayList<>(List.of(emp1, emp2)));
+
+        EmployeePageResponseDTO page = employeeService.getEmployeesPage(null, 1);
+
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getNextCursor()).isNotNull();
+
+        Mockito.when(employeeRepository.findActivePageProjected(Mockito.eq(1L), Mockito.any(Pageable.class)))
+                .thenReturn(new ArrayList<>(List.of(emp2)));
+
+        EmployeePageResponseDTO next = employeeService.getEmployeesPage(page.getNextCursor(), 1);
+
+        assertThat(next.getItems().get(0).getName()).isEqualTo("Bob");
+        assertThat(next.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("Get employees page with malformed cursor throws exception")
+    void testGetEmployeesPage_invalidCursor() {
+        assertThatThrownBy(() -> employeeService.getEmployeesPage("not-a-cursor!", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("Invalid cursor");
+    }
 }
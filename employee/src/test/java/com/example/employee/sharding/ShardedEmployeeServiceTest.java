@@ -0,0 +1,150 @@
+package com.example.employee.sharding;
+
+import com.example.employee.dto.EmployeePageResponseDTO;
+import com.example.employee.dto.EmployeePatchDTO;
+import com.example.employee.dto.EmployeeRequestDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.exception.DuplicateEmailException;
+import com.example.employee.id.SnowflakeIdGenerator;
+import com.example.employee.metrics.EmployeeMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ShardedEmployeeServiceTest {
+
+    private static final int SHARDS = 3;
+
+    private List<JdbcTemplate> shards;
+    private ShardedEmployeeRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        List<DataSource> dataSources = new ArrayList<>();
+        shards = new ArrayList<>();
+        for (int i = 0; i < SHARDS; i++) {
+            DataSource dataSource = new DriverManagerDataSource(
+                    "jdbc:h2:mem:shard_" + i + "_" + UUID.randomUUID() + ";MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", "");
+            JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+            jdbcTemplate.execute("CREATE TABLE employees (id BIGINT PRIMARY KEY, tenant_id VARCHAR(64) NOT NULL, "
+                    + "name VARCHAR(150) NOT NULL, email VARCHAR(150) NOT NULL, position VARCHAR(100) NOT NULL, "
+                    + "created_at TIMESTAMP NOT NULL, updated_at TIMESTAMP NOT NULL, "
+                    + "is_deleted BOOLEAN NOT NULL DEFAULT FALSE, version BIGINT NOT NULL DEFAULT 0, "
+                    + "CONSTRAINT uq_employees_tenant_email UNIQUE (tenant_id, email))");
+            jdbcTemplate.execute("CREATE TABLE employee_email_claims (tenant_id VARCHAR(64) NOT NULL, "
+                    + "email VARCHAR(150) NOT NULL, employee_id BIGINT NOT NULL, PRIMARY KEY (tenant_id, email))");
+            dataSources.add(dataSource);
+            shards.add(jdbcTemplate);
+        }
+        repository = new ShardedEmployeeRepository(dataSources);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TenantContext.clear();
+    }
+
+    private ShardedEmployeeService service(ShardRouter router) {
+        return new ShardedEmployeeService(repository, router, SnowflakeIdGenerator.forNode(0),
+                new EmployeeMetrics(new SimpleMeterRegistry()), "default");
+    }
+
+    private static EmployeeRequestDTO request(String name, String email) {
+        return new EmployeeRequestDTO(name, email, "Engineer");
+    }
+
+    private int rowsOn(int shard, String tenant) {
+        return shards.get(shard).queryForObject(
+                "SELECT COUNT(*) FROM employees WHERE tenant_id = ?", Integer.class, tenant);
+    }
+
+    @Test
+    @DisplayName("Hash routing spreads a tenant over all shards; pages and search merge them in id order")
+    void testHashRoutingScatterGather() {
+        ShardedEmployeeService service = service(new HashShardRouter(SHARDS));
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            ids.add(service.createEmployee(request("Employee " + i, "user" + i + "@example.com")).getId());
+        }
+
+        for (int shard = 0; shard < SHARDS; shard++) {
+            assertThat(rowsOn(shard, "default")).isPositive();
+        }
+        assertThat(service.getEmployeeById(ids.get(5)).getName()).isEqualTo("Employee 5");
+
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            EmployeePageResponseDTO page = service.getEmployeesPage(cursor, 7);
+            page.getItems().forEach(employee -> paged.add(employee.getId()));
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        assertThat(paged).isEqualTo(ids);
+        assertThat(service.getAllEmployees()).extracting(EmployeeResponseDTO::getId).isEqualTo(ids);
+
+        // "Employee 1", "Employee 10".."Employee 19": the five lowest ids across all shards
+        assertThat(service.searchEmployeesByName("employee 1", 5))
+                .extracting(EmployeeResponseDTO::getId)
+                .containsExactly(ids.get(1), ids.get(10), ids.get(11), ids.get(12), ids.get(13));
+    }
+
+    @Test
+    @DisplayName("Across shards an email is unique per tenant, and freed when an employee changes it")
+    void testEmailUniquePerTenantAcrossShards() {
+        ShardedEmployeeService service = service(new HashShardRouter(SHARDS));
+        TenantContext.set("retail");
+        EmployeeResponseDTO alice = service.createEmployee(request("Alice", "alice@example.com"));
+        for (int i = 0; i < 10; i++) {
+            // New ids land on every shard; the claim on the email is what rejects them
+            assertThatThrownBy(() -> service.createEmployee(request("Other", "Alice@Example.com")))
+                    .isInstanceOf(DuplicateEmailException.class);
+        }
+
+        TenantContext.set("logistics");
+        assertThat(service.createEmployee(request("Alice", "alice@example.com")).getId()).isNotEqualTo(alice.getId());
+
+        TenantContext.set("retail");
+        EmployeeResponseDTO renamed = service.patchEmployee(alice.getId(),
+                new EmployeePatchDTO(null, "alice.new@example.com", null), alice.getVersion());
+        assertThat(renamed.getVersion()).isEqualTo(alice.getVersion() + 1);
+        assertThat(service.createEmployee(request("Another Alice", "alice@example.com")).getEmail())
+                .isEqualTo("alice@example.com");
+        assertThatThrownBy(() -> service.createEmployee(request("Other", "alice.new@example.com")))
+                .isInstanceOf(DuplicateEmailException.class);
+    }
+
+    @Test
+    @DisplayName("Tenant routing keeps each tenant on its shard and hides other tenants' employees")
+    void testTenantRouting() {
+        ShardedEmployeeService service = service(new TenantShardRouter(Map.of("retail", 0, "logistics", 2), SHARDS));
+        TenantContext.set("retail");
+        EmployeeResponseDTO alice = service.createEmployee(request("Alice", "alice@example.com"));
+        service.createEmployee(request("Bob", "bob@example.com"));
+        assertThatThrownBy(() -> service.createEmployee(request("Other", "alice@example.com")))
+                .isInstanceOf(DuplicateEmailException.class);
+
+        TenantContext.set("logistics");
+        service.createEmployee(request("Carol", "alice@example.com"));
+        assertThat(service.getAllEmployees()).extracting(EmployeeResponseDTO::getName).containsExactly("Carol");
+        assertThatThrownBy(() -> service.getEmployeeById(alice.getId()))
+                .isInstanceOf(NoSuchElementException.class);
+
+        assertThat(rowsOn(0, "retail")).isEqualTo(2);
+        assertThat(rowsOn(2, "logistics")).isEqualTo(1);
+        assertThat(rowsOn(1, "retail") + rowsOn(1, "logistics")).isZero();
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.employee.stats;
+
+import com.example.employee.dto.EmployeeChangeDTO;
+import com.example.employee.dto.EmployeeResponseDTO;
+import com.example.employee.dto.EmployeeStatsDTO;
+import com.example.employee.repository.EmployeeChangeLogRepository;
+import com.example.employee.repository.EmployeeJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmployeeStatsRollupTest {
+
+    private static final LocalDateTime JANUARY = LocalDateTime.of(2025, 1, 10, 9, 0);
+    private static final LocalDateTime MARCH = LocalDateTime.of(2025, 3, 5, 9, 0);
+
+    private EmployeeJdbcRepository jdbcRepository;
+    private EmployeeChangeLogRepository changeLogRepository;
+    private EmployeeStatsRollup rollup;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        jdbcRepository = Mockito.mock(EmployeeJdbcRepository.class);
+        Mockito.doAnswer(invocation -> {
+            Consumer<EmployeeResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(employee(1L, "Engineer", JANUARY));
+            consumer.accept(employee(2L, "Engineer", MARCH));
+            consumer.accept(employee(3L, "Designer", JANUARY));
+            return null;
+        }).when(jdbcRepository).streamActive(Mockito.any(Consumer.class));
+
+        changeLogRepository = Mockito.mock(EmployeeChangeLogRepository.class);
+        rollup = new EmployeeStatsRollup(jdbcRepository, changeLogRepository);
+    }
+
+    private static EmployeeResponseDTO employee(Long id, String position, LocalDateTime createdAt) {
+        return EmployeeResponseDTO.builder().id(id).position(position).createdAt(createdAt).build();
+    }
+
+    @Test
+    @DisplayName("No snapshot until the rollup is built")
+    void testNotReadyBeforeBuild() {
+        assertThat(rollup.snapshot()).isNull();
+    }
+
+    @Test
+    @DisplayName("The built rollup counts by position and created month")
+    void testBuild() {
+        rollup.build();
+        EmployeeStatsDTO stats = rollup.snapshot();
+
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getByPosition()).isEqualTo(Map.of("Designer", 1L, "Engineer", 2L));
+        assertThat(stats.getByCreatedMonth()).containsExactly(Map.entry("2025-01", 2L), Map.entry("2025-03", 1L));
+        assertThat(stats.getByPositionAndCreatedMonth().get("Engineer"))
+                .isEqualTo(Map.of("2025-01", 1L, "2025-03", 1L));
+    }
+
+    private static EmployeeChangeDTO change(long seq, Long id, String position, LocalDateTime createdAt, boolean deleted) {
+        return EmployeeChangeDTO.builder().seq(seq).id(id).position(position).createdAt(createdAt).deleted(deleted).build();
+    }
+
+    @Test
+    @DisplayName("Creates, position changes and deletes from the change log move the counts")
+    void testIncrementalUpdates() {
+        rollup.build();
+        Mockito.when(changeLogRepository.findChangesAfter(Mockito.eq(0L), Mockito.anyInt())).thenReturn(List.of(
+                change(1L, 4L, "Designer", MARCH, false),
+                change(2L, 1L, "Manager", JANUARY, false),
+                change(3L, 2L, "Engineer", MARCH, true)));
+        rollup.follow();
+
+        EmployeeStatsDTO stats = rollup.snapshot();
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getByPosition()).isEqualTo(Map.of("Designer", 2L, "Manager", 1L));
+        assertThat(stats.getByCreatedMonth()).isEqualTo(Map.of("2025-01", 2L, "2025-03", 1L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    @DisplayName("A follower behind the pruned log rebuilds from a fresh snapshot instead of skipping changes")
+    void testRebuildAfterPrunedChanges() {
+        rollup.build();
+        // Seqs 1-4 were pruned; seq 5 cannot be applied on top of seq 0
+        Mockito.when(changeLogRepository.findChangesAfter(Mockito.eq(0L), Mockito.anyInt()))
+                .thenReturn(List.of(change(5L, 2L, "Engineer", MARCH, true)));
+        Mockito.when(changeLogRepository.maxSeq()).thenReturn(5L);
+        rollup.follow();
+
+        EmployeeStatsDTO stats = rollup.snapshot();
+        assertThat(stats.getTotal()).isEqualTo(3);
+        assertThat(stats.getByPosition()).isEqualTo(Map.of("Designer", 1L, "Engineer", 2L));
+        Mockito.verify(jdbcRepository, Mockito.times(2)).streamActive(Mockito.any(Consumer.class));
+        Mockito.verify(changeLogRepository).findChangesAfter(Mockito.eq(5L), Mockito.anyInt());
+    }
+}
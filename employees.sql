@@ -7,17 +7,51 @@ USE employee_db;
 drop table employees;
 
 CREATE TABLE IF NOT EXISTS employees (
-  id  int not null AUTO_INCREMENT PRIMARY KEY,
+  id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
   name VARCHAR(150) NOT NULL,
   email VARCHAR(150) NOT NULL,
   position VARCHAR(100) NOT NULL,
   created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
   updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
   is_deleted TINYINT(1) NOT NULL DEFAULT 0,
+  version BIGINT NOT NULL DEFAULT 0,
   CONSTRAINT uq_employees_email UNIQUE (email)
 );
--- Index to help name searches
-CREATE INDEX idx_employees_name ON employees (name);
+-- Soft-delete aware indexes (see migrations/V2__soft_delete_covering_indexes.sql)
+CREATE INDEX idx_employees_deleted_id ON employees (is_deleted, id);
+CREATE INDEX idx_employees_deleted_name ON employees (is_deleted, name, id);
+-- Position-filtered pages (see migrations/V5__position_filter_index.sql)
+CREATE INDEX idx_employees_deleted_position ON employees (is_deleted, position, id);
+-- Archived soft-deleted employees (see migrations/V7__employees_archive.sql)
+CREATE TABLE IF NOT EXISTS employees_archive (
+  id BIGINT NOT NULL PRIMARY KEY,
+  name VARCHAR(150) NOT NULL,
+  email VARCHAR(150) NOT NULL,
+  position VARCHAR(100) NOT NULL,
+  created_at TIMESTAMP NOT NULL,
+  updated_at TIMESTAMP NOT NULL,
+  version BIGINT NOT NULL,
+  archived_at TIMESTAMP NOT NULL
+);
+-- Commit-ordered change log (see migrations/V8__employee_change_log.sql)
+CREATE TABLE IF NOT EXISTS employee_changes (
+  change_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  seq BIGINT NULL,
+  employee_id BIGINT NOT NULL,
+  name VARCHAR(150) NOT NULL,
+  email VARCHAR(150) NOT NULL,
+  position VARCHAR(100) NOT NULL,
+  created_at TIMESTAMP NOT NULL,
+  updated_at TIMESTAMP NOT NULL,
+  version BIGINT NOT NULL,
+  is_deleted TINYINT(1) NOT NULL,
+  CONSTRAINT uq_employee_changes_seq UNIQUE (seq)
+);
+CREATE TABLE IF NOT EXISTS employee_change_sequence (
+  id INT NOT NULL PRIMARY KEY,
+  last_seq BIGINT NOT NULL
+);
+INSERT INTO employee_change_sequence (id, last_seq) VALUES (1, 0);
 	
 describe employees;
 
@@ -0,0 +1,15 @@
+-- Soft-delete aware indexes for employee_db.employees.
+-- Every read path filters is_deleted = 0 in SQL, so is_deleted leads each index:
+--   (is_deleted, id)        list and keyset pages: ordered range scan, no filesort
+--   (is_deleted, name, id)  name-prefix filters (GET /api/employees?namePrefix=) over active rows.
+--                           Substring search (LOWER(name) LIKE '%x%') cannot use it; it is
+--                           answered by the in-memory name index and falls back to a scan.
+-- InnoDB secondary indexes carry the primary key, so id-only lookups and counts are index-only.
+
+USE employee_db;
+
+CREATE INDEX idx_employees_deleted_id ON employees (is_deleted, id);
+CREATE INDEX idx_employees_deleted_name ON employees (is_deleted, name, id);
+
+-- Superseded by idx_employees_deleted_name for every query the service runs
+DROP INDEX idx_employees_name ON employees;
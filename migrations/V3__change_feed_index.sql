@@ -0,0 +1,7 @@
+-- (updated_at, id) keyset for GET /api/employees/changes.
+-- Covers created, updated and soft-deleted rows alike (soft deletes stamp updated_at),
+-- so each poll is a range scan from the watermark instead of a full table read.
+
+USE employee_db;
+
+CREATE INDEX idx_employees_updated_id ON employees (updated_at, id);
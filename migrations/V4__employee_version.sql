@@ -0,0 +1,7 @@
+-- Optimistic-lock version for employee_db.employees.
+-- Every write increments it; PUT/PATCH with If-Match compare it in the UPDATE's WHERE clause,
+-- and GET /api/employees/{id} derives its ETag from it.
+
+USE employee_db;
+
+ALTER TABLE employees ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
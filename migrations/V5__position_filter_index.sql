@@ -0,0 +1,7 @@
+-- (is_deleted, position, id) for GET /api/employees?limit=&position=...
+-- Filtered keyset pages range-scan one position in id order instead of
+-- walking every active employee and discarding other positions.
+
+USE employee_db;
+
+CREATE INDEX idx_employees_deleted_position ON employees (is_deleted, position, id);
@@ -0,0 +1,7 @@
+-- Employee ids are now assigned by the application (id/SnowflakeIdGenerator): 53-bit,
+-- time-ordered and unique across instances and shards, so they no longer fit INT.
+-- AUTO_INCREMENT stays for hand-written inserts such as the seed data in employees.sql.
+
+USE employee_db;
+
+ALTER TABLE employees MODIFY id BIGINT NOT NULL AUTO_INCREMENT;
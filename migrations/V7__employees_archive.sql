@@ -0,0 +1,18 @@
+-- Soft-deleted employees past employee.archive.retention are moved here by the
+-- archive job (services/EmployeeArchiveServiceImpl), keeping employees and its
+-- indexes down to rows that can still be read or restored cheaply.
+-- Rows keep their employee id so POST /api/employees/archive/{id}/restore can
+-- put them back; email is not unique here, restores are checked against employees.
+
+USE employee_db;
+
+CREATE TABLE IF NOT EXISTS employees_archive (
+  id BIGINT NOT NULL PRIMARY KEY,
+  name VARCHAR(150) NOT NULL,
+  email VARCHAR(150) NOT NULL,
+  position VARCHAR(100) NOT NULL,
+  created_at TIMESTAMP NOT NULL,
+  updated_at TIMESTAMP NOT NULL,
+  version BIGINT NOT NULL,
+  archived_at TIMESTAMP NOT NULL
+);
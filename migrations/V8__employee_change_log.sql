@@ -0,0 +1,40 @@
+-- Commit-ordered change log for GET /api/employees/changes, replacing the (updated_at, id)
+-- watermark of V3: updated_at is stamped before commit, so a transaction that committed
+-- late could land behind a watermark already handed out and never be delivered.
+-- Every write path (JPA, JDBC batches, import, write-behind, archive restore, the reactive
+-- app) copies the employees it wrote into employee_changes inside the writing transaction
+-- (repository/EmployeeChangeLogRepository.record); there are no triggers, so the log works
+-- the same on a schema generated from the entities. Rows start without a seq; the sequencer
+-- (services/EmployeeChangeSequencer) numbers committed rows while holding the lock on
+-- employee_change_sequence, so seqs become visible in order and the feed pages by seq.
+
+USE employee_db;
+
+CREATE TABLE IF NOT EXISTS employee_changes (
+  change_id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  seq BIGINT NULL,
+  employee_id BIGINT NOT NULL,
+  name VARCHAR(150) NOT NULL,
+  email VARCHAR(150) NOT NULL,
+  position VARCHAR(100) NOT NULL,
+  created_at TIMESTAMP NOT NULL,
+  updated_at TIMESTAMP NOT NULL,
+  version BIGINT NOT NULL,
+  is_deleted TINYINT(1) NOT NULL,
+  CONSTRAINT uq_employee_changes_seq UNIQUE (seq)
+);
+
+CREATE TABLE IF NOT EXISTS employee_change_sequence (
+  id INT NOT NULL PRIMARY KEY,
+  last_seq BIGINT NOT NULL
+);
+
+INSERT INTO employee_change_sequence (id, last_seq) VALUES (1, 0);
+
+-- Existing employees enter the log as their current state and are numbered like any change
+INSERT INTO employee_changes (employee_id, name, email, position, created_at, updated_at, version, is_deleted)
+SELECT id, name, email, position, created_at, updated_at, version, is_deleted
+FROM employees ORDER BY updated_at, id;
+
+-- Nothing reads employees by updated_at any more; stop paying for the index on every write
+DROP INDEX idx_employees_updated_id ON employees;
@@ -0,0 +1,32 @@
+-- Schema of one employee shard database (employee.sharding.enabled=true); run it on every shard.
+-- Shards hold employees of several tenants, so rows carry tenant_id, email is unique per
+-- tenant, and every index leads with tenant_id. Ids come from the application.
+
+CREATE DATABASE IF NOT EXISTS employee_shard;
+
+USE employee_shard;
+
+CREATE TABLE IF NOT EXISTS employees (
+  id BIGINT NOT NULL PRIMARY KEY,
+  tenant_id VARCHAR(64) NOT NULL,
+  name VARCHAR(150) NOT NULL,
+  email VARCHAR(150) NOT NULL,
+  position VARCHAR(100) NOT NULL,
+  created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+  is_deleted TINYINT(1) NOT NULL DEFAULT 0,
+  version BIGINT NOT NULL DEFAULT 0,
+  CONSTRAINT uq_employees_tenant_email UNIQUE (tenant_id, email),
+  INDEX idx_employees_tenant_deleted_id (tenant_id, is_deleted, id),
+  INDEX idx_employees_tenant_deleted_name (tenant_id, is_deleted, name, id)
+);
+
+-- With strategy=hash a tenant's employees spread over all shards, so the unique key above
+-- cannot see every row of the tenant. Each (tenant, email) is instead claimed here, on the
+-- shard its hash picks, before the employee row is written.
+CREATE TABLE IF NOT EXISTS employee_email_claims (
+  tenant_id VARCHAR(64) NOT NULL,
+  email VARCHAR(150) NOT NULL,
+  employee_id BIGINT NOT NULL,
+  PRIMARY KEY (tenant_id, email)
+);